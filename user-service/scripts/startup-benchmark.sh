@@ -0,0 +1,106 @@
+#!/bin/bash
+# ========================================
+# User Service 기동 시간 벤치마크
+# ========================================
+#
+# 기동 모드별로 JVM 시작부터 첫 로그인 성공까지의 시간(time-to-first-login)을 측정합니다.
+# DB, Redis, Kafka가 떠 있어야 하며, 로그인 가능한 계정이 필요합니다.
+#
+# 사용법:
+#   BENCH_EMPLOYEE_ID=... BENCH_PASSWORD=... ./scripts/startup-benchmark.sh <jar> [반복 횟수] [모드...]
+#
+# 모드:
+#   default  일반 실행
+#   lazy     fast-startup 프로필 (지연 초기화)
+#   aot      AOT 모드 (-Paot=true로 빌드한 jar 필요)
+#   cds      CDS 아카이브 사용 (아카이브가 없으면 먼저 학습 실행으로 생성)
+#   all      lazy + aot + cds
+#
+# 환경 변수:
+#   BENCH_PROFILES (기본 local), BENCH_PORT (기본 8081)
+
+set -euo pipefail
+
+JAR=${1:?jar 경로를 지정하세요}
+RUNS=${2:-3}
+shift $(( $# >= 2 ? 2 : 1 ))
+MODES=${*:-default lazy}
+
+PROFILES=${BENCH_PROFILES:-local}
+PORT=${BENCH_PORT:-8081}
+EMPLOYEE_ID=${BENCH_EMPLOYEE_ID:?BENCH_EMPLOYEE_ID를 지정하세요}
+PASSWORD=${BENCH_PASSWORD:?BENCH_PASSWORD를 지정하세요}
+WORK_DIR=$(mktemp -d)
+CDS_DIR="$WORK_DIR/cds"
+
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+now_ms() {
+    date +%s%3N
+}
+
+prepare_cds() {
+    if [ -f "$CDS_DIR/application.jsa" ]; then
+        return
+    fi
+    java -Djarmode=tools -jar "$JAR" extract --destination "$CDS_DIR" > /dev/null
+    java -XX:ArchiveClassesAtExit="$CDS_DIR/application.jsa" -Dspring.context.exit=onRefresh \
+         -Dspring.profiles.active="$PROFILES" -jar "$CDS_DIR/$(basename "$JAR")" > /dev/null 2>&1 || true
+}
+
+# 모드별 실행 명령
+command_for() {
+    case "$1" in
+        default) echo "java -Dspring.profiles.active=$PROFILES -jar $JAR" ;;
+        lazy)    echo "java -Dspring.profiles.active=$PROFILES,fast-startup -jar $JAR" ;;
+        aot)     echo "java -Dspring.aot.enabled=true -Dspring.profiles.active=$PROFILES -jar $JAR" ;;
+        cds)     prepare_cds
+                 echo "java -XX:SharedArchiveFile=$CDS_DIR/application.jsa -Dspring.profiles.active=$PROFILES -jar $CDS_DIR/$(basename "$JAR")" ;;
+        all)     prepare_cds
+                 echo "java -XX:SharedArchiveFile=$CDS_DIR/application.jsa -Dspring.aot.enabled=true -Dspring.profiles.active=$PROFILES,fast-startup -jar $CDS_DIR/$(basename "$JAR")" ;;
+        *)       echo "알 수 없는 모드: $1" >&2; exit 1 ;;
+    esac
+}
+
+# 첫 로그인 성공까지 걸린 시간 (ms)
+measure() {
+    local cmd=$1
+    local started
+    started=$(now_ms)
+    $cmd > "$WORK_DIR/app.log" 2>&1 &
+    local pid=$!
+
+    local status=000
+    for _ in $(seq 1 1200); do
+        status=$(curl -s -o /dev/null -w '%{http_code}' -X POST "http://localhost:$PORT/auth/login" \
+            -H 'Content-Type: application/json' \
+            -d "{\"employeeId\":\"$EMPLOYEE_ID\",\"password\":\"$PASSWORD\"}" || true)
+        if [ "$status" = "200" ]; then
+            break
+        fi
+        sleep 0.05
+    done
+    local elapsed=$(( $(now_ms) - started ))
+
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+
+    if [ "$status" != "200" ]; then
+        echo "첫 로그인 실패 (로그: $WORK_DIR/app.log)" >&2
+        tail -20 "$WORK_DIR/app.log" >&2
+        exit 1
+    fi
+    echo "$elapsed"
+}
+
+printf '%-8s %s\n' "mode" "time-to-first-login(ms)"
+for mode in $MODES; do
+    cmd=$(command_for "$mode")
+    results=()
+    for _ in $(seq 1 "$RUNS"); do
+        results+=("$(measure "$cmd")")
+    done
+    sorted=$(printf '%s\n' "${results[@]}" | sort -n)
+    median=$(echo "$sorted" | sed -n "$(( (RUNS + 1) / 2 ))p")
+    printf '%-8s median=%s runs=[%s]\n' "$mode" "$median" "${results[*]}"
+done
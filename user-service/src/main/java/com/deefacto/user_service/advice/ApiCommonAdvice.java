@@ -2,10 +2,12 @@ package com.deefacto.user_service.advice;
 
 import com.deefacto.user_service.common.dto.ApiResponseDto;
 import com.deefacto.user_service.common.exception.CustomException;
+import com.deefacto.user_service.common.exception.ErrorCode;
 import com.deefacto.user_service.common.exception.ErrorCodeInterface;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -28,6 +30,16 @@ public class ApiCommonAdvice {
                 ));
     }
 
+    // 같은 사용자를 동시에 변경한 경우 (@Version 충돌)
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponseDto<String>> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException e) {
+        log.warn("동시 변경 충돌: {}", e.getMessage());
+        ErrorCode errorCode = ErrorCode.CONCURRENT_MODIFICATION;
+        return ResponseEntity
+                .status(errorCode.getStatus())
+                .body(ApiResponseDto.createError(errorCode.getCode(), errorCode.getMessage()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponseDto<String>> handleException(Exception e) {
         log.error("Unhandled exception: ", e);
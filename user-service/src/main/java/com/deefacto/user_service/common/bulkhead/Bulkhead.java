@@ -0,0 +1,121 @@
+package com.deefacto.user_service.common.bulkhead;
+
+import com.deefacto.user_service.common.exception.CustomException;
+import com.deefacto.user_service.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 세마포어 기반 동시 실행 제한
+ *
+ * 한 경로가 DB 커넥션을 모두 점유하지 못하도록 동시에 실행 중인 작업 수를 제한합니다.
+ * 자리가 없으면 max-wait-ms까지 기다리고, 그래도 없으면 SERVICE_UNAVAILABLE로 거부합니다.
+ * (커넥션 풀 대기열에서 connection-timeout까지 묶여 있는 대신 빨리 실패)
+ *
+ * 메트릭 (name 태그):
+ * - bulkhead.active / bulkhead.max: 실행 중인 작업 수 / 최대 동시 실행 수
+ * - bulkhead.saturation: active / max (1이면 가득 참)
+ * - bulkhead.wait: 자리를 기다린 시간
+ * - bulkhead.rejected: 대기 시간 초과로 거부된 작업 수
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final long maxWaitMs;
+    private final boolean enabled;
+    private final Semaphore semaphore;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public Bulkhead(String name, int maxConcurrent, long maxWaitMs, boolean enabled, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxWaitMs = Math.max(0, maxWaitMs);
+        this.enabled = enabled;
+        this.semaphore = new Semaphore(this.maxConcurrent, true);
+        this.waitTimer = Timer.builder("bulkhead.wait")
+                .tag("name", name)
+                .description("동시 실행 제한 대기 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("bulkhead.rejected")
+                .tag("name", name)
+                .description("동시 실행 제한으로 거부된 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.active", this, Bulkhead::active)
+                .tag("name", name)
+                .description("실행 중인 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.max", this, b -> b.maxConcurrent)
+                .tag("name", name)
+                .description("최대 동시 실행 수")
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.saturation", this, b -> (double) b.active() / b.maxConcurrent)
+                .tag("name", name)
+                .description("동시 실행 포화도 (1 = 가득 참)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 자리를 얻은 뒤 작업을 실행하는 메서드
+     *
+     * @param call 실행할 작업 (트랜잭션 밖에서 호출해야 대기 중에 커넥션을 잡고 있지 않음)
+     * @return 작업 결과
+     * @throws CustomException 대기 시간 안에 자리를 얻지 못한 경우 (SERVICE_UNAVAILABLE)
+     */
+    public <T> T execute(Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public void run(Runnable call) {
+        execute(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    private int active() {
+        return maxConcurrent - semaphore.availablePermits();
+    }
+
+    private void acquire() {
+        if (semaphore.tryAcquire()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            rejectedCounter.increment();
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE, name + " is at capacity");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.deefacto.user_service.common.bulkhead;
+
+import com.deefacto.user_service.config.BulkheadConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경로별 동시 실행 제한(bulkhead) 모음
+ *
+ * - auth: 로그인 / 토큰 재발급 / 로그아웃
+ * - admin-search: 관리자 사용자 검색
+ * - recipient-resolver: 알림 수신자 DB 조회 (user.request)
+ * - user-lookup: 사용자 조회 캐시 미스 DB 조회 (프로필 조건부 요청, 일괄 조회)
+ * - background: 주기 / 기동 작업 (outbox 릴레이, 감사 이벤트 저장, 수신자 집합 재구성, 교대 전 캐시 예열)
+ *
+ * 느린 관리자 검색, 알림 폭주, 캐시 만료 직후 조회 몰림, 배치 작업이 단일 커넥션 풀을 모두 점유해
+ * 로그인이 막히지 않도록 인증 외 bulkhead의 동시 실행 수 합계를 커넥션 풀 크기보다 작게 제한합니다.
+ * 프로필 수정, 사용자 등록 등 제한하지 않은 단건 요청은 남은 커넥션을 인증 경로와 함께 사용하므로
+ * 인증 경로에 커넥션을 예약하지는 않습니다. (Replica를 쓰면 읽기 전용 조회는 Replica 풀을 사용하므로 실제 여유는 더 큼)
+ */
+@Slf4j
+@Component
+public class Bulkheads {
+
+    private final Bulkhead auth;
+    private final Bulkhead adminSearch;
+    private final Bulkhead recipientResolver;
+    private final Bulkhead userLookup;
+    private final Bulkhead background;
+
+    public Bulkheads(BulkheadConfig bulkheadConfig, MeterRegistry meterRegistry, Environment environment) {
+        boolean enabled = bulkheadConfig.isEnabled();
+        this.auth = create("auth", bulkheadConfig.getAuth(), enabled, meterRegistry);
+        this.adminSearch = create("admin-search", bulkheadConfig.getAdminSearch(), enabled, meterRegistry);
+        this.recipientResolver = create("recipient-resolver", bulkheadConfig.getRecipientResolver(), enabled, meterRegistry);
+        this.userLookup = create("user-lookup", bulkheadConfig.getUserLookup(), enabled, meterRegistry);
+        this.background = create("background", bulkheadConfig.getBackground(), enabled, meterRegistry);
+
+        // 인증 외 bulkhead가 풀을 모두 쓸 수 있으면 격리 효과가 없으므로 경고
+        if (!enabled) {
+            return;
+        }
+        int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        int nonAuth = adminSearch.getMaxConcurrent() + recipientResolver.getMaxConcurrent()
+                + userLookup.getMaxConcurrent() + background.getMaxConcurrent();
+        if (nonAuth >= poolSize) {
+            log.warn("인증 외 bulkhead 동시 실행 수 합계({})가 커넥션 풀 크기({}) 이상이라 로그인이 커넥션을 얻지 못할 수 있습니다.",
+                    nonAuth, poolSize);
+        } else {
+            log.info("인증 외 bulkhead 동시 실행 수 합계 {}, 커넥션 풀 크기 {}: 인증 / 제한 없는 단건 요청이 함께 쓰는 커넥션 {}개",
+                    nonAuth, poolSize, poolSize - nonAuth);
+        }
+    }
+
+    public Bulkhead auth() {
+        return auth;
+    }
+
+    public Bulkhead adminSearch() {
+        return adminSearch;
+    }
+
+    public Bulkhead recipientResolver() {
+        return recipientResolver;
+    }
+
+    public Bulkhead userLookup() {
+        return userLookup;
+    }
+
+    public Bulkhead background() {
+        return background;
+    }
+
+    private static Bulkhead create(String name, BulkheadConfig.Limit limit, boolean enabled, MeterRegistry meterRegistry) {
+        return new Bulkhead(name, limit.getMaxConcurrent(), limit.getMaxWaitMs(), enabled, meterRegistry);
+    }
+}
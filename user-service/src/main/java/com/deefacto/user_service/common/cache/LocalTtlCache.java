@@ -0,0 +1,79 @@
+package com.deefacto.user_service.common.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 짧은 TTL을 갖는 프로세스 로컬 캐시
+ *
+ * Redis 조회 결과처럼 잠깐 재사용해도 되는 값을 보관합니다.
+ * 최대 크기를 넘으면 만료 항목을 먼저 정리하고, 그래도 넘치면 전체를 비웁니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class LocalTtlCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxSize;
+
+    public LocalTtlCache(long ttlMillis, int maxSize) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 만료되지 않은 값을 반환합니다. 없거나 만료된 경우 null
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public void put(K key, V value) {
+        if (ttlMillis <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evictExpired();
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+        entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.entrySet().removeIf(e -> e.getValue().expiresAt < now);
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
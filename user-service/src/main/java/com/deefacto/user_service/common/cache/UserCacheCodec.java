@@ -0,0 +1,154 @@
+package com.deefacto.user_service.common.cache;
+
+import com.deefacto.user_service.domain.dto.UserCacheDto;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis 유저 정보 캐시(UserCacheDto)의 버전 있는 바이너리 코덱
+ *
+ * 레이아웃:
+ * [MAGIC][VERSION][null 비트맵][id][version][employeeId][name][role][scope][shift]
+ *
+ * - 숫자는 zigzag varint, 문자열은 varint 길이 + UTF-8 바이트로 기록합니다.
+ * - null인 필드는 비트맵에만 표시하고 값은 기록하지 않습니다.
+ * - 필드 이름을 기록하지 않으므로 같은 값의 JSON보다 대략 절반 이하 크기입니다.
+ * - 첫 바이트(MAGIC)가 JSON의 '{'와 다르므로 저장된 값의 형식을 구분할 수 있습니다.
+ *
+ * 필드를 추가할 때는 VERSION을 올리고 이전 버전 디코딩을 유지해야 합니다.
+ * (디코딩할 수 없는 값은 캐시 미스로 처리되어 DB에서 다시 채워짐)
+ */
+public final class UserCacheCodec {
+
+    static final byte MAGIC = (byte) 0xC7;
+    static final byte VERSION = 1;
+
+    private static final int HEADER_BYTES = 3;
+
+    private static final int NULL_ID = 1;
+    private static final int NULL_VERSION = 1 << 1;
+    private static final int NULL_EMPLOYEE_ID = 1 << 2;
+    private static final int NULL_NAME = 1 << 3;
+    private static final int NULL_ROLE = 1 << 4;
+    private static final int NULL_SCOPE = 1 << 5;
+    private static final int NULL_SHIFT = 1 << 6;
+
+    private UserCacheCodec() {
+    }
+
+    public static byte[] encode(UserCacheDto user) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        int nulls = 0;
+        if (user.getId() == null) nulls |= NULL_ID;
+        if (user.getVersion() == null) nulls |= NULL_VERSION;
+        if (user.getEmployeeId() == null) nulls |= NULL_EMPLOYEE_ID;
+        if (user.getName() == null) nulls |= NULL_NAME;
+        if (user.getRole() == null) nulls |= NULL_ROLE;
+        if (user.getScope() == null) nulls |= NULL_SCOPE;
+        if (user.getShift() == null) nulls |= NULL_SHIFT;
+
+        out.write(MAGIC);
+        out.write(VERSION);
+        out.write(nulls);
+        if (user.getId() != null) writeVarLong(out, zigzag(user.getId()));
+        if (user.getVersion() != null) writeVarLong(out, zigzag(user.getVersion()));
+        writeString(out, user.getEmployeeId());
+        writeString(out, user.getName());
+        writeString(out, user.getRole());
+        writeString(out, user.getScope());
+        writeString(out, user.getShift());
+        return out.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 다르거나 지원하지 않는 버전, 잘린 값인 경우
+     */
+    public static UserCacheDto decode(byte[] data) {
+        if (!isEncoded(data)) {
+            throw new IllegalArgumentException("바이너리 유저 캐시 형식이 아님");
+        }
+        if (data[1] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 유저 캐시 버전: " + data[1]);
+        }
+
+        Reader reader = new Reader(data, HEADER_BYTES);
+        int nulls = data[2];
+        UserCacheDto user = new UserCacheDto();
+        user.setId((nulls & NULL_ID) != 0 ? null : unzigzag(reader.readVarLong()));
+        user.setVersion((nulls & NULL_VERSION) != 0 ? null : unzigzag(reader.readVarLong()));
+        user.setEmployeeId((nulls & NULL_EMPLOYEE_ID) != 0 ? null : reader.readString());
+        user.setName((nulls & NULL_NAME) != 0 ? null : reader.readString());
+        user.setRole((nulls & NULL_ROLE) != 0 ? null : reader.readString());
+        user.setScope((nulls & NULL_SCOPE) != 0 ? null : reader.readString());
+        user.setShift((nulls & NULL_SHIFT) != 0 ? null : reader.readString());
+        return user;
+    }
+
+    /**
+     * 저장된 값이 이 코덱 형식인지 확인 (JSON은 '{'로 시작)
+     */
+    public static boolean isEncoded(byte[] data) {
+        return data != null && data.length >= HEADER_BYTES && data[0] == MAGIC;
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        private Reader(byte[] data, int position) {
+            this.data = data;
+            this.position = position;
+        }
+
+        private long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= data.length) {
+                    throw new IllegalArgumentException("유저 캐시 값이 중간에 끝남");
+                }
+                byte b = data[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("잘못된 varint 값");
+        }
+
+        private String readString() {
+            long length = readVarLong();
+            if (length < 0 || length > data.length - position) {
+                throw new IllegalArgumentException("잘못된 문자열 길이: " + length);
+            }
+            String value = new String(data, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            return value;
+        }
+    }
+}
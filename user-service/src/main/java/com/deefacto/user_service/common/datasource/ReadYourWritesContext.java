@@ -0,0 +1,33 @@
+package com.deefacto.user_service.common.datasource;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 요청 단위 read-your-writes 보장을 위한 Primary 고정 여부
+ *
+ * 같은 HTTP 요청 안에서 쓰기 트랜잭션이 커밋되면 이후 읽기 전용 트랜잭션도 Primary를 사용하도록 표시합니다.
+ * (복제 지연으로 방금 쓴 데이터가 Replica에 없을 수 있으므로)
+ * HTTP 요청 밖(Kafka 리스너, 스케줄러)에서는 표시하지 않습니다.
+ */
+public final class ReadYourWritesContext {
+
+    private static final String PINNED_ATTRIBUTE = ReadYourWritesContext.class.getName() + ".PINNED";
+
+    private ReadYourWritesContext() {
+    }
+
+    // 현재 요청의 이후 읽기를 Primary로 고정
+    public static void pinToPrimary() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(PINNED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    public static boolean isPinnedToPrimary() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                && Boolean.TRUE.equals(attributes.getAttribute(PINNED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+}
@@ -0,0 +1,38 @@
+package com.deefacto.user_service.common.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 트랜잭션에 사용하는 Replica 데이터소스
+ *
+ * 현재 요청에서 이미 쓰기가 커밋된 경우(ReadYourWritesContext)에는 Primary 커넥션을 대신 반환합니다.
+ */
+public class ReplicaDataSource extends DelegatingDataSource {
+
+    private final DataSource primaryDataSource;
+
+    public ReplicaDataSource(DataSource replicaDataSource, DataSource primaryDataSource) {
+        super(replicaDataSource);
+        this.primaryDataSource = primaryDataSource;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (ReadYourWritesContext.isPinnedToPrimary()) {
+            return primaryDataSource.getConnection();
+        }
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (ReadYourWritesContext.isPinnedToPrimary()) {
+            return primaryDataSource.getConnection(username, password);
+        }
+        return super.getConnection(username, password);
+    }
+}
@@ -0,0 +1,49 @@
+package com.deefacto.user_service.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 페이징 조회 응답 DTO
+ *
+ * Spring Page(PageImpl)를 그대로 직렬화하면 pageable, sort 등 중복 필드가 매번 함께 직렬화되므로
+ * 클라이언트에 필요한 필드만 고정된 순서로 내려줍니다.
+ *
+ * @param <T> 항목 타입
+ */
+@Getter
+@JsonPropertyOrder({"items", "page", "size", "total", "hasNext"})
+public class PageResponseDto<T> {
+    // 현재 페이지 항목
+    private final List<T> items;
+    // 페이지 번호 (0부터 시작)
+    private final int page;
+    // 페이지 크기
+    private final int size;
+    // 전체 항목 수
+    private final long total;
+    // 다음 페이지 존재 여부
+    private final boolean hasNext;
+
+    private PageResponseDto(List<T> items, int page, int size, long total, boolean hasNext) {
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.total = total;
+        this.hasNext = hasNext;
+    }
+
+    public static <T> PageResponseDto<T> from(Page<T> page) {
+        return new PageResponseDto<>(page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.hasNext());
+    }
+
+    public static <S, T> PageResponseDto<T> from(Page<S> page, Function<S, T> mapper) {
+        return new PageResponseDto<>(page.getContent().stream().map(mapper).toList(), page.getNumber(),
+                page.getSize(), page.getTotalElements(), page.hasNext());
+    }
+}
@@ -32,11 +32,18 @@ public enum ErrorCode implements ErrorCodeInterface{
     // 409 Conflict
     DUPLICATE_RESOURCE("DUPLICATE_RESOURCE_409", "이미 존재하는 리소스입니다.", HttpStatus.CONFLICT),
     CONFLICT_STATE("CONFLICT_STATE_409", "리소스 상태가 충돌합니다.", HttpStatus.CONFLICT),
+    CONCURRENT_MODIFICATION("CONCURRENT_MODIFICATION_409", "다른 요청에서 먼저 변경되었습니다. 다시 조회 후 시도해주세요.", HttpStatus.CONFLICT),
+
+    // 429 Too Many Requests
+    TOO_MANY_REQUESTS("TOO_MANY_REQUESTS_429", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
 
     // 500 Internal Server Error
     INTERNAL_ERROR("INTERNAL_ERROR_500", "서버 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     DATABASE_ERROR("DATABASE_ERROR_500", "데이터베이스 처리 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
-    EXTERNAL_SERVICE_ERROR("EXTERNAL_SERVICE_ERROR_500", "외부 서비스 호출 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+    EXTERNAL_SERVICE_ERROR("EXTERNAL_SERVICE_ERROR_500", "외부 서비스 호출 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+
+    // 503 Service Unavailable
+    SERVICE_UNAVAILABLE("SERVICE_UNAVAILABLE_503", "일시적으로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
 
     private final String code;
     private final String message;
@@ -0,0 +1,109 @@
+package com.deefacto.user_service.common.queue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 락 없이 동작하는 고정 크기 링 버퍼 (생산자 여러 개, 소비자 하나)
+ *
+ * 슬롯마다 순번을 두어 생산자는 CAS로 자리를 예약한 뒤 값을 쓰고, 소비자는 순번으로 쓰기 완료를 확인합니다.
+ * 가득 차면 offer가 기다리지 않고 false를 반환하므로 생산자(요청 스레드)는 절대 블로킹되지 않습니다.
+ * poll / drainTo는 한 번에 한 스레드만 호출해야 합니다.
+ *
+ * @param <E> 원소 타입
+ */
+public class MpscRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    /**
+     * @param capacity 버퍼 크기 (2의 거듭제곱으로 올림)
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("capacity must be at least 2: " + capacity);
+        }
+        this.capacity = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.buffer = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 원소를 넣습니다. 버퍼가 가득 찼으면 넣지 않고 false
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer.lazySet(index, element);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false;
+            }
+            // diff > 0: 다른 생산자가 먼저 예약한 자리, 다시 시도
+        }
+    }
+
+    /**
+     * 가장 오래된 원소를 꺼냅니다. 비어 있으면 null (소비자 스레드 전용)
+     */
+    public E poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        E element = buffer.get(index);
+        buffer.lazySet(index, null);
+        sequences.lazySet(index, head + capacity);
+        head++;
+        return element;
+    }
+
+    /**
+     * 최대 maxElements개를 꺼내 target에 담습니다. (소비자 스레드 전용)
+     *
+     * @return 꺼낸 원소 수
+     */
+    public int drainTo(List<? super E> target, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements) {
+            E element = poll();
+            if (element == null) {
+                break;
+            }
+            target.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * 대략적인 원소 수 (동시 변경 중에는 근사값)
+     */
+    public int size() {
+        return (int) Math.max(0, Math.min(capacity, tail.get() - head));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,166 @@
+package com.deefacto.user_service.common.redis;
+
+import com.deefacto.user_service.config.RedisResilienceConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 세션 / 토큰 무효화 / 유저 캐시용 Redis 호출 서킷 브레이커
+ *
+ * Redis 호출이 연속으로 failure-threshold번 실패(DataAccessException: 연결 실패, 명령 타임아웃 등)하면 회로를 열고,
+ * open-duration-ms 동안은 Redis를 호출하지 않고 바로 장애 중 동작(fallback)을 수행합니다.
+ * 이후 호출 1건만 Redis로 보내(HALF_OPEN) 성공하면 닫고, 실패하면 다시 엽니다.
+ *
+ * 장애 중 동작은 호출하는 쪽이 정합니다. (캐시 쓰기 생략, 캐시 읽기는 DB 조회, 무효화 쓰기는 SERVICE_UNAVAILABLE 등)
+ *
+ * 메트릭:
+ * - redis.degraded: 회로가 닫혀 있지 않으면 1
+ * - redis.circuit.state: 0 = CLOSED, 1 = HALF_OPEN, 2 = OPEN
+ * - redis.circuit.opened: 회로가 열린 횟수
+ * - redis.circuit.fallback{operation, reason}: 장애 중 동작 수행 횟수 (reason: open / error)
+ */
+@Slf4j
+@Component
+public class RedisCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final RedisResilienceConfig resilienceConfig;
+    private final MeterRegistry meterRegistry;
+    private final Counter openedCounter;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    public RedisCircuitBreaker(RedisResilienceConfig resilienceConfig, MeterRegistry meterRegistry) {
+        this.resilienceConfig = resilienceConfig;
+        this.meterRegistry = meterRegistry;
+        this.openedCounter = Counter.builder("redis.circuit.opened")
+                .description("Redis 서킷 브레이커가 열린 횟수")
+                .register(meterRegistry);
+        Gauge.builder("redis.degraded", state, s -> s.get() == State.CLOSED ? 0 : 1)
+                .description("Redis 장애 중 동작 여부 (1 = 장애 중)")
+                .register(meterRegistry);
+        Gauge.builder("redis.circuit.state", state, s -> s.get().ordinal())
+                .description("Redis 서킷 브레이커 상태 (0 = CLOSED, 1 = HALF_OPEN, 2 = OPEN)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Redis 호출을 실행하고, 회로가 열려 있거나 호출이 실패하면 fallback 결과를 반환하는 메서드
+     *
+     * @param operation 메트릭 태그용 작업 이름 (예: session.register)
+     * @param call Redis 호출
+     * @param fallback 장애 중 동작 (예외를 던져 요청을 거부할 수도 있음)
+     */
+    public <T> T execute(String operation, Supplier<T> call, Supplier<T> fallback) {
+        if (!tryAcquire()) {
+            fallbackCounter(operation, "open").increment();
+            return fallback.get();
+        }
+        T result;
+        try {
+            result = call.get();
+        } catch (DataAccessException e) {
+            onFailure(operation, e);
+            fallbackCounter(operation, "error").increment();
+            return fallback.get();
+        } catch (RuntimeException e) {
+            // Redis 장애가 아닌 예외 (응답은 받았으므로 성공으로 간주)
+            onSuccess();
+            throw e;
+        }
+        onSuccess();
+        return result;
+    }
+
+    /**
+     * 결과가 필요 없는 Redis 호출을 실행하고, 회로가 열려 있거나 실패하면 생략하는 메서드
+     *
+     * @param operation 메트릭 태그용 작업 이름
+     * @param call Redis 호출
+     */
+    public void run(String operation, Runnable call) {
+        execute(operation, () -> {
+            call.run();
+            return null;
+        }, () -> null);
+    }
+
+    /**
+     * 장애 중(회로가 닫혀 있지 않음) 여부
+     */
+    public boolean isDegraded() {
+        return resilienceConfig.isEnabled() && state.get() != State.CLOSED;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    // OPEN 유지 시간이 지나면 호출 1건만 HALF_OPEN으로 통과
+    private boolean tryAcquire() {
+        if (!resilienceConfig.isEnabled()) {
+            return true;
+        }
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN
+                && System.currentTimeMillis() - openedAt >= resilienceConfig.getOpenDurationMs()) {
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        State previous = state.getAndSet(State.CLOSED);
+        if (previous != State.CLOSED) {
+            log.info("Redis 서킷 브레이커 닫힘 (정상 복구)");
+        }
+    }
+
+    private void onFailure(String operation, DataAccessException e) {
+        if (!resilienceConfig.isEnabled()) {
+            log.warn("Redis 호출 실패: 작업 {}, 원인 {}", operation, e.getMessage());
+            return;
+        }
+        if (state.compareAndSet(State.HALF_OPEN, State.OPEN)) {
+            openedAt = System.currentTimeMillis();
+            log.warn("Redis 복구 확인 실패, 서킷 브레이커 다시 열림: 작업 {}, 원인 {}", operation, e.getMessage());
+            return;
+        }
+        int failures = consecutiveFailures.incrementAndGet();
+        if (failures >= resilienceConfig.getFailureThreshold() && state.compareAndSet(State.CLOSED, State.OPEN)) {
+            openedAt = System.currentTimeMillis();
+            openedCounter.increment();
+            log.error("Redis 연속 {}회 실패, 서킷 브레이커 열림 ({}ms): 작업 {}, 원인 {}",
+                    failures, resilienceConfig.getOpenDurationMs(), operation, e.getMessage());
+        } else {
+            log.warn("Redis 호출 실패: 작업 {}, 원인 {}", operation, e.getMessage());
+        }
+    }
+
+    private Counter fallbackCounter(String operation, String reason) {
+        return Counter.builder("redis.circuit.fallback")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .description("Redis 장애 중 동작 수행 횟수")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,66 @@
+package com.deefacto.user_service.common.redis;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 인스턴스 중 한 곳에서만 실행해야 하는 주기 작업용 Redis 락
+ *
+ * leader:{name} 키를 SET NX PX로 얻고, 작업이 끝나면 자신이 얻은 락일 때만 지웁니다.
+ * 작업이 중간에 멈춰도 lease 시간이 지나면 다른 인스턴스가 락을 얻을 수 있습니다.
+ *
+ * Redis 장애 중(RedisCircuitBreaker)에는 락을 얻지 못한 것으로 처리하므로 작업은 다음 주기로 미뤄집니다.
+ */
+@Component
+public class RedisLeaderLock {
+
+    private static final String LOCK_KEY_PREFIX = "leader:";
+
+    // 락 값이 자신의 토큰일 때만 삭제 (lease 만료 후 다른 인스턴스가 얻은 락을 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    public RedisLeaderLock(RedisTemplate<String, String> redisTemplate, RedisCircuitBreaker redisCircuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+    }
+
+    /**
+     * 락을 얻는 메서드
+     *
+     * @param name 작업 이름 (예: user-outbox.relay)
+     * @param leaseMs 락 유지 최대 시간 (작업 최대 소요 시간보다 길게)
+     * @return 락 토큰 (release에 전달), 다른 인스턴스가 실행 중이거나 Redis 장애면 null
+     */
+    public String tryAcquire(String name, long leaseMs) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisCircuitBreaker.execute("leader-lock.acquire",
+                () -> redisTemplate.opsForValue().setIfAbsent(LOCK_KEY_PREFIX + name, token, leaseMs, TimeUnit.MILLISECONDS),
+                () -> false);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    /**
+     * 락을 놓는 메서드 (실패하면 lease 만료 후 풀림)
+     *
+     * @param name 작업 이름
+     * @param token tryAcquire가 반환한 토큰
+     */
+    public void release(String name, String token) {
+        redisCircuitBreaker.run("leader-lock.release",
+                () -> redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY_PREFIX + name), token));
+    }
+}
@@ -0,0 +1,43 @@
+package com.deefacto.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 감사 이벤트 기록 설정을 관리하는 설정 클래스
+ *
+ * application.yml의 audit 설정을 바인딩하여 사용합니다.
+ */
+@Component
+@ConfigurationProperties(value = "audit", ignoreUnknownFields = true)
+@Getter @Setter
+public class AuditConfig {
+
+    /**
+     * 감사 이벤트 기록 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 링 버퍼 크기 (2의 거듭제곱으로 올림, 가득 차면 새 이벤트는 버리고 카운트)
+     */
+    private int bufferCapacity = 8_192;
+
+    /**
+     * 배치 INSERT 1회당 최대 이벤트 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 버퍼 비우기 간격 (밀리초, 이전 실행 종료 기준)
+     */
+    private long flushIntervalMs = 200;
+
+    /**
+     * DB 연결 장애로 저장에 실패한 뒤 다음 저장까지 기다리는 시간 (밀리초, 그동안 이벤트는 버퍼에 보관)
+     */
+    private long failureBackoffMs = 5_000;
+}
@@ -0,0 +1,73 @@
+package com.deefacto.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 경로별 동시 실행 제한(bulkhead) 설정을 관리하는 설정 클래스
+ *
+ * application.yml의 bulkhead 설정을 바인딩하여 사용합니다.
+ * 인증 외 bulkhead(admin-search, recipient-resolver, user-lookup, background)의 최대 동시 실행 수 합계를
+ * 커넥션 풀 크기보다 작게 두면, 그 차이만큼의 커넥션은 이 경로들이 가져가지 못합니다.
+ * (남은 커넥션은 인증 경로와 제한 없는 단건 요청이 함께 사용)
+ */
+@Component
+@ConfigurationProperties(value = "bulkhead", ignoreUnknownFields = true)
+@Getter @Setter
+public class BulkheadConfig {
+
+    /**
+     * 동시 실행 제한 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 로그인 / 토큰 재발급 / 로그아웃
+     */
+    private Limit auth = new Limit(8, 1_000);
+
+    /**
+     * 관리자 사용자 검색 (LIKE 조건 조회)
+     */
+    private Limit adminSearch = new Limit(2, 200);
+
+    /**
+     * 알림 수신자 DB 조회 (user.request, Redis 수신자 집합 준비 전)
+     */
+    private Limit recipientResolver = new Limit(2, 2_000);
+
+    /**
+     * 사용자 조회 캐시 미스 DB 조회 (프로필 조건부 요청, 일괄 조회)
+     */
+    private Limit userLookup = new Limit(2, 500);
+
+    /**
+     * 주기 / 기동 작업의 DB 조회 (outbox 릴레이, 감사 이벤트 저장, 수신자 집합 재구성, 교대 전 캐시 예열)
+     */
+    private Limit background = new Limit(1, 10_000);
+
+    @Getter @Setter
+    public static class Limit {
+
+        /**
+         * 최대 동시 실행 수
+         */
+        private int maxConcurrent;
+
+        /**
+         * 자리가 날 때까지 기다리는 최대 시간 (밀리초, 초과 시 SERVICE_UNAVAILABLE)
+         */
+        private long maxWaitMs;
+
+        public Limit() {
+        }
+
+        public Limit(int maxConcurrent, long maxWaitMs) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxWaitMs = maxWaitMs;
+        }
+    }
+}
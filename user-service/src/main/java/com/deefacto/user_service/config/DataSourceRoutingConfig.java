@@ -0,0 +1,84 @@
+package com.deefacto.user_service.config;
+
+import com.deefacto.user_service.common.datasource.ReadYourWritesContext;
+import com.deefacto.user_service.common.datasource.ReplicaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import javax.sql.DataSource;
+
+/**
+ * Primary / Replica 데이터소스 라우팅 설정 클래스
+ *
+ * spring.datasource.replica.url이 비어 있지 않은 경우에만 적용되며, 없으면 기존처럼 단일 데이터소스를 사용합니다.
+ *
+ * - @Transactional(readOnly = true) → Replica 커넥션 풀
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 밖 호출) → Primary 커넥션 풀
+ * - 같은 HTTP 요청에서 쓰기 트랜잭션이 커밋된 뒤의 읽기 → Primary (read-your-writes)
+ *
+ * 트랜잭션 시작 시점에는 커넥션의 read-only 여부만 기록하고,
+ * 첫 SQL 실행 시 LazyConnectionDataSourceProxy가 그 값에 따라 실제 풀을 선택합니다.
+ */
+@Configuration
+@ConditionalOnExpression("!'${spring.datasource.replica.url:}'.isEmpty()")
+public class DataSourceRoutingConfig {
+
+    private static final String REPLICA_PREFIX = "spring.datasource.replica";
+
+    // Primary 커넥션 풀 (spring.datasource.*, spring.datasource.hikari.*)
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // Replica 커넥션 풀 (spring.datasource.replica.*, spring.datasource.replica.hikari.*)
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(Environment environment) {
+        DataSourceProperties replicaProperties = Binder.get(environment)
+                .bind(REPLICA_PREFIX, DataSourceProperties.class)
+                .orElseThrow(() -> new IllegalStateException(REPLICA_PREFIX + " is not configured"));
+        HikariDataSource dataSource = replicaProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(new ReplicaDataSource(replicaDataSource, primaryDataSource));
+        return proxy;
+    }
+
+    // 쓰기 트랜잭션 커밋 후 같은 요청의 이후 읽기를 Primary로 고정
+    @Bean
+    public TransactionExecutionListener readYourWritesTransactionListener() {
+        return new TransactionExecutionListener() {
+            @Override
+            public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+                if (commitFailure == null && !transaction.isReadOnly()) {
+                    ReadYourWritesContext.pinToPrimary();
+                }
+            }
+        };
+    }
+}
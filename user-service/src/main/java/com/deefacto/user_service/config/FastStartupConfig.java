@@ -0,0 +1,65 @@
+package com.deefacto.user_service.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * 빠른 기동 모드(fast-startup 프로필) 설정 클래스
+ *
+ * fast-startup 프로필은 지연 초기화(spring.main.lazy-initialization)를 켜서
+ * 요청 처리 경로에 없는 빈의 생성을 처음 사용할 때로 미룹니다.
+ *
+ * 다음 빈은 지연 초기화에서 제외하여 기동 시 바로 생성합니다.
+ * - 컨트롤러 / 예외 처리 Advice: 첫 로그인 요청이 빈 생성 비용을 떠안지 않도록
+ *   (의존하는 서비스, 리포지토리, 토큰 생성기도 함께 생성됨)
+ * - @KafkaListener, @Scheduled, @EventListener 메서드를 가진 빈: 지연되면 등록 자체가 되지 않음
+ * - Flyway 마이그레이션: 요청을 받기 전에 스키마가 준비되어 있어야 함
+ */
+@Configuration
+public class FastStartupConfig {
+
+    private static final List<Class<? extends Annotation>> EAGER_TYPE_ANNOTATIONS =
+            List.of(Controller.class, ControllerAdvice.class);
+
+    private static final List<Class<? extends Annotation>> EAGER_METHOD_ANNOTATIONS =
+            List.of(KafkaListener.class, Scheduled.class, EventListener.class);
+
+    @Bean
+    static LazyInitializationExcludeFilter requestPathEagerInitExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && (FlywayMigrationInitializer.class.isAssignableFrom(beanType) || isEager(beanType));
+    }
+
+    private static boolean isEager(Class<?> beanType) {
+        for (Class<? extends Annotation> annotation : EAGER_TYPE_ANNOTATIONS) {
+            if (AnnotatedElementUtils.hasAnnotation(beanType, annotation)) {
+                return true;
+            }
+        }
+        // @TransactionalEventListener는 @EventListener 메타 어노테이션이므로 함께 감지됨
+        return !MethodIntrospector.selectMethods(beanType, (MethodIntrospector.MetadataLookup<Boolean>) method ->
+                hasEagerMethodAnnotation(method) ? Boolean.TRUE : null).isEmpty();
+    }
+
+    private static boolean hasEagerMethodAnnotation(Method method) {
+        for (Class<? extends Annotation> annotation : EAGER_METHOD_ANNOTATIONS) {
+            if (AnnotatedElementUtils.hasAnnotation(method, annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,26 @@
+package com.deefacto.user_service.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafkaRetryTopic;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * User Service가 발행하는 Kafka 토픽 설정 클래스
+ *
+ * 애플리케이션 시작 시 KafkaAdmin이 토픽이 없으면 생성합니다.
+ * user.request의 재시도/DLT 토픽(@RetryableTopic)도 함께 생성됩니다.
+ */
+@Configuration
+@EnableKafkaRetryTopic
+public class KafkaTopicConfig {
+
+    // 사용자 변경 스냅샷 토픽 (키별 최신 값만 유지하도록 compaction 적용)
+    @Bean
+    public NewTopic userChangedTopic(UserOutboxConfig userOutboxConfig) {
+        return TopicBuilder.name(userOutboxConfig.getTopic())
+                .compact()
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.deefacto.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 로그인 시도 제한(Brute Force 방어) 설정을 관리하는 설정 클래스
+ *
+ * application.yml의 login-throttle 설정을 바인딩하여 사용합니다.
+ * 제한은 슬라이딩 윈도우 방식으로 사원번호별, 요청 IP별로 각각 적용됩니다.
+ */
+@Component
+@ConfigurationProperties(value = "login-throttle", ignoreUnknownFields = true)
+@Getter @Setter
+public class LoginThrottleConfig {
+
+    /**
+     * 로그인 시도 제한 사용 여부
+     * 환경 변수: LOGIN_THROTTLE_ENABLED
+     */
+    private boolean enabled = true;
+
+    /**
+     * 슬라이딩 윈도우 크기 (초 단위)
+     * 환경 변수: LOGIN_THROTTLE_WINDOW_SECONDS
+     * 기본값: 60초
+     */
+    private int windowSeconds = 60;
+
+    /**
+     * 윈도우 내 사원번호별 최대 로그인 시도 횟수
+     * 환경 변수: LOGIN_THROTTLE_MAX_ATTEMPTS_PER_EMPLOYEE
+     * 기본값: 10회 (로그인 성공 시 초기화)
+     */
+    private int maxAttemptsPerEmployee = 10;
+
+    /**
+     * 윈도우 내 요청 IP별 최대 로그인 시도 횟수
+     * 환경 변수: LOGIN_THROTTLE_MAX_ATTEMPTS_PER_IP
+     * 기본값: 100회 (관제실처럼 여러 작업자가 같은 IP를 공유하는 경우를 고려)
+     */
+    private int maxAttemptsPerIp = 100;
+
+    /**
+     * 신뢰하는 프록시(API Gateway, 로드밸런서) IP 목록
+     * 환경 변수: LOGIN_THROTTLE_TRUSTED_PROXIES (쉼표 구분)
+     * 기본값: 없음 (X-Forwarded-For를 무시하고 접속 IP 사용)
+     *
+     * 접속 IP가 이 목록에 있을 때만 X-Forwarded-For를 오른쪽부터 읽어
+     * 신뢰하는 프록시가 아닌 첫 번째 주소를 클라이언트 IP로 사용합니다.
+     * (왼쪽 값은 클라이언트가 임의로 넣을 수 있으므로 사용하지 않음)
+     */
+    private List<String> trustedProxies = new ArrayList<>();
+}
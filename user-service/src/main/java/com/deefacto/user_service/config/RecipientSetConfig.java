@@ -0,0 +1,38 @@
+package com.deefacto.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 구역/근무시간별 알림 수신자 집합(Redis) 설정을 관리하는 설정 클래스
+ *
+ * application.yml의 recipient-set 설정을 바인딩하여 사용합니다.
+ */
+@Component
+@ConfigurationProperties(value = "recipient-set", ignoreUnknownFields = true)
+@Getter @Setter
+public class RecipientSetConfig {
+
+    /**
+     * 수신자 조회에 Redis 집합 사용 여부 (false면 요청마다 DB 조회)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 전체 재구성(드리프트 보정) 실행 간격 (밀리초, 이전 실행 종료 기준)
+     */
+    private long reconcileIntervalMs = 600_000;
+
+    /**
+     * 전체 재구성 락 유지 최대 시간 (밀리초, 재구성 최대 소요 시간보다 길게)
+     */
+    private long rebuildLockLeaseMs = 120_000;
+
+    /**
+     * SADD 1회에 넣을 최대 userId 수
+     */
+    private int writeBatchSize = 1_000;
+}
@@ -0,0 +1,52 @@
+package com.deefacto.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Redis 장애 대응(서킷 브레이커 / 장애 중 동작) 설정을 관리하는 설정 클래스
+ *
+ * application.yml의 redis-resilience 설정을 바인딩하여 사용합니다.
+ * 명령/연결 타임아웃은 spring.data.redis.timeout, connect-timeout으로 설정합니다.
+ */
+@Component
+@ConfigurationProperties(value = "redis-resilience", ignoreUnknownFields = true)
+@Getter @Setter
+public class RedisResilienceConfig {
+
+    public enum LoginPolicy {
+        // 세션 등록 없이 토큰 발급 (최대 디바이스 수 제한 미적용)
+        // epoch를 읽을 수 없으면 degraded-token-ttl-seconds 동안만 유효한 미확인 토큰 발급 (재발급 불가, 복구 후 무효)
+        ALLOW,
+        // 로그인 / 토큰 재발급 거부 (SERVICE_UNAVAILABLE)
+        DENY
+    }
+
+    /**
+     * 서킷 브레이커 사용 여부 (false면 실패한 호출만 장애 중 동작으로 처리)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 연속 실패 몇 번이면 회로를 열지
+     */
+    private int failureThreshold = 5;
+
+    /**
+     * 회로를 연 뒤 Redis 호출 없이 장애 중 동작으로 처리하는 시간 (밀리초, 이후 호출 1건으로 복구 확인)
+     */
+    private long openDurationMs = 10_000;
+
+    /**
+     * Redis 장애 중 로그인 / 토큰 재발급 처리 방식
+     */
+    private LoginPolicy loginPolicy = LoginPolicy.ALLOW;
+
+    /**
+     * ALLOW 정책에서 epoch를 확인하지 못하고 발급한 토큰의 최대 수명 (초, 일반 만료 시간보다 길면 일반 만료 시간)
+     */
+    private int degradedTokenTtlSeconds = 300;
+}
@@ -0,0 +1,15 @@
+package com.deefacto.user_service.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄러 설정 클래스
+ *
+ * Outbox 릴레이 등 주기 작업(@Scheduled)을 활성화합니다.
+ * 스레드 풀 크기는 spring.task.scheduling.pool.size로 정하며, 주기 작업을 추가하면 함께 늘려야 합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
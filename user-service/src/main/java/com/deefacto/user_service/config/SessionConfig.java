@@ -0,0 +1,42 @@
+package com.deefacto.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 로그인 세션(멀티 디바이스) 설정을 관리하는 설정 클래스
+ *
+ * application.yml의 session 설정을 바인딩하여 사용합니다.
+ */
+@Component
+@ConfigurationProperties(value = "session", ignoreUnknownFields = true)
+@Getter @Setter
+public class SessionConfig {
+
+    /**
+     * 사원번호당 동시에 유지할 수 있는 최대 세션(디바이스) 수
+     * 환경 변수: SESSION_MAX_DEVICES
+     * 기본값: 2 (태블릿 + 워크스테이션)
+     *
+     * 초과 시 가장 오래된 세션부터 무효화됩니다.
+     */
+    private int maxDevices = 2;
+
+    /**
+     * 반영에 실패한 토큰 일괄 무효화 요청 재시도 간격 (밀리초, 이전 실행 종료 기준)
+     */
+    private long revocationRetryIntervalMs = 1000;
+
+    /**
+     * 기록 후 이 시간(초)이 지난 무효화 요청만 재시도 (커밋 직후 반영과 겹치지 않도록)
+     */
+    private int revocationRetryDelaySeconds = 10;
+
+    /**
+     * 재시도 1회당 최대 처리 건수
+     */
+    private int revocationRetryBatchSize = 100;
+}
@@ -0,0 +1,46 @@
+package com.deefacto.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 근무 교대 전 캐시 예열 설정을 관리하는 설정 클래스
+ *
+ * application.yml의 shift-prewarm 설정을 바인딩하여 사용합니다.
+ */
+@Component
+@ConfigurationProperties(value = "shift-prewarm", ignoreUnknownFields = true)
+@Getter @Setter
+public class ShiftPrewarmConfig {
+
+    /**
+     * 교대 전 캐시 예열 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 근무시간(User.shift 값)별 시작 시각 (HH:mm)
+     */
+    private Map<String, String> startTimes = new LinkedHashMap<>(Map.of("DAY", "08:00", "NIGHT", "20:00"));
+
+    /**
+     * 근무 시작 몇 분 전에 예열할지 (Hibernate 2차 캐시 TTL 10분보다 짧게)
+     */
+    private int leadMinutes = 5;
+
+    /**
+     * 근무 시작 시각의 기준 시간대
+     */
+    private String zone = "Asia/Seoul";
+
+    /**
+     * 조회 / 파이프라인 저장 1회당 사용자 수
+     */
+    private int batchSize = 500;
+}
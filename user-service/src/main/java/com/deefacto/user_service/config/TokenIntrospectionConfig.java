@@ -0,0 +1,39 @@
+package com.deefacto.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 토큰 일괄 검증(/internal/auth/introspect) 설정을 관리하는 설정 클래스
+ *
+ * application.yml의 token-introspection 설정을 바인딩하여 사용합니다.
+ */
+@Component
+@ConfigurationProperties(value = "token-introspection", ignoreUnknownFields = true)
+@Getter @Setter
+public class TokenIntrospectionConfig {
+
+    /**
+     * 요청 1회당 최대 토큰 수 (요청 1건이 서명 검증으로 CPU를 오래 점유하지 않도록 작게 유지)
+     */
+    private int batchMaxSize = 20;
+
+    /**
+     * 서비스 간 인증 토큰 (API Gateway가 X-Service-Token 헤더로 전달, 비어 있으면 모든 요청 거부)
+     */
+    private String serviceToken = "";
+
+    /**
+     * 검증 결과 로컬 캐시 유지 시간 (밀리초, 0이면 캐시하지 않음)
+     * 다른 인스턴스에서 로그아웃/일괄 무효화된 토큰은 최대 이 시간 동안 ACTIVE로 보일 수 있습니다.
+     */
+    private long verdictCacheTtlMs = 1_000;
+
+    /**
+     * 검증 결과 로컬 캐시 최대 항목 수
+     */
+    private int verdictCacheMaxSize = 50_000;
+}
@@ -0,0 +1,65 @@
+package com.deefacto.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Redis 유저 정보 캐시(user:{employeeId}) 설정을 관리하는 설정 클래스
+ *
+ * application.yml의 user-cache 설정을 바인딩하여 사용합니다.
+ */
+@Component
+@ConfigurationProperties(value = "user-cache", ignoreUnknownFields = true)
+@Getter @Setter
+public class UserCacheConfig {
+
+    public enum Format {
+        // UserCacheDto JSON (API Gateway가 user:{employeeId}를 JSON으로 읽음)
+        JSON,
+        // UserCacheCodec 바이너리 (JSON 대비 약 절반 크기, Gateway도 같은 코덱으로 읽어야 함)
+        BINARY
+    }
+
+    /**
+     * 캐시 값 저장 형식 (읽을 때는 두 형식 모두 자동 판별하므로 전환 중 섞여 있어도 됨)
+     */
+    private Format format = Format.JSON;
+
+    /**
+     * TTL 무작위 편차 비율 (0.1이면 TTL의 ±10%, 같은 시각에 저장된 항목이 한꺼번에 만료되지 않도록 분산)
+     */
+    private double ttlJitterRatio = 0.1;
+
+    /**
+     * 만료 전 확률적 조기 갱신 강도 (XFetch beta, 0이면 조기 갱신 안 함, 클수록 일찍 갱신)
+     */
+    private double earlyRefreshBeta = 1.0;
+
+    /**
+     * 노드 간 중복 조회 방지 락 유지 시간 (밀리초, 락 보유 노드 장애 시 자동 해제)
+     */
+    private long lockTtlMs = 2_000;
+
+    /**
+     * 락을 얻지 못했을 때 다른 노드가 캐시를 채우기를 기다리는 최대 시간 (밀리초, 초과 시 직접 조회)
+     */
+    private long lockWaitMs = 300;
+
+    /**
+     * 대기 중 캐시 재확인 간격 (밀리초)
+     */
+    private long lockPollMs = 20;
+
+    /**
+     * 같은 노드에서 진행 중인 조회 결과를 기다리는 최대 시간 (밀리초, 초과 시 직접 조회)
+     */
+    private long inFlightWaitMs = 3_000;
+
+    /**
+     * Redis 장애로 삭제하지 못한 캐시 키의 삭제 재시도 간격 (밀리초)
+     */
+    private long evictionRetryIntervalMs = 1_000;
+}
@@ -0,0 +1,23 @@
+package com.deefacto.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 사용자 조회 API 설정을 관리하는 설정 클래스
+ *
+ * application.yml의 user-lookup 설정을 바인딩하여 사용합니다.
+ */
+@Component
+@ConfigurationProperties(value = "user-lookup", ignoreUnknownFields = true)
+@Getter @Setter
+public class UserLookupConfig {
+
+    /**
+     * 일괄 조회 1회당 최대 ID + 사원번호 수
+     */
+    private int batchMaxSize = 200;
+}
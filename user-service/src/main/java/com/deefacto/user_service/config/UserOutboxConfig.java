@@ -0,0 +1,43 @@
+package com.deefacto.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 사용자 변경 이벤트 Outbox 릴레이 설정을 관리하는 설정 클래스
+ *
+ * application.yml의 user-outbox 설정을 바인딩하여 사용합니다.
+ */
+@Component
+@ConfigurationProperties(value = "user-outbox", ignoreUnknownFields = true)
+@Getter @Setter
+public class UserOutboxConfig {
+
+    /**
+     * 사용자 변경 이벤트 발행 토픽 (compacted)
+     */
+    private String topic = "user.changed";
+
+    /**
+     * 릴레이 1회당 최대 발행 건수
+     */
+    private int batchSize = 200;
+
+    /**
+     * 릴레이 실행 간격 (밀리초, 이전 실행 종료 기준)
+     */
+    private long relayIntervalMs = 500;
+
+    /**
+     * 배치 발행 결과 대기 최대 시간 (초)
+     */
+    private int sendTimeoutSeconds = 10;
+
+    /**
+     * 프로듀서 배치 대기 시간 (밀리초)
+     */
+    private int lingerMs = 20;
+}
@@ -0,0 +1,117 @@
+package com.deefacto.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 알림 수신자 조회 요청(user.request) 처리 설정을 관리하는 설정 클래스
+ *
+ * application.yml의 user-request 설정을 바인딩하여 사용합니다.
+ */
+@Component
+@ConfigurationProperties(value = "user-request", ignoreUnknownFields = true)
+@Getter @Setter
+public class UserRequestConfig {
+
+    /**
+     * 수신자 조회 결과 응답 토픽
+     */
+    private String responseTopic = "user.response";
+
+    /**
+     * 응답 메시지 1건의 최대 크기 (바이트, 브로커/프로듀서 max.request.size보다 작게 설정)
+     */
+    private int maxMessageBytes = 900_000;
+
+    /**
+     * notificationId별 응답 캐시 유지 시간 (초, 재전달된 요청은 이 시간 동안 저장된 응답을 재전송)
+     */
+    private long responseCacheTtlSeconds = 600;
+
+    /**
+     * 응답 전송 결과 대기 최대 시간 (초, 초과 시 요청을 재시도 토픽으로 넘김)
+     */
+    private int sendTimeoutSeconds = 10;
+
+    /**
+     * 처리 실패 요청의 재시도 토픽 설정
+     */
+    private Retry retry = new Retry();
+
+    /**
+     * user.request 리스너 설정
+     */
+    private Consumer consumer = new Consumer();
+
+    /**
+     * DB 커넥션 풀 포화 시 리스너 일시 정지(backpressure) 설정
+     */
+    private Backpressure backpressure = new Backpressure();
+
+    @Getter @Setter
+    public static class Consumer {
+
+        /**
+         * 리스너 컨테이너 동시 처리 스레드 수 (파티션 수 이하로 설정)
+         *
+         * 파티션 하나는 항상 스레드 하나가 처리하므로 같은 키의 요청은 순서대로 처리됩니다.
+         */
+        private int concurrency = 1;
+    }
+
+    @Getter @Setter
+    public static class Retry {
+
+        /**
+         * 최초 처리를 포함한 최대 시도 횟수 (초과 시 DLT)
+         */
+        private int attempts = 4;
+
+        /**
+         * 첫 재시도 대기 시간 (밀리초)
+         */
+        private long initialDelayMs = 1_000;
+
+        /**
+         * 재시도마다 대기 시간에 곱하는 배수
+         */
+        private double multiplier = 2.0;
+
+        /**
+         * 최대 재시도 대기 시간 (밀리초)
+         */
+        private long maxDelayMs = 30_000;
+    }
+
+    @Getter @Setter
+    public static class Backpressure {
+
+        /**
+         * 커넥션 풀 상태에 따른 리스너 일시 정지 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 커넥션 풀 상태 확인 간격 (밀리초)
+         */
+        private long checkIntervalMs = 500;
+
+        /**
+         * 커넥션 대기 스레드가 이 수 이상이면 일시 정지
+         */
+        private int pausePendingThreads = 1;
+
+        /**
+         * 사용 중 커넥션 비율(활성 / 최대 풀 크기)이 이 값 이상이면 일시 정지
+         */
+        private double pauseActiveRatio = 0.9;
+
+        /**
+         * 대기 스레드가 없고 사용 중 커넥션 비율이 이 값 이하로 내려가면 재개
+         */
+        private double resumeActiveRatio = 0.6;
+    }
+}
@@ -0,0 +1,72 @@
+package com.deefacto.user_service.controller;
+
+import com.deefacto.user_service.common.dto.ApiResponseDto;
+import com.deefacto.user_service.common.exception.CustomException;
+import com.deefacto.user_service.common.exception.ErrorCode;
+import com.deefacto.user_service.config.TokenIntrospectionConfig;
+import com.deefacto.user_service.domain.dto.TokenIntrospectRequestDto;
+import com.deefacto.user_service.domain.dto.TokenIntrospectionDto;
+import com.deefacto.user_service.service.TokenIntrospectionService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * 서비스 간 호출 전용 토큰 API를 제공하는 컨트롤러
+ * 
+ * /internal/** 경로는 API Gateway에서 외부로 라우팅하지 않으며,
+ * 추가로 X-Service-Token 헤더가 token-introspection.service-token과 일치해야 합니다.
+ * (설정하지 않으면 모든 요청을 거부)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/internal/auth")
+@RequiredArgsConstructor
+public class InternalTokenController {
+
+    private static final String SERVICE_TOKEN_HEADER = "X-Service-Token";
+
+    private final TokenIntrospectionService tokenIntrospectionService;
+    private final TokenIntrospectionConfig introspectionConfig;
+
+    /**
+     * 토큰 목록의 상태와 클레임을 일괄 반환하는 API (API Gateway 전용)
+     * 
+     * 토큰별 상태: ACTIVE, REVOKED(로그아웃/일괄 무효화), EXPIRED, INVALID(서명/형식 오류)
+     * 서명 검증은 토큰당 1회, 무효화 여부는 Redis 파이프라인 1회로 확인하며
+     * 최근 결과는 짧게 로컬 캐시합니다. (token-introspection.verdict-cache-ttl-ms)
+     * 
+     * @param serviceToken 서비스 간 인증 토큰 (X-Service-Token 헤더)
+     * @param introspectRequestDto 검증할 토큰 목록
+     * @return 요청과 같은 순서의 검증 결과
+     * @throws CustomException 서비스 토큰이 없거나 일치하지 않는 경우 (UNAUTHORIZED)
+     */
+    @PostMapping("/introspect")
+    public ApiResponseDto<List<TokenIntrospectionDto>> introspect(
+        @RequestHeader(value = SERVICE_TOKEN_HEADER, required = false) String serviceToken,
+        @RequestBody @Valid TokenIntrospectRequestDto introspectRequestDto
+    ) {
+        verifyServiceToken(serviceToken);
+        List<TokenIntrospectionDto> results = tokenIntrospectionService.introspect(introspectRequestDto.getTokens());
+        return ApiResponseDto.createOk(results, "토큰 검증 완료");
+    }
+
+    // 설정된 서비스 토큰과 상수 시간 비교 (설정이 비어 있으면 항상 거부)
+    private void verifyServiceToken(String serviceToken) {
+        String expected = introspectionConfig.getServiceToken();
+        if (expected == null || expected.isBlank() || serviceToken == null
+                || !MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), serviceToken.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("[토큰 일괄 검증]: 서비스 토큰 불일치로 거부");
+            throw new CustomException(ErrorCode.UNAUTHORIZED, SERVICE_TOKEN_HEADER + " header is missing or invalid");
+        }
+    }
+}
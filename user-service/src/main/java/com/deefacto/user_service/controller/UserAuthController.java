@@ -1,7 +1,9 @@
 package com.deefacto.user_service.controller;
 
+import com.deefacto.user_service.common.bulkhead.Bulkheads;
 import com.deefacto.user_service.common.exception.CustomException;
 import com.deefacto.user_service.common.exception.ErrorCode;
+import com.deefacto.user_service.config.LoginThrottleConfig;
 import com.deefacto.user_service.domain.Entitiy.User;
 import com.deefacto.user_service.domain.dto.RefreshTokenRequestDto;
 import com.deefacto.user_service.domain.dto.UserLoginDto;
@@ -24,6 +26,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -34,6 +37,8 @@ import java.util.Map;
  * 2. 사용자 로그인 (/auth/login) - JWT 토큰 발급
  * 3. 사용자 로그아웃 (/auth/logout) - 토큰 무효화
  * 
+ * 토큰 일괄 검증은 서비스 간 호출 전용이므로 InternalTokenController(/internal/auth/introspect)에 있습니다.
+ * 
  * 이 컨트롤러의 엔드포인트들은 인증이 필요하지 않은 공개 API입니다.
  * API Gateway에서 /auth/** 경로는 인증 없이 접근 가능하도록 설정되어 있습니다.
  */
@@ -47,6 +52,12 @@ public class UserAuthController {
     private final UserService userService;
     private final TokenGenerator tokenGenerator;
 
+    // 요청 IP 추출용 신뢰 프록시 목록
+    private final LoginThrottleConfig loginThrottleConfig;
+
+    // 로그인 / 재발급 / 로그아웃 동시 실행 제한 (다른 경로와 커넥션 풀 격리)
+    private final Bulkheads bulkheads;
+
     // 임시 데이터 저장용 Map (실제로는 불필요하지만 예시를 위해 유지)
     Map<String, String> data = new HashMap<>();
 
@@ -71,7 +82,8 @@ public class UserAuthController {
             log.warn("[회원 가입]: 잘못된 파라미터 userId: {}, employeeId: {}", userId, adminEmployeeId);
             throw new CustomException(ErrorCode.INVALID_TOKEN, "X-User-Id, X-Employee-Id header is required");
         }
-        User user = userService.searchUserById(userId);
+        // 권한 판단은 캐시 / Replica가 아닌 Primary 기준
+        User user = userService.searchUserForAuthorization(adminEmployeeId);
         if (!user.getRole().equals("ROOT")) {
             throw new CustomException(ErrorCode.FORBIDDEN, "You are not authorized to register user");
         }
@@ -94,20 +106,56 @@ public class UserAuthController {
      * 3. 액세스 토큰과 리프레시 토큰 반환
      * 
      * @param userLoginDto 로그인 정보 (사원번호, 비밀번호)
+     * @param request HTTP 요청 객체 (로그인 시도 제한용 IP 추출)
      * @return 액세스 토큰과 리프레시 토큰이 포함된 응답
      */
     @PostMapping("/login")
-    public ApiResponseDto<TokenDto.AccessRefreshToken> loginUser(@RequestBody @Valid UserLoginDto userLoginDto) {
+    public ApiResponseDto<TokenDto.AccessRefreshToken> loginUser(
+        @RequestBody @Valid UserLoginDto userLoginDto,
+        HttpServletRequest request
+    ) {
         // UserService를 통해 로그인 처리 및 토큰 발급
-        TokenDto.AccessRefreshToken token = userService.login(userLoginDto);
+        String clientIp = resolveClientIp(request);
+        TokenDto.AccessRefreshToken token = bulkheads.auth().execute(() -> userService.login(userLoginDto, clientIp));
         
         return ApiResponseDto.createOk(token, "로그인 성공");
     }
 
+    /**
+     * 요청 IP를 추출하는 메서드
+     *
+     * X-Forwarded-For의 왼쪽 값은 클라이언트가 임의로 넣을 수 있으므로,
+     * 접속 IP가 신뢰하는 프록시(login-throttle.trusted-proxies)인 경우에만
+     * X-Forwarded-For를 오른쪽부터 읽어 마지막 신뢰 프록시가 추가한 주소를 사용합니다.
+     * 신뢰 프록시 목록이 없으면 접속 IP를 그대로 사용합니다.
+     *
+     * @param request HTTP 요청 객체
+     * @return 클라이언트 IP
+     */
+    private String resolveClientIp(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        List<String> trustedProxies = loginThrottleConfig.getTrustedProxies();
+        if (trustedProxies.isEmpty() || !trustedProxies.contains(remoteAddr)) {
+            return remoteAddr;
+        }
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return remoteAddr;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !trustedProxies.contains(hop)) {
+                return hop;
+            }
+        }
+        return remoteAddr;
+    }
+
     @PostMapping("/refresh")
     public ApiResponseDto<TokenDto.AccessToken> refresh(@RequestBody RefreshTokenRequestDto request) {
         log.info("refresh: {}", request.getRefreshToken());
-        TokenDto.AccessToken newAccessToken = tokenGenerator.refreshAccessToken(request.getRefreshToken());
+        TokenDto.AccessToken newAccessToken = bulkheads.auth().execute(() -> tokenGenerator.refreshAccessToken(request.getRefreshToken()));
         return ApiResponseDto.createOk(newAccessToken, "Access Token 재발급 성공");
     }
 
@@ -137,7 +185,7 @@ public class UserAuthController {
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
             // "Bearer " 접두사를 제거하여 실제 토큰만 추출
             String token = bearerToken.substring(7);
-            userService.logout(token);
+            bulkheads.auth().run(() -> userService.logout(token));
         } else {
             throw new CustomException(ErrorCode.INVALID_TOKEN, "Authorization header with Bearer token is required");
         }
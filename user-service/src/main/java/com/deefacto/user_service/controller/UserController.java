@@ -1,21 +1,33 @@
 package com.deefacto.user_service.controller;
 
+import com.deefacto.user_service.common.bulkhead.Bulkheads;
 import com.deefacto.user_service.common.dto.ApiResponseDto;
+import com.deefacto.user_service.common.dto.PageResponseDto;
 import com.deefacto.user_service.common.exception.CustomException;
 import com.deefacto.user_service.common.exception.ErrorCode;
 import com.deefacto.user_service.domain.Entitiy.User;
+import com.deefacto.user_service.domain.dto.UserBatchRequestDto;
+import com.deefacto.user_service.domain.dto.UserBatchResponseDto;
+import com.deefacto.user_service.domain.dto.UserCacheDto;
+import com.deefacto.user_service.domain.dto.UserPatchDto;
 import com.deefacto.user_service.domain.dto.UserChangePasswordDto;
 import com.deefacto.user_service.domain.dto.UserDeleteDto;
 import com.deefacto.user_service.domain.dto.UserSearchDto;
 import com.deefacto.user_service.domain.dto.UserInfoResponseDto;
+import com.deefacto.user_service.domain.dto.UserSessionDto;
 import com.deefacto.user_service.domain.repository.UserRepository;
 import com.deefacto.user_service.service.UserService;
+import com.deefacto.user_service.service.UserSessionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
+
 /**
  * 사용자 관련 API 엔드포인트를 제공하는 컨트롤러
  * 
@@ -40,34 +52,78 @@ public class UserController {
     
     // 사용자 데이터 접근을 위한 리포지토리
     private final UserRepository userRepository;
+
+    // 로그인 세션(멀티 디바이스) 관리 서비스
+    private final UserSessionService userSessionService;
+
+    // 관리자 검색 동시 실행 제한 (인증 경로와 커넥션 풀 격리)
+    private final Bulkheads bulkheads;
     
     /**
      * 현재 로그인한 사용자의 프로필 정보를 조회하는 API
      * 
+     * 응답에 ETag("u{userId}-v{version}")를 붙이고, If-None-Match가 현재 버전과 같으면
+     * 본문 없이 304를 반환합니다. 유저 캐시의 버전이 일치하면 DB 조회도 하지 않습니다.
+     * 
      * @param employeeId API Gateway에서 파싱한 사용자 사원번호 (X-Employee-Id 헤더)
      * @param role API Gateway에서 파싱한 사용자 역할 (X-Role 헤더)
-     * @return 사용자 프로필 정보 (사원번호, 역할, 이름, 이메일)
+     * @return 사용자 프로필 정보 (사원번호, 역할, 이름, 이메일), 변경이 없으면 304
      * @throws BadParameter 필수 헤더가 누락된 경우
      */
     @GetMapping("/info/profile")
     public ApiResponseDto<UserInfoResponseDto> getProfile(
             @RequestHeader(value = "X-User-Id", required = false) Long userId,
-            @RequestHeader(value = "X-Employee-Id", required = false) String employeeId
+            @RequestHeader(value = "X-Employee-Id", required = false) String employeeId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            WebRequest webRequest
     ) {
         // API Gateway에서 전달받은 헤더 검증
         if (userId == null || employeeId == null || employeeId.isEmpty()) {
             log.warn("[회원 프로필]: 잘못된 파라미터 userId: {}, employeeId: {}", userId, employeeId);
             throw new CustomException(ErrorCode.INVALID_TOKEN, "X-User-Id, X-Employee-Id header is required");
         }
+
+        // 조건부 요청이면 캐시된 버전으로 먼저 비교 (일치하면 DB 조회 없이 304, 캐시가 비었으면 한 번만 채움)
+        if (ifNoneMatch != null) {
+            UserCacheDto cached = userService.findCachedUser(employeeId);
+            if (cached != null && userId.equals(cached.getId()) && cached.getVersion() != null) {
+                String cachedETag = profileETag(userId, cached.getVersion());
+                if (matchesETag(ifNoneMatch, cachedETag) && webRequest.checkNotModified(cachedETag)) {
+                    return null;
+                }
+            }
+        }
         
-        // API Gateway에서 이미 파싱된 정보를 바로 사용하여 데이터베이스 조회
+        // 그 외에는 DB에서 조회한 버전 하나로만 ETag를 만들고 비교 (응답 ETag와 본문이 항상 같은 버전)
         User user = userService.searchUserById(userId);
+        if (user.getVersion() != null && webRequest.checkNotModified(profileETag(userId, user.getVersion()))) {
+            return null;
+        }
         
         // UserInfoResponseDto로 변환
         UserInfoResponseDto profile = UserInfoResponseDto.from(user);
         
         return ApiResponseDto.createOk(profile, "프로필 조회 성공");
     }
+
+    // If-None-Match 목록에 ETag가 있는지 확인 (checkNotModified는 응답 ETag를 설정하므로 일치할 때만 호출)
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals(etag) || trimmed.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 프로필 강한 ETag (사용자 ID + 엔티티 버전)
+    private static String profileETag(Long userId, Long version) {
+        return "\"u" + userId + "-v" + version + "\"";
+    }
     
     
     /**
@@ -80,7 +136,7 @@ public class UserController {
      * @return 페이징된 사용자 목록
      */
     @GetMapping("/info/search")
-    public ApiResponseDto<Page<UserInfoResponseDto>> searchUsers(
+    public ApiResponseDto<PageResponseDto<UserInfoResponseDto>> searchUsers(
         @RequestParam(value = "page", defaultValue = "0") Integer page,
         @RequestParam(value = "size", defaultValue = "10") Integer size,
         @RequestParam(value = "name", required = false) String name,
@@ -90,10 +146,25 @@ public class UserController {
         // 검색 조건 DTO 생성 (employeeId는 null로 설정하여 전체 조회)
         UserSearchDto searchDto = new UserSearchDto(page, size, name, email, employeeId);
         
-        // 사용자 검색 실행
-        Page<UserInfoResponseDto> result = userService.searchUsers(searchDto);
+        // 사용자 검색 실행 (LIKE 조회가 커넥션 풀을 모두 점유하지 않도록 동시 실행 제한)
+        Page<UserInfoResponseDto> result = bulkheads.adminSearch().execute(() -> userService.searchUsers(searchDto));
         
-        return ApiResponseDto.createOk(result, "사용자 목록 조회 성공");
+        // Page 전체 대신 필요한 필드만 담은 페이지 DTO로 응답
+        return ApiResponseDto.createOk(PageResponseDto.from(result), "사용자 목록 조회 성공");
+    }
+
+    /**
+     * 사용자 ID / 사원번호 목록으로 이름, 권한 등 요약 정보를 일괄 조회하는 API
+     * (알림/대시보드 서비스의 수신자 표시용)
+     * 
+     * @param batchRequestDto 조회할 ID / 사원번호 목록
+     * @return 조회된 사용자와 존재하지 않는 ID / 사원번호 목록
+     */
+    @PostMapping("/info/batch")
+    public ApiResponseDto<UserBatchResponseDto> findUsersBatch(@RequestBody UserBatchRequestDto batchRequestDto) {
+        // 캐시 미스가 많은 일괄 조회가 커넥션 풀을 모두 점유하지 않도록 동시 실행 제한
+        UserBatchResponseDto result = bulkheads.userLookup().execute(() -> userService.findUsersBatch(batchRequestDto));
+        return ApiResponseDto.createOk(result, "사용자 일괄 조회 성공");
     }
 
     // 사용자 정보 변경
@@ -107,7 +178,8 @@ public class UserController {
             throw new CustomException(ErrorCode.INVALID_TOKEN, "X-User-Id, X-Employee-Id header is required");
         }
 
-        User user = userService.searchUserById(userId);
+        // 권한 판단은 캐시 / Replica가 아닌 Primary 기준
+        User user = userService.searchUserForAuthorization(adminEmployeeId);
         if (!user.getRole().equals("ROOT")) {
             throw new CustomException(ErrorCode.FORBIDDEN, "You are not authorized to change user information");
         }
@@ -116,6 +188,36 @@ public class UserController {
         return ApiResponseDto.createOk(null, "사용자 정보 변경 성공");
     }
     
+    /**
+     * 사용자 정보를 부분 변경하는 API (ROOT 전용)
+     * 
+     * 보낸 필드만 변경하며, 요청의 version이 현재 버전과 다르면(다른 관리자가 먼저 변경) 409를 반환합니다.
+     * 
+     * @param employeeId 대상 사원번호
+     * @param userPatchDto 변경할 필드와 조회 시 받은 version
+     * @return 변경 후 사용자 정보 (새 version 포함)
+     */
+    @PatchMapping("/info/{employeeId}")
+    public ApiResponseDto<UserInfoResponseDto> patchUserInfo(
+            @RequestHeader(value = "X-User-Id", required = false) Long userId,
+            @RequestHeader(value = "X-Employee-Id", required = false) String adminEmployeeId,
+            @PathVariable("employeeId") String employeeId,
+            @RequestBody @Valid UserPatchDto userPatchDto
+    ) {
+        if (userId == null || adminEmployeeId == null || adminEmployeeId.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN, "X-User-Id, X-Employee-Id header is required");
+        }
+
+        // 권한 판단은 캐시 / Replica가 아닌 Primary 기준
+        User user = userService.searchUserForAuthorization(adminEmployeeId);
+        if (!user.getRole().equals("ROOT")) {
+            throw new CustomException(ErrorCode.FORBIDDEN, "You are not authorized to change user information");
+        }
+
+        UserInfoResponseDto updated = userService.patchUserInfo(employeeId, userPatchDto, adminEmployeeId);
+        return ApiResponseDto.createOk(updated, "사용자 정보 변경 성공");
+    }
+
     /**
      * 사용자 비밀번호를 변경하는 API (구현 예정)
      * 
@@ -157,7 +259,8 @@ public class UserController {
             throw new CustomException(ErrorCode.INVALID_TOKEN, "X-User-Id, X-Employee-Id header is required");
         }
 
-        User user = userService.searchUserById(userId);
+        // 권한 판단은 캐시 / Replica가 아닌 Primary 기준
+        User user = userService.searchUserForAuthorization(adminEmployeeId);
         if (!user.getRole().equals("ROOT")) {
             throw new CustomException(ErrorCode.FORBIDDEN, "You are not authorized to delete user");
         }
@@ -165,8 +268,42 @@ public class UserController {
         if(userDeleteDto.getEmployeeId().equals(adminEmployeeId)) {
             throw new CustomException(ErrorCode.FORBIDDEN, "You cannot delete yourself");
         }
-        userService.deleteUser(userDeleteDto);
+        userService.deleteUser(userDeleteDto, adminEmployeeId);
         return ApiResponseDto.createOk(null, "사용자 삭제 성공");
     }
 
+
+    /**
+     * 현재 사용자의 활성 로그인 세션(디바이스) 목록을 조회하는 API
+     *
+     * @param employeeId API Gateway에서 파싱한 사용자 사원번호 (X-Employee-Id 헤더)
+     * @return 로그인 시각 순 세션 목록
+     */
+    @GetMapping("/sessions")
+    public ApiResponseDto<List<UserSessionDto>> getSessions(
+            @RequestHeader(value = "X-Employee-Id", required = false) String employeeId
+    ) {
+        if (employeeId == null || employeeId.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN, "X-Employee-Id header is required");
+        }
+        return ApiResponseDto.createOk(userSessionService.listSessions(employeeId), "세션 목록 조회 성공");
+    }
+
+    /**
+     * 현재 사용자의 모든 로그인 세션을 무효화하는 API (전체 디바이스 로그아웃)
+     *
+     * @param employeeId API Gateway에서 파싱한 사용자 사원번호 (X-Employee-Id 헤더)
+     * @return 무효화 결과
+     */
+    @PostMapping("/sessions/revoke")
+    public ApiResponseDto<String> revokeAllSessions(
+            @RequestHeader(value = "X-Employee-Id", required = false) String employeeId
+    ) {
+        if (employeeId == null || employeeId.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN, "X-Employee-Id header is required");
+        }
+        userService.revokeAllSessions(employeeId);
+        return ApiResponseDto.createOk(null, "전체 세션 로그아웃 성공");
+    }
+
 } 
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.deefacto.user_service.domain.Entitiy;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인증/관리 감사 이벤트 엔티티
+ *
+ * 아래 정적 팩토리 메서드로만 생성하며 사원번호, IP, 짧은 사유 외의 값(비밀번호, 토큰, 사용자 엔티티)은
+ * 받지 않으므로 민감 정보가 기록될 수 없습니다. 컬럼 길이를 넘는 값은 잘라서 보관합니다.
+ * AuditService가 링 버퍼에 모아 JDBC 배치로 저장합니다. (JPA로 저장하지 않음)
+ */
+@Entity
+@Table(name = "audit_event")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuditEvent {
+
+    public enum Type {
+        LOGIN_SUCCESS,
+        LOGIN_FAILURE,
+        LOGOUT,
+        REGISTER,
+        ROLE_CHANGE,
+        DELETE
+    }
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 20)
+    private String eventType; // 이벤트 유형
+
+    @Column(name = "actor_id", length = 20)
+    private String actorId; // 수행자 사번 (로그인/로그아웃은 본인)
+
+    @Column(name = "target_id", length = 20)
+    private String targetId; // 대상 사용자 사번
+
+    @Column(name = "client_ip", length = 45)
+    private String clientIp; // 요청 IP (알 수 없으면 null)
+
+    @Column(name = "detail", length = 100)
+    private String detail; // 실패 사유, 권한 변경 내용 등
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt; // 발생 시간
+
+    // 컬럼 길이 (초과하는 값은 잘라서 저장, 한 건 때문에 배치 전체가 실패하지 않도록)
+    private static final int ID_MAX_LENGTH = 20;
+    private static final int CLIENT_IP_MAX_LENGTH = 45;
+    private static final int DETAIL_MAX_LENGTH = 100;
+
+    private AuditEvent(Type type, String actorId, String targetId, String clientIp, String detail) {
+        this.eventType = type.name();
+        this.actorId = truncate(actorId, ID_MAX_LENGTH);
+        this.targetId = truncate(targetId, ID_MAX_LENGTH);
+        this.clientIp = truncate(clientIp, CLIENT_IP_MAX_LENGTH);
+        this.detail = truncate(detail, DETAIL_MAX_LENGTH);
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public static AuditEvent loginSuccess(String employeeId, String clientIp) {
+        return new AuditEvent(Type.LOGIN_SUCCESS, employeeId, employeeId, clientIp, null);
+    }
+
+    // reason: USER_NOT_FOUND, BAD_PASSWORD, INACTIVE, THROTTLED
+    public static AuditEvent loginFailure(String employeeId, String clientIp, String reason) {
+        return new AuditEvent(Type.LOGIN_FAILURE, employeeId, employeeId, clientIp, reason);
+    }
+
+    public static AuditEvent logout(String employeeId) {
+        return new AuditEvent(Type.LOGOUT, employeeId, employeeId, null, null);
+    }
+
+    public static AuditEvent register(String createdBy, String employeeId, String role) {
+        return new AuditEvent(Type.REGISTER, createdBy, employeeId, null, role);
+    }
+
+    public static AuditEvent roleChange(String updatedBy, String employeeId, String previousRole, String newRole) {
+        return new AuditEvent(Type.ROLE_CHANGE, updatedBy, employeeId, null, previousRole + "->" + newRole);
+    }
+
+    public static AuditEvent delete(String deletedBy, String employeeId) {
+        return new AuditEvent(Type.DELETE, deletedBy, employeeId, null, null);
+    }
+
+    // 로그인 실패의 사번처럼 요청에서 그대로 온 값은 길이 제한이 없음
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+}
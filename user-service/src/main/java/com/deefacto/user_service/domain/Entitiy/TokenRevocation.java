@@ -0,0 +1,42 @@
+package com.deefacto.user_service.domain.Entitiy;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 토큰 일괄 무효화 대기 엔티티
+ * 
+ * 사용자 변경과 같은 트랜잭션에서 저장되며,
+ * TokenRevocationService가 Redis에 반영한 뒤 삭제합니다.
+ */
+@Entity
+@Table(name = "token_revocation")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TokenRevocation {
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false, length = 20)
+    private String employeeId; // 대상 사용자 사번
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt; // 기록 시간
+
+    public TokenRevocation(String employeeId) {
+        this.employeeId = employeeId;
+    }
+}
@@ -1,13 +1,19 @@
 package com.deefacto.user_service.domain.Entitiy;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -17,9 +23,17 @@ import java.time.LocalDateTime;
  * 
  * 사용자의 기본 정보와 인증 정보를 관리합니다.
  * JPA를 통해 데이터베이스의 users 테이블과 매핑됩니다.
+ * 
+ * 사번(employeeId)을 자연 키로 매핑하고, 엔티티/자연 키 모두 2차 캐시에 보관합니다.
+ * (캐시 Region 설정: resources/ehcache.xml)
+ * 2차 캐시는 노드별로 유지되고 노드 간 무효화가 없으므로, 인증 판단(로그인 / 토큰 재발급 / 비밀번호 변경)은
+ * 캐시를 거치지 않는 UserRepository.findByEmployeeIdFromDatabase로 조회합니다.
  */
 @Entity
 @Table(name = "user")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-natural-id")
 public class User {
     @Id
     @Column(name = "id")
@@ -27,6 +41,7 @@ public class User {
     @Getter @Setter
     private Long id;
 
+    @NaturalId
     @Column(name = "employee_id", nullable = false, unique = true)
     @Getter @Setter
     private String employeeId; // 사번
@@ -89,5 +104,10 @@ public class User {
     @Getter @Setter
     private String updated_pr; // 수정자
 
+    // 낙관적 잠금 버전 (변경될 때마다 1씩 증가, 프로필 ETag 생성에도 사용)
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    @Getter
+    private Long version;
     
 }
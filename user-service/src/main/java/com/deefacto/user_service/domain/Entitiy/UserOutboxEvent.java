@@ -0,0 +1,50 @@
+package com.deefacto.user_service.domain.Entitiy;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 변경 이벤트 Outbox 엔티티
+ * 
+ * 사용자 변경과 같은 트랜잭션에서 저장되며,
+ * UserChangeOutboxRelay가 Kafka로 발행한 뒤 삭제합니다.
+ */
+@Entity
+@Table(name = "user_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserOutboxEvent {
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "aggregate_id", nullable = false, length = 20)
+    private String aggregateId; // 대상 사용자 사번 (Kafka 메시지 키)
+
+    @Column(name = "event_type", nullable = false, length = 20)
+    private String eventType; // 이벤트 유형
+
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload; // 사용자 스냅샷 JSON (삭제 이벤트는 null)
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt; // 기록 시간
+
+    public UserOutboxEvent(String aggregateId, String eventType, String payload) {
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+}
@@ -0,0 +1,27 @@
+package com.deefacto.user_service.domain.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 토큰 일괄 검증 요청 DTO
+ *
+ * 최대 개수는 token-introspection.batch-max-size
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenIntrospectRequestDto {
+
+    /**
+     * 검증할 JWT 토큰 목록 (응답은 같은 순서)
+     */
+    @NotEmpty(message = "tokens는 필수입니다.")
+    private List<String> tokens;
+}
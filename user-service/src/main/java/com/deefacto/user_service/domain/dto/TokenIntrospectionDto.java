@@ -0,0 +1,39 @@
+package com.deefacto.user_service.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 토큰 1개에 대한 검증 결과 DTO
+ *
+ * INVALID(서명/형식 오류)를 제외하면 토큰 클레임을 함께 반환합니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospectionDto {
+
+    public enum Status {
+        ACTIVE,   // 사용 가능
+        REVOKED,  // 로그아웃 또는 epoch 변경으로 무효화
+        EXPIRED,  // 만료
+        INVALID   // 서명/형식 오류
+    }
+
+    private Status status;
+    private String employeeId; // 사번 (subject)
+    private Long userId;       // 사용자 ID
+    private String type;       // 토큰 타입 (access/refresh)
+    private Long epoch;        // 토큰 epoch
+    private Long issuedAt;     // 발급 시각 (epoch seconds)
+    private Long expiresAt;    // 만료 시각 (epoch seconds)
+
+    public static TokenIntrospectionDto invalid() {
+        return TokenIntrospectionDto.builder().status(Status.INVALID).build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.deefacto.user_service.domain.dto;
+
+/**
+ * 권한/활성여부 변경 판단용 조회 결과 (권한, 활성 여부만 조회)
+ */
+public interface UserAccessView {
+    String getRole();
+
+    Boolean getActive();
+}
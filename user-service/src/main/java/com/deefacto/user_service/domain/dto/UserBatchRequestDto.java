@@ -0,0 +1,30 @@
+package com.deefacto.user_service.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 조회 요청 DTO
+ *
+ * ID와 사원번호를 섞어서 요청할 수 있습니다. (합계 최대 개수는 user-lookup.batch-max-size)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchRequestDto {
+
+    /**
+     * 조회할 사용자 ID 목록 (선택사항)
+     */
+    private List<Long> ids;
+
+    /**
+     * 조회할 사원번호 목록 (선택사항)
+     */
+    private List<String> employeeIds;
+}
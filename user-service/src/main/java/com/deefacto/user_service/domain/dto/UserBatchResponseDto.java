@@ -0,0 +1,22 @@
+package com.deefacto.user_service.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 조회 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchResponseDto {
+    // 조회된 사용자 (캐시와 같은 요약 정보: id, 사원번호, 이름, 권한, 구역, 근무시간)
+    private List<UserCacheDto> users;
+    // 존재하지 않는 사용자 ID
+    private List<Long> notFoundIds;
+    // 존재하지 않는 사원번호
+    private List<String> notFoundEmployeeIds;
+}
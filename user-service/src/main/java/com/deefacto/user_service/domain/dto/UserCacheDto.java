@@ -1,5 +1,6 @@
 package com.deefacto.user_service.domain.dto;
 
+import com.deefacto.user_service.domain.Entitiy.User;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,4 +22,18 @@ public class UserCacheDto {
     private String scope;
     // 근무시간
     private String shift;
+    // 엔티티 버전 (프로필 ETag 비교용)
+    private Long version;
+
+    public static UserCacheDto from(User user) {
+        return new UserCacheDto(
+                user.getId(),
+                user.getEmployeeId(),
+                user.getName(),
+                user.getRole(),
+                user.getScope(),
+                user.getShift(),
+                user.getVersion()
+        );
+    }
 }
@@ -86,6 +86,11 @@ public class UserInfoResponseDto {
      * 수정자
      */
     private String updated_pr;
+
+    /**
+     * 버전 (부분 변경 PATCH 요청 시 그대로 전달)
+     */
+    private Long version;
     
     /**
      * User 엔티티를 UserInfoResponseDto로 변환하는 정적 메서드
@@ -113,6 +118,7 @@ public class UserInfoResponseDto {
             .created_pr(user.getCreated_pr())
             .isActive(user.isActive())
             .updated_pr(user.getUpdated_pr())
+            .version(user.getVersion())
             .build();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.deefacto.user_service.domain.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 사용자 정보 부분 변경(PATCH) DTO
+ *
+ * 값이 있는 필드만 변경하고, null인 필드는 기존 값을 유지합니다.
+ * version은 조회 시 받은 사용자 버전으로, 그 사이 다른 관리자가 변경했다면 409를 반환합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPatchDto {
+
+    @NotNull(message = "Version is compulsory")
+    private Long version;
+
+    private String name;
+
+    @Email(message = "Invalid email address")
+    private String email;
+
+    private String gender;
+
+    private String department;
+
+    private String position;
+
+    private String role;
+
+    private String scope;
+
+    private String shift;
+
+    // 활성 여부 (보내지 않으면 유지)
+    private Boolean active;
+
+    // 변경할 필드가 하나도 없는지 여부
+    public boolean isEmpty() {
+        return name == null && email == null && gender == null && department == null && position == null
+                && role == null && scope == null && shift == null && active == null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.deefacto.user_service.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알림 수신자 소속(구역/근무시간/활성여부)이 바뀔 수 있는 사용자 변경 이벤트 (애플리케이션 내부 이벤트)
+ *
+ * 트랜잭션 커밋 후 수신자 집합(Redis)에 반영됩니다.
+ * 삭제된 사용자는 active = false로 발행합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserRecipientChangedEvent {
+    // 사용자 ID (수신자 집합의 원소)
+    private Long userId;
+    // 담당 구역 목록 (콤마 구분)
+    private String scope;
+    // 근무시간
+    private String shift;
+    // 활성 여부
+    private boolean active;
+}
@@ -0,0 +1,12 @@
+package com.deefacto.user_service.domain.dto;
+
+/**
+ * 수신자 집합 재구성용 조회 결과 (id, 구역 목록, 근무시간만 조회)
+ */
+public interface UserRecipientView {
+    Long getId();
+
+    String getScope();
+
+    String getShift();
+}
@@ -0,0 +1,22 @@
+package com.deefacto.user_service.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 세션 조회 응답 DTO
+ *
+ * 토큰 원문과 세션 ID는 노출하지 않고, 세션 ID에서 파생된 식별자만 내려줍니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSessionDto {
+    // 세션 식별자 (로그인 세션 ID 해시 앞부분, 토큰 재발급 후에도 같음)
+    private String sessionId;
+    // 로그인 시각
+    private LocalDateTime loginAt;
+}
@@ -0,0 +1,28 @@
+package com.deefacto.user_service.domain.repository;
+
+import com.deefacto.user_service.domain.Entitiy.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    /**
+     * 재시도할 무효화 요청을 기록 순서대로 조회하는 메서드
+     * 
+     * 커밋 직후 반영 중인 요청을 중복 처리하지 않도록 기준 시각 이전에 기록된 요청만 조회합니다.
+     * Replica 지연으로 이미 반영/삭제한 요청을 다시 처리하지 않도록
+     * 읽기 전용이 아닌 짧은 트랜잭션(Primary)으로 조회합니다.
+     * 
+     * @param before 기준 시각
+     * @param limit 최대 조회 건수
+     * @return 재시도 대상 요청 목록 (id 오름차순)
+     */
+    @Transactional
+    @Query(value = "SELECT * FROM token_revocation WHERE created_at < :before ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<TokenRevocation> findBatchForRetry(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
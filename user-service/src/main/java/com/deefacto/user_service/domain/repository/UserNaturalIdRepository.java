@@ -0,0 +1,32 @@
+package com.deefacto.user_service.domain.repository;
+
+import com.deefacto.user_service.domain.Entitiy.User;
+
+/**
+ * 사번(자연 키) 기반 사용자 조회 리포지토리
+ */
+public interface UserNaturalIdRepository {
+
+    /**
+     * 사번으로 사용자를 조회합니다.
+     * 
+     * 자연 키 캐시 → 엔티티 2차 캐시 → DB 순으로 조회하므로
+     * 캐시 TTL 내 반복 조회는 DB까지 가지 않습니다.
+     * 
+     * @param employeeId 사원번호
+     * @return 사용자 (없으면 null)
+     */
+    User findByEmployeeId(String employeeId);
+
+    /**
+     * 2차 캐시를 거치지 않고 DB에서 사번으로 사용자를 조회합니다.
+     * 
+     * 2차 캐시는 노드별로 유지되어 다른 노드의 변경(비밀번호, 권한, 활성 여부)이 TTL 동안 보이지 않으므로
+     * 로그인 / 토큰 재발급 / 비밀번호 변경처럼 인증 판단에 쓰이는 조회에 사용합니다.
+     * 조회 결과로 이 노드의 캐시는 갱신됩니다.
+     * 
+     * @param employeeId 사원번호
+     * @return 사용자 (없으면 null)
+     */
+    User findByEmployeeIdFromDatabase(String employeeId);
+}
@@ -0,0 +1,52 @@
+package com.deefacto.user_service.domain.repository;
+
+import com.deefacto.user_service.domain.Entitiy.User;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * UserNaturalIdRepository 구현체
+ * 
+ * JPQL 파생 쿼리는 2차 캐시를 타지 않으므로 Hibernate 자연 키 API로 조회합니다.
+ */
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 조회 결과가 이후 수정(save)에 쓰이므로 readOnly 트랜잭션으로 묶지 않음
+    // (readOnly 세션에서 읽은 엔티티는 변경 감지 대상에서 제외됨)
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public User findByEmployeeId(String employeeId) {
+        if (employeeId == null) {
+            return null;
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .load(employeeId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public User findByEmployeeIdFromDatabase(String employeeId) {
+        if (employeeId == null) {
+            return null;
+        }
+        List<User> users = entityManager
+                .createQuery("SELECT u FROM User u WHERE u.employeeId = :employeeId", User.class)
+                .setParameter("employeeId", employeeId)
+                .setHint(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS)
+                .setHint(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.REFRESH)
+                .getResultList();
+        return users.isEmpty() ? null : users.get(0);
+    }
+}
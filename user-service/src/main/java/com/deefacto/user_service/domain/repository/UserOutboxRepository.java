@@ -0,0 +1,26 @@
+package com.deefacto.user_service.domain.repository;
+
+import com.deefacto.user_service.domain.Entitiy.UserOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface UserOutboxRepository extends JpaRepository<UserOutboxEvent, Long> {
+
+    /**
+     * 발행할 이벤트를 기록 순서대로 조회하는 메서드
+     * 
+     * 릴레이는 리더 락을 얻은 인스턴스 하나만 실행하므로 행 잠금 없이 조회합니다.
+     * Replica 지연으로 이미 발행/삭제한 이전 스냅샷을 다시 발행하지 않도록
+     * 읽기 전용이 아닌 짧은 트랜잭션(Primary)으로 조회합니다.
+     * 
+     * @param limit 최대 조회 건수
+     * @return 발행 대기 이벤트 목록 (id 오름차순)
+     */
+    @Transactional
+    @Query(value = "SELECT * FROM user_outbox ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<UserOutboxEvent> findBatchForPublish(@Param("limit") int limit);
+}
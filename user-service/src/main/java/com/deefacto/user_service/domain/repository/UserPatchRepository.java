@@ -0,0 +1,21 @@
+package com.deefacto.user_service.domain.repository;
+
+import com.deefacto.user_service.domain.dto.UserPatchDto;
+
+/**
+ * 사용자 부분 변경 리포지토리
+ */
+public interface UserPatchRepository {
+
+    /**
+     * 전달된 필드만 UPDATE 1회로 변경합니다. (사전 SELECT 없음)
+     * 
+     * WHERE 절에 버전을 포함하므로, 그 사이 다른 요청이 먼저 변경했다면 0을 반환합니다.
+     * 
+     * @param employeeId 대상 사원번호
+     * @param patch 변경할 필드와 기대 버전
+     * @param updatedBy 변경을 수행한 관리자의 사원번호
+     * @return 변경된 행 수 (0이면 사용자가 없거나 버전 불일치)
+     */
+    int patchByEmployeeId(String employeeId, UserPatchDto patch, String updatedBy);
+}
@@ -0,0 +1,99 @@
+package com.deefacto.user_service.domain.repository;
+
+import com.deefacto.user_service.domain.Entitiy.User;
+import com.deefacto.user_service.domain.dto.UserPatchDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UserPatchRepository 구현체
+ * 
+ * 전달된 필드만 SET 절에 넣은 UPDATE 1회로 변경하고 버전을 1 올립니다.
+ * 
+ * JPQL/Criteria / 네이티브 쿼리 UPDATE는 Hibernate가 2차 캐시 Region 전체를 비우므로,
+ * 영속성 컨텍스트의 변경을 먼저 flush한 뒤 JDBC로 직접 실행하고 변경된 사용자 한 명의 엔티티 캐시만 제거합니다.
+ * (자연 키 캐시의 사번 → ID 매핑은 사번을 바꾸지 않으므로 그대로 유효)
+ * 다른 인스턴스의 2차 캐시는 커밋 후 UserEntityCacheService가 제거합니다.
+ */
+public class UserPatchRepositoryImpl implements UserPatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int patchByEmployeeId(String employeeId, UserPatchDto patch, String updatedBy) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        putIfPresent(columns, "name", patch.getName());
+        putIfPresent(columns, "email", patch.getEmail());
+        putIfPresent(columns, "gender", patch.getGender());
+        putIfPresent(columns, "department", patch.getDepartment());
+        putIfPresent(columns, "position", patch.getPosition());
+        putIfPresent(columns, "role", patch.getRole());
+        putIfPresent(columns, "scope", patch.getScope());
+        putIfPresent(columns, "shift", patch.getShift());
+        putIfPresent(columns, "is_active", patch.getActive());
+        columns.put("updated_at", LocalDateTime.now());
+        columns.put("updated_pr", updatedBy);
+
+        StringBuilder sql = new StringBuilder("UPDATE user SET ");
+        for (String column : columns.keySet()) {
+            sql.append(column).append(" = ?, ");
+        }
+        sql.append("version = version + 1 WHERE employee_id = ? AND version = ?");
+        List<Object> parameters = new ArrayList<>(columns.values());
+        parameters.add(employeeId);
+        parameters.add(patch.getVersion());
+
+        // Hibernate를 거치지 않는 UPDATE이므로 이 트랜잭션에서 변경한 엔티티를 먼저 반영
+        entityManager.flush();
+        int updated = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+                for (int i = 0; i < parameters.size(); i++) {
+                    statement.setObject(i + 1, parameters.get(i));
+                }
+                return statement.executeUpdate();
+            }
+        });
+        if (updated > 0) {
+            evictAndReload(employeeId);
+        }
+        return updated;
+    }
+
+    // 변경된 사용자의 엔티티 캐시만 제거하고, 이미 영속성 컨텍스트에 있는 엔티티는 DB에서 다시 읽음
+    private void evictAndReload(String employeeId) {
+        List<Long> ids = entityManager
+                .createQuery("SELECT u.id FROM User u WHERE u.employeeId = :employeeId", Long.class)
+                .setParameter("employeeId", employeeId)
+                .getResultList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        Long id = ids.get(0);
+        entityManager.getEntityManagerFactory().getCache().evict(User.class, id);
+
+        // 관리 중인 엔티티가 있으면 초기화된 인스턴스가 반환됨 (없으면 조회 없이 프록시만 생성)
+        User managed = entityManager.getReference(User.class, id);
+        if (Hibernate.isInitialized(managed)) {
+            entityManager.refresh(managed);
+        }
+    }
+
+    private static void putIfPresent(Map<String, Object> columns, String column, Object value) {
+        if (value != null) {
+            columns.put(column, value);
+        }
+    }
+}
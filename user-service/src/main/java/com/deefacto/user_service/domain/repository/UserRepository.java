@@ -7,11 +7,19 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.deefacto.user_service.domain.Entitiy.User;
+import com.deefacto.user_service.domain.dto.UserAccessView;
+import com.deefacto.user_service.domain.dto.UserRecipientView;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-    User findByEmployeeId(String employeeId);
+/**
+ * 사용자 리포지토리
+ * 
+ * findByEmployeeId는 UserNaturalIdRepository에서 자연 키 캐시를 거쳐 조회합니다.
+ * 부분 변경(patchByEmployeeId)은 UserPatchRepository에서 UPDATE 1회로 처리합니다.
+ */
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository, UserPatchRepository {
     
     /**
      * 조건부 검색을 위한 메서드
@@ -42,5 +50,56 @@ public interface UserRepository extends JpaRepository<User, Long> {
             "AND u.isActive = true")
     List<Long> findUserIdsByScopeAndShift(@Param("scope") String scope, @Param("shift") String shift);
 
+    /**
+     * 수신자 집합 전체 재구성을 위해 활성 사용자의 id, 구역 목록, 근무시간을 한 번에 조회
+     *
+     * @return 활성 사용자 수신자 정보 목록
+     */
+    @Query("SELECT u.id AS id, u.scope AS scope, u.shift AS shift FROM User u WHERE u.isActive = true")
+    List<UserRecipientView> findActiveRecipients();
+
+    /**
+     * 수신자 집합 재구성 중 변경된 사용자만 다시 반영하기 위해 활성 사용자 정보를 조회
+     *
+     * @param ids 사용자 ID 목록 (비어 있으면 안 됨)
+     * @return 활성 사용자 수신자 정보 목록 (비활성/삭제된 사용자는 포함되지 않음)
+     */
+    @Query("SELECT u.id AS id, u.scope AS scope, u.shift AS shift FROM User u WHERE u.id IN :ids AND u.isActive = true")
+    List<UserRecipientView> findActiveRecipientsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 일괄 조회 시 캐시에 없는 사용자를 한 번에 조회
+     *
+     * @param ids 사용자 ID 목록 (비어 있으면 안 됨)
+     * @param employeeIds 사원번호 목록 (비어 있으면 안 됨)
+     * @return 조회된 사용자 목록
+     */
+    @Query("SELECT u FROM User u WHERE u.id IN :ids OR u.employeeId IN :employeeIds")
+    List<User> findByIdInOrEmployeeIdIn(@Param("ids") Collection<Long> ids,
+                                        @Param("employeeIds") Collection<String> employeeIds);
+
+    List<User> findByEmployeeIdIn(Collection<String> employeeIds);
+
+    boolean existsByEmployeeId(String employeeId);
+
+    /**
+     * 권한/활성여부 변경 시 토큰 무효화 판단을 위해 변경 전 값만 조회
+     *
+     * @param employeeId 사원번호
+     * @return 권한과 활성 여부 (사용자가 없으면 null)
+     */
+    @Query("SELECT u.role AS role, u.isActive AS active FROM User u WHERE u.employeeId = :employeeId")
+    UserAccessView findAccessByEmployeeId(@Param("employeeId") String employeeId);
+
+    /**
+     * 교대 전 캐시 예열을 위해 근무시간별 활성 사용자를 id 순으로 나눠 조회 (키셋 페이징)
+     *
+     * @param shift 근무시간
+     * @param afterId 이전 배치의 마지막 id (처음에는 0)
+     * @param pageable 배치 크기 (정렬은 쿼리에서 지정)
+     * @return afterId 다음부터의 활성 사용자 목록
+     */
+    @Query("SELECT u FROM User u WHERE u.shift = :shift AND u.isActive = true AND u.id > :afterId ORDER BY u.id")
+    List<User> findActiveByShiftAfterId(@Param("shift") String shift, @Param("afterId") Long afterId, Pageable pageable);
 
 }
@@ -0,0 +1,56 @@
+package com.deefacto.user_service.remote.dto;
+
+import com.deefacto.user_service.domain.Entitiy.User;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * user.changed 토픽으로 발행되는 사용자 스냅샷 메시지
+ * 
+ * compacted 토픽이므로 키(사번)별 최신 스냅샷만 유지되며,
+ * 사용자가 삭제되면 값이 null인 tombstone이 발행됩니다.
+ * 비밀번호는 포함하지 않습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserChangedEvent {
+
+    // 이벤트 유형
+    public enum Type {
+        CREATED, UPDATED, PASSWORD_CHANGED, DELETED
+    }
+
+    private Type eventType;
+    private Long id;
+    private String employeeId;
+    private String name;
+    private String email;
+    private String department;
+    private String position;
+    private String role;
+    private String scope;
+    private String shift;
+    private boolean active;
+    private LocalDateTime occurredAt;
+
+    public static UserChangedEvent of(User user, Type eventType) {
+        UserChangedEvent event = new UserChangedEvent();
+        event.setEventType(eventType);
+        event.setId(user.getId());
+        event.setEmployeeId(user.getEmployeeId());
+        event.setName(user.getName());
+        event.setEmail(user.getEmail());
+        event.setDepartment(user.getDepartment());
+        event.setPosition(user.getPosition());
+        event.setRole(user.getRole());
+        event.setScope(user.getScope());
+        event.setShift(user.getShift());
+        event.setActive(user.isActive());
+        event.setOccurredAt(LocalDateTime.now());
+        return event;
+    }
+}
@@ -1,5 +1,6 @@
 package com.deefacto.user_service.remote.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.Setter;
 import java.util.List;
@@ -20,5 +21,11 @@ public class UserMessage {
     public static class UserResponseMessage {
         private Long notificationId;
         private List<Long> userIds; // 조회된 userId 리스트
+
+        // 수신자가 많아 여러 메시지로 나눠 보낸 경우에만 설정 (0부터 시작하는 조각 번호 / 전체 조각 수)
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Integer chunkIndex;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Integer chunkCount;
     }
 }
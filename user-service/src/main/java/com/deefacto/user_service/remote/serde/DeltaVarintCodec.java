@@ -0,0 +1,173 @@
+package com.deefacto.user_service.remote.serde;
+
+import com.deefacto.user_service.remote.dto.UserMessage;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * user.response 메시지의 delta + varint 바이너리 코덱
+ *
+ * 레이아웃:
+ * [MAGIC][VERSION][flags][notificationId?][chunkIndex, chunkCount?][count][id delta ...]
+ *
+ * - userId 목록은 오름차순으로 정렬한 뒤 앞 값과의 차이만 기록합니다.
+ *   (첫 값은 zigzag, 이후 차이는 음수가 없으므로 그대로 unsigned varint)
+ * - 연속된 사번대의 userId는 대부분 1바이트로 표현되며, boxing 없이 long[]로 바로 인코딩/디코딩합니다.
+ * - 수신 측에서 순서는 의미가 없으므로 정렬된 순서로 복원됩니다.
+ */
+public final class DeltaVarintCodec {
+
+    static final byte MAGIC = (byte) 0xD1;
+    static final byte VERSION = 1;
+
+    private static final int FLAG_NOTIFICATION_ID = 1;
+    private static final int FLAG_CHUNK = 1 << 1;
+    private static final int FLAG_NULL_USER_IDS = 1 << 2;
+
+    // 고정 헤더 + notificationId + 조각 정보 + 개수의 최대 크기
+    static final int MAX_HEADER_BYTES = 3 + 10 + 5 + 5 + 5;
+    // userId 하나의 최대 크기 (varlong)
+    static final int MAX_BYTES_PER_ID = 10;
+
+    private DeltaVarintCodec() {
+    }
+
+    public static byte[] encode(UserMessage.UserResponseMessage message) {
+        List<Long> userIds = message.getUserIds();
+        long[] ids = userIds == null ? new long[0] : toSortedArray(userIds);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(MAX_HEADER_BYTES + ids.length * 2);
+        int flags = 0;
+        if (message.getNotificationId() != null) {
+            flags |= FLAG_NOTIFICATION_ID;
+        }
+        if (message.getChunkIndex() != null && message.getChunkCount() != null) {
+            flags |= FLAG_CHUNK;
+        }
+        if (userIds == null) {
+            flags |= FLAG_NULL_USER_IDS;
+        }
+
+        out.write(MAGIC);
+        out.write(VERSION);
+        out.write(flags);
+        if ((flags & FLAG_NOTIFICATION_ID) != 0) {
+            writeVarLong(out, zigzag(message.getNotificationId()));
+        }
+        if ((flags & FLAG_CHUNK) != 0) {
+            writeVarLong(out, message.getChunkIndex());
+            writeVarLong(out, message.getChunkCount());
+        }
+        writeVarLong(out, ids.length);
+
+        long previous = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (i == 0) {
+                writeVarLong(out, zigzag(ids[0]));
+            } else {
+                writeVarLong(out, ids[i] - previous);
+            }
+            previous = ids[i];
+        }
+        return out.toByteArray();
+    }
+
+    public static UserMessage.UserResponseMessage decode(byte[] data) {
+        if (!isEncoded(data)) {
+            throw new SerializationException("delta-varint 형식이 아닌 user.response 메시지");
+        }
+        if (data[1] != VERSION) {
+            throw new SerializationException("지원하지 않는 delta-varint 버전: " + data[1]);
+        }
+
+        Reader reader = new Reader(data, 3);
+        int flags = data[2];
+        UserMessage.UserResponseMessage message = new UserMessage.UserResponseMessage();
+        if ((flags & FLAG_NOTIFICATION_ID) != 0) {
+            message.setNotificationId(unzigzag(reader.readVarLong()));
+        }
+        if ((flags & FLAG_CHUNK) != 0) {
+            message.setChunkIndex((int) reader.readVarLong());
+            message.setChunkCount((int) reader.readVarLong());
+        }
+
+        int count = (int) reader.readVarLong();
+        if (count < 0 || count > data.length) {
+            throw new SerializationException("잘못된 userId 개수: " + count);
+        }
+        if ((flags & FLAG_NULL_USER_IDS) != 0) {
+            return message;
+        }
+
+        List<Long> userIds = new ArrayList<>(count);
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            long value = i == 0 ? unzigzag(reader.readVarLong()) : previous + reader.readVarLong();
+            userIds.add(value);
+            previous = value;
+        }
+        message.setUserIds(userIds);
+        return message;
+    }
+
+    /**
+     * 헤더가 없는 레코드를 위한 형식 판별 (JSON은 '{' 또는 공백으로 시작)
+     */
+    public static boolean isEncoded(byte[] data) {
+        return data != null && data.length >= 3 && data[0] == MAGIC;
+    }
+
+    static long[] toSortedArray(List<Long> userIds) {
+        long[] ids = new long[userIds.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = userIds.get(i);
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        private Reader(byte[] data, int position) {
+            this.data = data;
+            this.position = position;
+        }
+
+        private long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= data.length) {
+                    throw new SerializationException("delta-varint 메시지가 중간에 끝남");
+                }
+                byte b = data[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new SerializationException("잘못된 varint 값");
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.deefacto.user_service.remote.serde;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * user.request / user.response 메시지 인코딩 협상 규칙
+ *
+ * - 요청자는 user.request 레코드에 ACCEPT_HEADER로 받을 인코딩을 지정합니다. (없으면 JSON)
+ * - User Service는 user.response 레코드에 CONTENT_HEADER로 실제 인코딩을 표시합니다.
+ */
+public final class UserMessageEncoding {
+
+    // 요청자가 받고 싶은 응답 인코딩
+    public static final String ACCEPT_HEADER = "user-accept-encoding";
+
+    // 응답 메시지의 실제 인코딩
+    public static final String CONTENT_HEADER = "user-content-encoding";
+
+    // 기존 JSON 인코딩 (기본값)
+    public static final String JSON = "json";
+
+    // 정렬된 userId의 차분을 varint로 기록하는 바이너리 인코딩
+    public static final String DELTA_VARINT = "delta-varint";
+
+    private UserMessageEncoding() {
+    }
+
+    /**
+     * 요청 헤더 값으로 응답 인코딩을 결정합니다. 지원하지 않는 값이면 JSON
+     */
+    public static String negotiate(byte[] acceptHeader) {
+        if (acceptHeader == null) {
+            return JSON;
+        }
+        String accept = new String(acceptHeader, StandardCharsets.UTF_8);
+        for (String candidate : accept.split(",")) {
+            if (DELTA_VARINT.equalsIgnoreCase(candidate.trim())) {
+                return DELTA_VARINT;
+            }
+        }
+        return JSON;
+    }
+
+    /**
+     * 레코드 헤더가 바이너리 인코딩을 나타내는지 확인합니다.
+     */
+    public static boolean isDeltaVarint(Headers headers) {
+        if (headers == null) {
+            return false;
+        }
+        Header header = headers.lastHeader(CONTENT_HEADER);
+        return header != null && DELTA_VARINT.equals(new String(header.value(), StandardCharsets.UTF_8));
+    }
+}
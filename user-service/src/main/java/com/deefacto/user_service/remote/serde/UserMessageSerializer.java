@@ -0,0 +1,27 @@
+package com.deefacto.user_service.remote.serde;
+
+import com.deefacto.user_service.remote.dto.UserMessage;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+/**
+ * User Service 프로듀서 기본 value serializer
+ *
+ * user.response 레코드에 delta-varint 인코딩 헤더가 붙어 있으면 바이너리로,
+ * 이미 직렬화된 byte[](DLT로 옮기는 원본 레코드 등)는 그대로,
+ * 그 외의 모든 메시지는 기존과 같이 JSON으로 직렬화합니다.
+ */
+public class UserMessageSerializer extends JsonSerializer<Object> {
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        // JSON으로 감싸면 base64 문자열이 되어 원본 레코드를 읽을 수 없음
+        if (data instanceof byte[] raw) {
+            return raw;
+        }
+        if (data instanceof UserMessage.UserResponseMessage response && UserMessageEncoding.isDeltaVarint(headers)) {
+            return DeltaVarintCodec.encode(response);
+        }
+        return super.serialize(topic, headers, data);
+    }
+}
@@ -0,0 +1,59 @@
+package com.deefacto.user_service.remote.serde;
+
+import com.deefacto.user_service.remote.dto.UserMessage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 수신자 목록이 큰 user.response 메시지를 브로커 메시지 크기 제한 이하로 나누는 유틸
+ *
+ * userId 하나의 최대 인코딩 크기로 조각당 개수를 보수적으로 계산하므로
+ * 직렬화를 여러 번 시도하지 않고 한 번에 나눕니다.
+ * 나누지 않아도 되는 메시지는 조각 정보 없이 그대로 반환합니다.
+ */
+public final class UserResponseChunker {
+
+    // JSON: 부호 포함 최대 20자 (Long.MIN_VALUE) + 구분자
+    private static final int JSON_MAX_BYTES_PER_ID = 21;
+    // JSON: 필드 이름, notificationId, 조각 정보 등
+    private static final int JSON_ENVELOPE_BYTES = 128;
+
+    private UserResponseChunker() {
+    }
+
+    public static List<UserMessage.UserResponseMessage> split(UserMessage.UserResponseMessage response,
+                                                              String encoding,
+                                                              int maxMessageBytes) {
+        List<Long> userIds = response.getUserIds();
+        boolean binary = UserMessageEncoding.DELTA_VARINT.equals(encoding);
+        int perChunk = binary
+                ? (maxMessageBytes - DeltaVarintCodec.MAX_HEADER_BYTES) / DeltaVarintCodec.MAX_BYTES_PER_ID
+                : (maxMessageBytes - JSON_ENVELOPE_BYTES) / JSON_MAX_BYTES_PER_ID;
+        perChunk = Math.max(1, perChunk);
+
+        if (userIds == null || userIds.size() <= perChunk) {
+            return List.of(response);
+        }
+
+        // 바이너리는 정렬된 연속 구간으로 나눠야 조각마다 차분이 작게 유지됨
+        List<Long> source = userIds;
+        if (binary) {
+            long[] sorted = DeltaVarintCodec.toSortedArray(userIds);
+            source = Arrays.stream(sorted).boxed().toList();
+        }
+
+        int chunkCount = (source.size() + perChunk - 1) / perChunk;
+        List<UserMessage.UserResponseMessage> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            UserMessage.UserResponseMessage chunk = new UserMessage.UserResponseMessage();
+            chunk.setNotificationId(response.getNotificationId());
+            chunk.setUserIds(source.subList(i * perChunk, Math.min(source.size(), (i + 1) * perChunk)));
+            chunk.setChunkIndex(i);
+            chunk.setChunkCount(chunkCount);
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+}
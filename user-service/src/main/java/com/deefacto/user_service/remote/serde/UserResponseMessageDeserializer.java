@@ -0,0 +1,45 @@
+package com.deefacto.user_service.remote.serde;
+
+import com.deefacto.user_service.remote.dto.UserMessage;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+/**
+ * user.response 메시지 deserializer (수신 측 서비스용)
+ *
+ * CONTENT_HEADER 또는 선두 MAGIC 바이트로 delta-varint 여부를 판단하고,
+ * 아니면 JSON으로 역직렬화합니다.
+ */
+public class UserResponseMessageDeserializer implements Deserializer<UserMessage.UserResponseMessage> {
+
+    private final JsonDeserializer<UserMessage.UserResponseMessage> jsonDeserializer =
+            new JsonDeserializer<>(UserMessage.UserResponseMessage.class, false);
+
+    @Override
+    public UserMessage.UserResponseMessage deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (DeltaVarintCodec.isEncoded(data)) {
+            return DeltaVarintCodec.decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public UserMessage.UserResponseMessage deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (UserMessageEncoding.isDeltaVarint(headers) || DeltaVarintCodec.isEncoded(data)) {
+            return DeltaVarintCodec.decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
@@ -0,0 +1,131 @@
+package com.deefacto.user_service.remote.service;
+
+import com.deefacto.user_service.common.bulkhead.Bulkheads;
+import com.deefacto.user_service.common.redis.RedisLeaderLock;
+import com.deefacto.user_service.config.UserOutboxConfig;
+import com.deefacto.user_service.domain.Entitiy.UserOutboxEvent;
+import com.deefacto.user_service.domain.repository.UserOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Outbox 테이블의 사용자 변경 이벤트를 Kafka(user.changed)로 발행하는 릴레이
+ *
+ * 처리 과정:
+ * 1. 리더 락(leader:user-outbox.relay)을 얻은 인스턴스만 실행 (같은 사용자의 이벤트 순서 유지)
+ * 2. 발행 대기 이벤트를 id 순으로 배치 조회 (짧은 트랜잭션)
+ * 3. 트랜잭션 밖에서 배치 전체를 비동기로 전송한 뒤 한 번에 결과 대기
+ * 4. 모두 성공하면 발행한 행을 한 번의 DELETE로 삭제 (짧은 트랜잭션)
+ *
+ * Kafka 응답을 기다리는 동안 DB 커넥션과 행 잠금을 잡지 않고, 조회 / 삭제는 background bulkhead 안에서 실행하므로
+ * 로그인 등 다른 요청의 커넥션을 빼앗지 않습니다.
+ * Redis 장애로 락을 얻지 못하면 이벤트는 outbox에 남아 있다가 복구 후 발행됩니다.
+ *
+ * 전송에 실패하면 행을 남겨두고 다음 주기에 배치 전체를 다시 발행합니다.
+ * (at-least-once, 같은 스냅샷이 중복 발행될 수 있음)
+ * 사용자 API 요청 스레드는 Kafka 전송을 기다리지 않습니다.
+ */
+@Slf4j
+@Component
+public class UserChangeOutboxRelay {
+
+    private static final String LOCK_NAME = "user-outbox.relay";
+
+    private final UserOutboxRepository userOutboxRepository;
+    private final UserOutboxConfig userOutboxConfig;
+    private final DefaultKafkaProducerFactory<String, String> producerFactory;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final RedisLeaderLock leaderLock;
+    private final Bulkheads bulkheads;
+
+    public UserChangeOutboxRelay(UserOutboxRepository userOutboxRepository,
+                                 UserOutboxConfig userOutboxConfig,
+                                 KafkaProperties kafkaProperties,
+                                 ObjectProvider<SslBundles> sslBundles,
+                                 RedisLeaderLock leaderLock,
+                                 Bulkheads bulkheads) {
+        this.userOutboxRepository = userOutboxRepository;
+        this.userOutboxConfig = userOutboxConfig;
+        this.leaderLock = leaderLock;
+        this.bulkheads = bulkheads;
+
+        // payload가 이미 JSON 문자열이므로 전용 String 프로듀서 사용 (배치/압축/멱등성 설정)
+        Map<String, Object> props = kafkaProperties.buildProducerProperties(sslBundles.getIfAvailable());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, userOutboxConfig.getLingerMs());
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        this.producerFactory = new DefaultKafkaProducerFactory<>(props);
+        this.kafkaTemplate = new KafkaTemplate<>(producerFactory);
+    }
+
+    @Scheduled(fixedDelayString = "${user-outbox.relay-interval-ms:500}")
+    public void relay() {
+        // 전송 대기 시간보다 길게 유지 (실행 중 다른 인스턴스가 같은 배치를 발행하지 않도록)
+        String lockToken = leaderLock.tryAcquire(LOCK_NAME, userOutboxConfig.getSendTimeoutSeconds() * 2000L);
+        if (lockToken == null) {
+            return;
+        }
+        try {
+            publishBatch();
+        } finally {
+            leaderLock.release(LOCK_NAME, lockToken);
+        }
+    }
+
+    private void publishBatch() {
+        List<UserOutboxEvent> batch = bulkheads.background().execute(
+                () -> userOutboxRepository.findBatchForPublish(userOutboxConfig.getBatchSize()));
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(batch.size());
+        List<Long> publishedIds = new ArrayList<>(batch.size());
+        for (UserOutboxEvent event : batch) {
+            // DELETED 이벤트는 payload가 null → compacted 토픽의 tombstone
+            futures.add(kafkaTemplate.send(userOutboxConfig.getTopic(), event.getAggregateId(), event.getPayload()));
+            publishedIds.add(event.getId());
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(userOutboxConfig.getSendTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("사용자 변경 이벤트 발행 중단: {}건", batch.size());
+            return;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("사용자 변경 이벤트 발행 실패, 다음 주기에 재시도: {}건, 원인 {}", batch.size(), e.getMessage());
+            return;
+        }
+
+        bulkheads.background().run(() -> userOutboxRepository.deleteAllByIdInBatch(publishedIds));
+        log.debug("사용자 변경 이벤트 발행 완료: {}건", publishedIds.size());
+    }
+
+    @PreDestroy
+    void close() {
+        producerFactory.destroy();
+    }
+}
@@ -0,0 +1,153 @@
+package com.deefacto.user_service.remote.service;
+
+import com.deefacto.user_service.config.UserRequestConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DB 커넥션 풀 포화 시 user.request 리스너를 일시 정지하는 모니터
+ *
+ * 로그인 트래픽으로 Hikari 풀이 포화되면 수신자 조회가 커넥션을 두고 경쟁하지 않도록
+ * 리스너 컨테이너의 파티션 소비를 멈추고, 풀이 회복되면 다시 재개합니다.
+ *
+ * Replica를 사용하면 Primary(로그인) / Replica(수신자 조회의 읽기 전용 DB 조회) 풀을 모두 확인합니다.
+ *
+ * - 일시 정지: 어느 한 풀이라도 커넥션 대기 스레드 수 또는 사용 중 커넥션 비율이 임계값 이상
+ * - 재개: 모든 풀에 대기 스레드가 없고 사용 중 커넥션 비율이 재개 임계값 이하 (정지 임계값보다 낮게 두어 반복 전환 방지)
+ *
+ * 일시 정지 중에도 컨슈머는 poll을 계속하므로 리밸런스가 일어나지 않습니다.
+ */
+@Slf4j
+@Component
+public class UserRequestBackpressureMonitor {
+
+    static final String LISTENER_ID = "userRequestListener";
+
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final UserRequestConfig userRequestConfig;
+    private final List<HikariDataSource> hikariDataSources;
+    private final Counter pauseCounter;
+
+    private volatile boolean paused;
+
+    public UserRequestBackpressureMonitor(KafkaListenerEndpointRegistry listenerRegistry,
+                                          UserRequestConfig userRequestConfig,
+                                          DataSource dataSource,
+                                          ObjectProvider<HikariDataSource> hikariDataSources,
+                                          MeterRegistry meterRegistry) {
+        this.listenerRegistry = listenerRegistry;
+        this.userRequestConfig = userRequestConfig;
+        this.hikariDataSources = findPools(dataSource, hikariDataSources);
+        this.pauseCounter = Counter.builder("user.request.consumer.pauses")
+                .description("DB 커넥션 풀 포화로 user.request 리스너를 일시 정지한 횟수")
+                .register(meterRegistry);
+        Gauge.builder("user.request.consumer.paused", this, monitor -> monitor.paused ? 1 : 0)
+                .description("user.request 리스너 일시 정지 여부 (1 = 정지)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${user-request.backpressure.check-interval-ms:500}")
+    public void check() {
+        UserRequestConfig.Backpressure backpressure = userRequestConfig.getBackpressure();
+        if (hikariDataSources.isEmpty()) {
+            return;
+        }
+        List<MessageListenerContainer> containers = requestContainers();
+        if (containers.isEmpty()) {
+            return;
+        }
+
+        if (!backpressure.isEnabled()) {
+            if (paused) {
+                resume(containers, "backpressure 비활성화");
+            }
+            return;
+        }
+
+        // 가장 포화된 풀 기준으로 판단
+        String busiestPool = null;
+        int pending = 0;
+        double activeRatio = 0;
+        for (HikariDataSource dataSource : hikariDataSources) {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool == null) {
+                continue;
+            }
+            int maxPoolSize = Math.max(1, dataSource.getMaximumPoolSize());
+            double ratio = (double) pool.getActiveConnections() / maxPoolSize;
+            if (busiestPool == null || ratio > activeRatio) {
+                busiestPool = dataSource.getPoolName();
+                activeRatio = ratio;
+            }
+            pending = Math.max(pending, pool.getThreadsAwaitingConnection());
+        }
+        if (busiestPool == null) {
+            return;
+        }
+
+        if (!paused && (pending >= backpressure.getPausePendingThreads()
+                || activeRatio >= backpressure.getPauseActiveRatio())) {
+            containers.forEach(MessageListenerContainer::pause);
+            paused = true;
+            pauseCounter.increment();
+            log.warn("DB 커넥션 풀 포화로 user.request 소비 일시 정지: 풀 {}, 대기 {}, 사용률 {}",
+                    busiestPool, pending, String.format("%.2f", activeRatio));
+        } else if (paused && pending == 0 && activeRatio <= backpressure.getResumeActiveRatio()) {
+            resume(containers, String.format("풀 %s 사용률 %.2f", busiestPool, activeRatio));
+        }
+    }
+
+    // 재시도 토픽 리스너(userRequestListener-retry-N 등)도 DB를 사용하므로 함께 정지/재개
+    private List<MessageListenerContainer> requestContainers() {
+        List<MessageListenerContainer> containers = new ArrayList<>();
+        for (MessageListenerContainer container : listenerRegistry.getListenerContainers()) {
+            String listenerId = container.getListenerId();
+            if (listenerId != null && listenerId.startsWith(LISTENER_ID)) {
+                containers.add(container);
+            }
+        }
+        return containers;
+    }
+
+    private void resume(List<MessageListenerContainer> containers, String reason) {
+        containers.forEach(MessageListenerContainer::resume);
+        paused = false;
+        log.info("user.request 소비 재개: {}", reason);
+    }
+
+    // Hikari 풀 빈(Replica 사용 시 primary / replica)을 모두 모니터링하고, 빈이 없으면 데이터소스를 풀어서 확인
+    private static List<HikariDataSource> findPools(DataSource dataSource, ObjectProvider<HikariDataSource> hikariDataSources) {
+        List<HikariDataSource> pools = hikariDataSources.orderedStream().toList();
+        if (!pools.isEmpty()) {
+            return pools;
+        }
+        HikariDataSource unwrapped = unwrapHikari(dataSource);
+        return unwrapped != null ? List.of(unwrapped) : List.of();
+    }
+
+    // 커넥션 풀 정보는 Hikari 구현에서만 얻을 수 있으므로 다른 구현이면 모니터링하지 않음
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class);
+            }
+        } catch (SQLException e) {
+            log.warn("Hikari 데이터소스 확인 실패, 커넥션 풀 backpressure 비활성화: {}", e.getMessage());
+        }
+        return null;
+    }
+}
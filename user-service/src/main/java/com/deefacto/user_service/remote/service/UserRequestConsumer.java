@@ -1,43 +1,214 @@
 package com.deefacto.user_service.remote.service;
 
+import com.deefacto.user_service.common.bulkhead.Bulkheads;
+import com.deefacto.user_service.config.UserRequestConfig;
 import com.deefacto.user_service.domain.repository.UserRepository;
 import com.deefacto.user_service.remote.dto.UserMessage;
-import lombok.RequiredArgsConstructor;
+import com.deefacto.user_service.remote.serde.UserMessageEncoding;
+import com.deefacto.user_service.remote.serde.UserResponseChunker;
+import com.deefacto.user_service.service.RecipientSetService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.DltStrategy;
 import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+/**
+ * 알림 수신자 조회 요청(user.request) 처리 컨슈머
+ *
+ * 처리에 실패한 요청은 원래 파티션을 막지 않도록 재시도 토픽(user.request-retry-N)으로 넘겨
+ * 지수 백오프로 재처리하고, 재시도를 모두 소진하거나 재시도해도 소용없는 요청(잘못된 요청)은
+ * DLT(user.request-dlt)로 보냅니다.
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class UserRequestConsumer {
 
+    private static final String REQUEST_TOPIC = "user.request";
+
     private final KafkaTemplate<String, UserMessage.UserResponseMessage> kafkaTemplate;
     private final UserRepository userRepository;
+    private final UserRequestConfig userRequestConfig;
+    private final RecipientSetService recipientSetService;
+    private final UserResponseCacheService userResponseCacheService;
+    private final MeterRegistry meterRegistry;
+    private final Bulkheads bulkheads;
+    private final Counter dltCounter;
 
-    @KafkaListener(topics = "user.request", groupId = "user-service-group", properties ={
+    public UserRequestConsumer(KafkaTemplate<String, UserMessage.UserResponseMessage> kafkaTemplate,
+                               UserRepository userRepository,
+                               UserRequestConfig userRequestConfig,
+                               RecipientSetService recipientSetService,
+                               UserResponseCacheService userResponseCacheService,
+                               MeterRegistry meterRegistry,
+                               Bulkheads bulkheads) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.userRepository = userRepository;
+        this.userRequestConfig = userRequestConfig;
+        this.recipientSetService = recipientSetService;
+        this.userResponseCacheService = userResponseCacheService;
+        this.meterRegistry = meterRegistry;
+        this.bulkheads = bulkheads;
+        this.dltCounter = Counter.builder("user.request.dlt")
+                .description("DLT로 보내진 수신자 조회 요청 수")
+                .register(meterRegistry);
+    }
+
+    // 잘못된 요청(IllegalArgumentException)과 역직렬화 실패(DeserializationException)는 재시도 없이 바로 DLT로 보냄
+    // 역직렬화할 수 없는 레코드는 DLT에서도 다시 실패하므로 DLT로 되돌려 보내지 않고 로그만 남김 (FAIL_ON_ERROR)
+    @RetryableTopic(
+            attempts = "${user-request.retry.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${user-request.retry.initial-delay-ms:1000}",
+                    multiplierExpression = "${user-request.retry.multiplier:2.0}",
+                    maxDelayExpression = "${user-request.retry.max-delay-ms:30000}"),
+            exclude = IllegalArgumentException.class,
+            dltStrategy = DltStrategy.FAIL_ON_ERROR,
+            kafkaTemplate = "kafkaTemplate")
+    // 파티션마다 스레드 하나가 처리하므로 같은 키의 요청은 순서대로 처리됨 (concurrency는 파티션 수 이하로 설정)
+    @KafkaListener(id = UserRequestBackpressureMonitor.LISTENER_ID, topics = "user.request", groupId = "user-service-group",
+            concurrency = "${user-request.consumer.concurrency:1}", properties ={
             JsonDeserializer.VALUE_DEFAULT_TYPE
                     // Header에 들어가는 값 (이벤트 메시지 위치)
                     + ":com.deefacto.user_service.remote.dto.UserMessage$UserRequestMessage"
     })
-    public void consumeUserRequest(UserMessage.UserRequestMessage request, Acknowledgment ack) {
-        // zoneId, shift 기반으로 사용자 조회 (DB 쿼리 또는 캐시)
-        String zone = String.valueOf((request.getZoneId().charAt(0)));
-        List<Long> userIds = queryUsersByZoneAndShift(zone, request.getShift());
+    public void consumeUserRequest(UserMessage.UserRequestMessage request,
+                                   @Header(name = UserMessageEncoding.ACCEPT_HEADER, required = false) byte[] acceptEncoding,
+                                   @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+                                   Acknowledgment ack) {
+        if (!REQUEST_TOPIC.equals(topic)) {
+            retryCounter(topic).increment();
+        }
+        validate(request);
+        String encoding = UserMessageEncoding.negotiate(acceptEncoding);
+
+        // 이미 처리한 요청(재전달)이면 저장된 응답을 그대로 재전송
+        UserMessage.UserResponseMessage cached = userResponseCacheService.find(request.getNotificationId());
+        if (cached != null) {
+            log.debug("재전달된 수신자 조회 요청, 저장된 응답 재전송: notificationId {}", request.getNotificationId());
+            sendResponse(cached, encoding);
+            ack.acknowledge();
+            return;
+        }
+
+        // zoneId, shift 기반으로 사용자 조회 (Redis 수신자 집합, 준비 전에는 DB 쿼리)
+        List<String> zones = parseZones(request.getZoneId());
+        List<Long> userIds = recipientSetService.findRecipients(zones, request.getShift());
+        if (userIds == null) {
+            userIds = queryUsersByZoneAndShift(zones, request.getShift());
+        }
 
         // 조회된 사용자 리스트를 응답 메시지에 담아 보냄
         UserMessage.UserResponseMessage response = new UserMessage.UserResponseMessage();
         response.setNotificationId(request.getNotificationId());
         response.setUserIds(userIds);
 
-        kafkaTemplate.send("user.response", response);
+        // 전송 후 ack 전에 장애가 나도 재전달 시 재조회하지 않도록 전송 전에 저장
+        userResponseCacheService.save(response);
+        sendResponse(response, encoding);
         ack.acknowledge();
     }
 
-    private List<Long> queryUsersByZoneAndShift(String zoneId, String shift) {
-        return userRepository.findUserIdsByScopeAndShift(zoneId, shift);
+    /**
+     * 재시도를 모두 소진했거나 잘못된 요청을 처리하는 메서드 (user.request-dlt)
+     *
+     * 원본 레코드는 DLT에 남아 있으므로 기록만 하고 ack합니다.
+     */
+    @DltHandler
+    public void handleDeadLetter(UserMessage.UserRequestMessage request,
+                                 @Header(name = KafkaHeaders.EXCEPTION_MESSAGE, required = false) String cause,
+                                 Acknowledgment ack) {
+        dltCounter.increment();
+        log.error("수신자 조회 요청 DLT 이동: notificationId {}, zoneId {}, shift {}, 원인 {}",
+                request != null ? request.getNotificationId() : null,
+                request != null ? request.getZoneId() : null,
+                request != null ? request.getShift() : null,
+                cause);
+        ack.acknowledge();
+    }
+
+    // 재시도해도 성공할 수 없는 요청은 IllegalArgumentException으로 바로 DLT 처리
+    private void validate(UserMessage.UserRequestMessage request) {
+        if (request == null || request.getZoneId() == null || request.getZoneId().isBlank()) {
+            throw new IllegalArgumentException("zoneId is required");
+        }
+        if (request.getShift() == null || request.getShift().isBlank()) {
+            throw new IllegalArgumentException("shift is required");
+        }
     }
-}
 
+    // zoneId의 첫 글자가 구역 코드 (기존 동작과 동일하게 콤마로 나누지 않음)
+    private List<String> parseZones(String zoneId) {
+        return List.of(String.valueOf(zoneId.charAt(0)));
+    }
+
+    // 알림 폭주 시 로그인 경로의 커넥션을 남기도록 동시 실행 제한 (초과 시 SERVICE_UNAVAILABLE → 재시도 토픽)
+    private List<Long> queryUsersByZoneAndShift(List<String> zones, String shift) {
+        log.debug("수신자 집합 준비 전, DB에서 수신자 조회: 구역 {}, 근무시간 {}", zones, shift);
+        return bulkheads.recipientResolver().execute(() -> {
+            if (zones.size() == 1) {
+                return userRepository.findUserIdsByScopeAndShift(zones.get(0), shift);
+            }
+            Set<Long> userIds = new HashSet<>();
+            for (String zone : zones) {
+                userIds.addAll(userRepository.findUserIdsByScopeAndShift(zone, shift));
+            }
+            return new ArrayList<>(userIds);
+        });
+    }
+
+    // 요청자가 원한 인코딩으로 응답 (크기 제한을 넘으면 여러 조각으로 나눠 같은 키로 순서대로 전송)
+    // 전송 실패 시 예외를 던져 재시도 토픽으로 넘어가도록 결과를 기다린 뒤 반환
+    private void sendResponse(UserMessage.UserResponseMessage response, String encoding) {
+        String key = response.getNotificationId() != null ? String.valueOf(response.getNotificationId()) : null;
+        byte[] encodingHeader = encoding.getBytes(StandardCharsets.UTF_8);
+
+        List<CompletableFuture<SendResult<String, UserMessage.UserResponseMessage>>> futures = new ArrayList<>();
+        for (UserMessage.UserResponseMessage chunk
+                : UserResponseChunker.split(response, encoding, userRequestConfig.getMaxMessageBytes())) {
+            ProducerRecord<String, UserMessage.UserResponseMessage> record =
+                    new ProducerRecord<>(userRequestConfig.getResponseTopic(), key, chunk);
+            record.headers().add(new RecordHeader(UserMessageEncoding.CONTENT_HEADER, encodingHeader));
+            futures.add(kafkaTemplate.send(record));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(userRequestConfig.getSendTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("user.response send interrupted", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("user.response send failed: notificationId " + response.getNotificationId(), e);
+        }
+    }
+
+    private Counter retryCounter(String topic) {
+        return Counter.builder("user.request.retries")
+                .description("재시도 토픽에서 다시 처리한 수신자 조회 요청 수")
+                .tag("topic", topic)
+                .register(meterRegistry);
+    }
+}
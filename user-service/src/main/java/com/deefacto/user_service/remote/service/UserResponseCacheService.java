@@ -0,0 +1,99 @@
+package com.deefacto.user_service.remote.service;
+
+import com.deefacto.user_service.config.UserRequestConfig;
+import com.deefacto.user_service.remote.dto.UserMessage;
+import com.deefacto.user_service.remote.serde.DeltaVarintCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * notificationId별 수신자 조회 응답 캐시 (user.request 중복 처리 방지)
+ *
+ * 리밸런스나 전송 후 ack 전 장애로 같은 요청이 다시 전달되면
+ * 저장해 둔 응답을 그대로 재전송하여 수신자 조회를 반복하지 않습니다.
+ *
+ * 응답은 delta-varint 바이너리를 Base64로 감싸 user_response:{notificationId}에 짧은 TTL로 저장합니다.
+ * 캐시 장애는 요청 처리를 막지 않고 일반 처리로 진행합니다.
+ */
+@Slf4j
+@Service
+public class UserResponseCacheService {
+
+    private static final String RESPONSE_KEY_PREFIX = "user_response:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UserRequestConfig userRequestConfig;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public UserResponseCacheService(RedisTemplate<String, String> redisTemplate,
+                                    UserRequestConfig userRequestConfig,
+                                    MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.userRequestConfig = userRequestConfig;
+        this.hitCounter = resultCounter(meterRegistry, "hit");
+        this.missCounter = resultCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * 이전에 처리한 요청의 응답을 조회하는 메서드
+     *
+     * @param notificationId 알림 ID
+     * @return 저장된 응답, 없으면 null
+     */
+    public UserMessage.UserResponseMessage find(Long notificationId) {
+        if (notificationId == null) {
+            return null;
+        }
+        try {
+            String cached = redisTemplate.opsForValue().get(responseKey(notificationId));
+            if (cached == null) {
+                missCounter.increment();
+                return null;
+            }
+            hitCounter.increment();
+            return DeltaVarintCodec.decode(Base64.getDecoder().decode(cached));
+        } catch (DataAccessException | SerializationException | IllegalArgumentException e) {
+            log.warn("수신자 응답 캐시 조회 실패: notificationId {}, 원인 {}", notificationId, e.getMessage());
+            missCounter.increment();
+            return null;
+        }
+    }
+
+    /**
+     * 처리한 요청의 응답을 저장하는 메서드 (전송 전에 호출)
+     *
+     * @param response 수신자 조회 응답 (조각으로 나누기 전 전체 응답)
+     */
+    public void save(UserMessage.UserResponseMessage response) {
+        if (response.getNotificationId() == null) {
+            return;
+        }
+        try {
+            String encoded = Base64.getEncoder().encodeToString(DeltaVarintCodec.encode(response));
+            redisTemplate.opsForValue().set(responseKey(response.getNotificationId()), encoded,
+                    Duration.ofSeconds(userRequestConfig.getResponseCacheTtlSeconds()));
+        } catch (DataAccessException e) {
+            log.warn("수신자 응답 캐시 저장 실패: notificationId {}, 원인 {}", response.getNotificationId(), e.getMessage());
+        }
+    }
+
+    private static String responseKey(Long notificationId) {
+        return RESPONSE_KEY_PREFIX + notificationId;
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("user.request.response.cache")
+                .description("notificationId 응답 캐시 조회 결과 (hit = 재전달된 요청)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -36,4 +36,11 @@ public class JwtConfig {
      * 기본값: 900초 (15분)
      */
     private Integer accessTokenExpiresIn;
+
+    /**
+     * 사용자별 토큰 epoch 로컬 캐시 유지 시간 (초 단위)
+     * 환경 변수: JWT_EPOCH_CACHE_TTL_SECONDS
+     * 기본값: 5초
+     */
+    private Integer epochCacheTtlSeconds = 5;
 }
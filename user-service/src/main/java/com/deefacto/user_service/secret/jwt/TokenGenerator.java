@@ -5,15 +5,19 @@ import java.util.Date;
 
 import com.deefacto.user_service.common.exception.CustomException;
 import com.deefacto.user_service.common.exception.ErrorCode;
+import com.deefacto.user_service.config.RedisResilienceConfig;
 import com.deefacto.user_service.domain.Entitiy.User;
 import com.deefacto.user_service.domain.repository.UserRepository;
+import com.deefacto.user_service.service.TokenEpochService;
 import com.deefacto.user_service.service.UserCacheService;
+import com.deefacto.user_service.service.UserSessionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.deefacto.user_service.secret.jwt.dto.TokenDto;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -38,6 +42,15 @@ public class TokenGenerator {
 
     private final long USER_CACHE_TTL_MIN = 20;
 
+    // 토큰 epoch 클레임 이름 (epoch 도입 전 발급된 토큰은 0으로 간주)
+    public static final String EPOCH_CLAIM = "Epoch";
+
+    // 로그인 세션 ID 클레임 이름 (액세스 / 리프레시 토큰이 같은 값을 가짐)
+    public static final String SESSION_CLAIM = "Sid";
+
+    // Redis 장애로 epoch를 확인하지 못하고 발급한 토큰 표시 클레임 이름 (ALLOW 정책, 짧은 수명)
+    public static final String EPOCH_UNVERIFIED_CLAIM = "EpochUnverified";
+
     // JWT 설정 정보 (시크릿 키, 만료 시간 등)
     private final JwtConfig jwtConfig;
     
@@ -49,6 +62,15 @@ public class TokenGenerator {
 
     private final UserCacheService userCacheService;
 
+    // 사용자별 토큰 epoch (일괄 무효화용)
+    private final TokenEpochService tokenEpochService;
+
+    // 로그인 세션 레지스트리 (재발급 토큰 등록)
+    private final UserSessionService userSessionService;
+
+    // Redis 장애 중 발급 정책
+    private final RedisResilienceConfig resilienceConfig;
+
     /**
      * JWT 서명에 사용할 시크릿 키를 지연 초기화로 생성
      * 
@@ -91,26 +113,46 @@ public class TokenGenerator {
     /**
      * JWT 토큰을 생성하는 메서드
      * 
-     * @param employeeId 사용자 사원번호
+     * Redis 장애로 사용자의 epoch를 알 수 없으면 redis-resilience.login-policy가 ALLOW일 때만
+     * epoch 대신 EpochUnverified 클레임을 넣고 수명을 degraded-token-ttl-seconds로 줄여 발급합니다.
+     * 이 토큰은 장애 중 일괄 무효화를 반영할 수 없으므로 재발급에 쓸 수 없고, epoch를 다시 확인할 수 있게 되면 무효입니다.
+     * 
+     * @param user 토큰을 발급할 사용자 (호출자가 2차 캐시를 거치지 않고 조회한 사용자)
      * @param isRefreshToken 리프레시 토큰 여부
+     * @param sessionId 로그인 세션 ID
      * @return 생성된 JWT 토큰과 만료 시간 정보
+     * @throws CustomException epoch를 알 수 없고 DENY 정책인 경우 (SERVICE_UNAVAILABLE)
      */
     // Refresh Token의 경우, userId만 있어도 되지만, 같은 메소드 사용으로 일단 동일한 데이터 저장
-    public TokenDto.JwtToken generateJwtToken(String employeeId, boolean isRefreshToken) {
+    public TokenDto.JwtToken generateJwtToken(User user, boolean isRefreshToken, String sessionId) {
         // 토큰 타입에 따른 만료 시간 계산
         int expriresIn = getExpriresIn(isRefreshToken);
         String tokenType = isRefreshToken ? "refresh" : "access";
+        String employeeId = user.getEmployeeId();
 
-        // employeeId 기반 User 정보 조회 (DB)
-        User user = userRepository.findByEmployeeId(employeeId);
+        // 사용자의 현재 토큰 epoch (epoch가 올라가면 이 토큰은 무효, Redis 장애로 알 수 없으면 null)
+        Long epoch = tokenEpochService.findAvailableEpoch(employeeId);
+        if (epoch == null) {
+            if (resilienceConfig.getLoginPolicy() == RedisResilienceConfig.LoginPolicy.DENY) {
+                throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+            }
+            expriresIn = Math.min(expriresIn, resilienceConfig.getDegradedTokenTtlSeconds());
+        }
         
         // JWT 토큰 생성 (userId, shift, role 정보 추가)
-        String token = Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
             .issuer("deefacto")                    // 토큰 발급자
             .setSubject(employeeId)                // 토큰 주체 (사용자 ID)
             .claim("EmployeeId", employeeId)       // 사용자 사원번호 클레임
                 .claim("UserId", user.getId())
             .claim("type", tokenType)              // 토큰 타입 클레임 (access/refresh)
+            .claim(SESSION_CLAIM, sessionId);      // 로그인 세션 ID 클레임
+        if (epoch != null) {
+            builder.claim(EPOCH_CLAIM, epoch);               // 사용자 토큰 epoch 클레임
+        } else {
+            builder.claim(EPOCH_UNVERIFIED_CLAIM, true);     // 장애 중 발급 표시 (epoch 미확인)
+        }
+        String token = builder
             .issuedAt(new Date())                  // 토큰 발급 시간
             .expiration(new Date(System.currentTimeMillis() + expriresIn * 1000L))  // 토큰 만료 시간
             .signWith(getSecretKey())              // 시크릿 키로 서명
@@ -124,11 +166,12 @@ public class TokenGenerator {
     /**
      * 액세스 토큰만 생성하는 메서드
      * 
-     * @param employeeId 사용자 사원번호
+     * @param user 토큰을 발급할 사용자
+     * @param sessionId 로그인 세션 ID
      * @return 액세스 토큰 정보
      */
-    public TokenDto.AccessToken generateAccessToken(String employeeId) {
-        TokenDto.JwtToken jwtToken = this.generateJwtToken(employeeId, false);
+    public TokenDto.AccessToken generateAccessToken(User user, String sessionId) {
+        TokenDto.JwtToken jwtToken = this.generateJwtToken(user, false, sessionId);
         TokenDto.AccessToken accessToken = new TokenDto.AccessToken();
         accessToken.setAccess(jwtToken);
         return accessToken;
@@ -137,12 +180,13 @@ public class TokenGenerator {
     /**
      * 액세스 토큰과 리프레시 토큰을 모두 생성하는 메서드
      * 
-     * @param employeeId 사용자 사원번호
+     * @param user 토큰을 발급할 사용자 (로그인에서 이미 조회한 사용자, 다시 조회하지 않음)
+     * @param sessionId 로그인 세션 ID (UserSessionService.newSessionId)
      * @return 액세스 토큰과 리프레시 토큰 정보
      */
-    public TokenDto.AccessRefreshToken generateAccessRefreshToken(String employeeId) {
-        TokenDto.JwtToken accessToken = this.generateJwtToken(employeeId, false);
-        TokenDto.JwtToken refreshToken = this.generateJwtToken(employeeId, true);
+    public TokenDto.AccessRefreshToken generateAccessRefreshToken(User user, String sessionId) {
+        TokenDto.JwtToken accessToken = this.generateJwtToken(user, false, sessionId);
+        TokenDto.JwtToken refreshToken = this.generateJwtToken(user, true, sessionId);
         return new TokenDto.AccessRefreshToken(accessToken, refreshToken);
     }
 
@@ -150,22 +194,90 @@ public class TokenGenerator {
      * JWT 토큰의 유효성을 검증하는 메서드
      * 
      * API Gateway에서 이미 처리하므로 User Service에서는 로그아웃 처리용으로만 사용
+     * 서명 검증 후 토큰의 epoch가 사용자의 현재 epoch와 다르면(일괄 무효화된 토큰) 유효하지 않은 것으로 판단합니다.
      * 
      * @param token 검증할 JWT 토큰
      * @return 토큰 유효성 여부
      */
     public boolean validateToken(String token) {
+        Claims claims;
         try {
             // JWT 파서를 사용하여 토큰 서명 검증
-            Jwts.parser()
+            claims = Jwts.parser()
                 .verifyWith(getSecretKey())
                 .build()
-                .parseSignedClaims(token);
-            return true;
+                .parseSignedClaims(token)
+                .getPayload();
         } catch (Exception e) {
             // 토큰 파싱 실패 시 유효하지 않은 토큰으로 판단
             return false;
         }
+        // Redis 장애로 epoch를 확인할 수 없으면 SERVICE_UNAVAILABLE이 그대로 전달됨 (통과시키지 않음)
+        return isEpochCurrent(claims);
+    }
+
+    /**
+     * 서명을 검증하고 토큰 클레임을 반환하는 메서드
+     *
+     * 만료된 토큰은 ExpiredJwtException(클레임 포함), 서명/형식 오류는 JwtException을 던집니다.
+     *
+     * @param token JWT 토큰
+     * @return 토큰 클레임
+     */
+    public Claims parseClaims(String token) {
+        return Jwts.parser()
+            .verifyWith(getSecretKey())
+            .build()
+            .parseSignedClaims(token)
+            .getPayload();
+    }
+
+    /**
+     * 토큰 클레임에서 epoch를 꺼내는 메서드 (epoch 도입 전 발급된 토큰은 0)
+     *
+     * @param claims 토큰 클레임
+     * @return 토큰 epoch
+     */
+    public static long epochOf(Claims claims) {
+        Object epoch = claims.get(EPOCH_CLAIM);
+        return epoch instanceof Number number ? number.longValue() : 0L;
+    }
+
+    /**
+     * 토큰 클레임에서 로그인 세션 ID를 꺼내는 메서드 (세션 ID 도입 전 발급된 토큰은 null)
+     *
+     * @param claims 토큰 클레임
+     * @return 로그인 세션 ID
+     */
+    public static String sessionIdOf(Claims claims) {
+        return claims.get(SESSION_CLAIM, String.class);
+    }
+
+    /**
+     * Redis 장애로 epoch를 확인하지 못하고 발급한 토큰인지 확인하는 메서드
+     *
+     * @param claims 토큰 클레임
+     * @return EpochUnverified 클레임이 있으면 true
+     */
+    public static boolean isEpochUnverified(Claims claims) {
+        return Boolean.TRUE.equals(claims.get(EPOCH_UNVERIFIED_CLAIM, Boolean.class));
+    }
+
+    /**
+     * 토큰 클레임의 epoch가 사용자의 현재 epoch와 같은지 확인하는 메서드
+     *
+     * 장애 중 발급한 토큰(EpochUnverified)은 ALLOW 정책에서 epoch를 여전히 알 수 없는 동안만 유효합니다.
+     *
+     * @param claims 서명 검증이 끝난 토큰 클레임
+     * @return 현재 세대의 토큰이면 true
+     * @throws CustomException 일반 토큰인데 Redis 장애로 epoch를 알 수 없는 경우 (SERVICE_UNAVAILABLE)
+     */
+    public boolean isEpochCurrent(Claims claims) {
+        if (isEpochUnverified(claims)) {
+            return resilienceConfig.getLoginPolicy() == RedisResilienceConfig.LoginPolicy.ALLOW
+                    && tokenEpochService.findAvailableEpoch(claims.getSubject()) == null;
+        }
+        return tokenEpochService.isCurrent(claims.getSubject(), epochOf(claims));
     }
     
     /**
@@ -209,9 +321,13 @@ public class TokenGenerator {
     /**
      * 리프레시 토큰을 사용하여 새로운 액세스 토큰을 발급하는 메서드
      * 
+     * 새 액세스 토큰은 리프레시 토큰과 같은 로그인 세션에 등록되고, 세션의 이전 액세스 토큰은 logout 처리됩니다.
+     * 세션이 레지스트리에서 빠졌으면(축출, 로그아웃, 전체 로그아웃) 재발급하지 않습니다.
+     * Redis 장애 중 발급한 리프레시 토큰(EpochUnverified)은 세션에 등록되지 않았으므로 재발급에 쓸 수 없습니다.
+     * 
      * @param refreshToken 리프레시 토큰
      * @return 새로운 액세스 토큰
-     * @throws BadParameter 리프레시 토큰이 유효하지 않거나 만료된 경우
+     * @throws BadParameter 리프레시 토큰이 유효하지 않거나 만료된 경우, 세션 ID가 없는 이전 리프레시 토큰인 경우
      */
     public TokenDto.AccessToken refreshAccessToken(String refreshToken) {
         // 리프레시 토큰 유효성 검증
@@ -224,15 +340,32 @@ public class TokenGenerator {
             throw new CustomException(ErrorCode.TOKEN_EXPIRED);
         }
         
+        // 리프레시 토큰만 허용하고, 세션 ID가 없는 이전 토큰은 다시 로그인하도록 거부
+        Claims claims = parseClaims(refreshToken);
+        String sessionId = sessionIdOf(claims);
+        if (!"refresh".equals(claims.get("type", String.class)) || sessionId == null) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        // 장애 중 발급한 리프레시 토큰 (validateToken을 통과했으면 아직 장애 중)
+        if (isEpochUnverified(claims)) {
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+
         // 리프레시 토큰에서 사용자 ID 추출
-        String employeeId = getEmployeeIdFromToken(refreshToken);
+        String employeeId = claims.getSubject();
 
-        User user = userRepository.findByEmployeeId(employeeId);
+        // 다른 노드의 권한 변경이 보이도록 2차 캐시를 거치지 않고 조회
+        User user = userRepository.findByEmployeeIdFromDatabase(employeeId);
+        if (user == null) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
 
         userCacheService.saveOrUpdateUser(user, USER_CACHE_TTL_MIN);
 
-        // 새로운 액세스 토큰 생성
-        return generateAccessToken(employeeId);
+        // 같은 세션으로 새로운 액세스 토큰 생성 후 세션에 등록
+        TokenDto.AccessToken accessToken = generateAccessToken(user, sessionId);
+        userSessionService.refreshSession(employeeId, sessionId, accessToken.getAccess());
+        return accessToken;
     }
     
     /**
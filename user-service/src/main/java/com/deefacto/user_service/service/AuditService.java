@@ -0,0 +1,229 @@
+package com.deefacto.user_service.service;
+
+import com.deefacto.user_service.common.bulkhead.Bulkheads;
+import com.deefacto.user_service.common.exception.CustomException;
+import com.deefacto.user_service.common.queue.MpscRingBuffer;
+import com.deefacto.user_service.config.AuditConfig;
+import com.deefacto.user_service.domain.Entitiy.AuditEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인증/관리 감사 이벤트 기록 서비스
+ *
+ * 요청 스레드는 이벤트를 락 없는 링 버퍼에 넣기만 하고(가득 차면 버리고 카운트),
+ * 백그라운드 스케줄러가 버퍼를 비워 audit_event 테이블에 JDBC 배치 INSERT로 저장합니다.
+ * 따라서 요청 처리는 감사 기록 I/O를 기다리지 않습니다.
+ * 주기 저장은 background bulkhead 안에서 실행하며, 자리가 없으면 이벤트를 버퍼에 남겨 다음 주기에 저장합니다.
+ *
+ * DB 연결 장애(커넥션 획득 실패, 타임아웃 등)로 저장에 실패하면 그 배치를 보관한 채 이번 주기를 멈추고,
+ * audit.failure-backoff-ms 동안 저장을 시도하지 않습니다. (장애 중에 한 건씩 재시도하며 커넥션 타임아웃을 반복하지 않도록)
+ * 보관한 배치는 다음 저장 때 가장 먼저 저장하며, 그동안 새 이벤트는 버퍼에 쌓입니다. (가득 차면 버리고 카운트)
+ * 한 건씩 재시도는 제약 조건 위반처럼 특정 이벤트 때문에 배치가 실패한 경우에만 합니다.
+ */
+@Slf4j
+@Service
+public class AuditService {
+
+    private static final String INSERT_SQL = "INSERT INTO audit_event "
+            + "(event_type, actor_id, target_id, client_ip, detail, occurred_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditConfig auditConfig;
+    private final Bulkheads bulkheads;
+    private final MpscRingBuffer<AuditEvent> buffer;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    // 버퍼 소비자는 한 번에 하나 (스케줄 실행과 종료 시 flush가 겹치지 않도록)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // DB 연결 장애로 저장하지 못해 다음 저장 때 먼저 저장할 이벤트 (flushLock 안에서만 접근, 최대 배치 1개)
+    private final List<AuditEvent> retained = new ArrayList<>();
+
+    // DB 연결 장애 후 다음 저장을 시도할 시각 (밀리초)
+    private volatile long retryAfter;
+
+    public AuditService(JdbcTemplate jdbcTemplate, AuditConfig auditConfig, Bulkheads bulkheads, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditConfig = auditConfig;
+        this.bulkheads = bulkheads;
+        this.buffer = new MpscRingBuffer<>(auditConfig.getBufferCapacity());
+        this.droppedCounter = Counter.builder("audit.events.dropped")
+                .description("버퍼가 가득 차 버려진 감사 이벤트 수")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.events.written")
+                .description("저장된 감사 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.events.failed")
+                .description("저장에 실패한 감사 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("audit.buffer.size", this, service -> service.buffer.size() + service.retained.size())
+                .description("저장 대기 중인 감사 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 감사 이벤트를 즉시 버퍼에 넣는 메서드 (로그인 실패처럼 트랜잭션이 롤백되어도 남겨야 하는 이벤트)
+     */
+    public void record(AuditEvent event) {
+        if (!auditConfig.isEnabled()) {
+            return;
+        }
+        if (!buffer.offer(event)) {
+            droppedCounter.increment();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 경우에만 감사 이벤트를 버퍼에 넣는 메서드 (트랜잭션 밖이면 즉시)
+     */
+    public void recordAfterCommit(AuditEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(event);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${audit.flush-interval-ms:200}")
+    public void flush() {
+        if ((buffer.size() == 0 && retained.isEmpty())
+                || System.currentTimeMillis() < retryAfter || !flushLock.tryLock()) {
+            return;
+        }
+        try {
+            bulkheads.background().run(this::drain);
+        } catch (CustomException e) {
+            log.debug("감사 이벤트 저장 보류 (다음 주기에 저장): {}", e.getMessage());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 종료 시 진행 중인 flush가 끝나기를 기다린 뒤 남은 이벤트 저장
+    @PreDestroy
+    void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            drain();
+            int lost = retained.size() + buffer.size();
+            if (lost > 0) {
+                failedCounter.increment(lost);
+                log.warn("DB 장애로 종료 전 감사 이벤트 {}건 저장 실패", lost);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 보관한 배치부터 저장하고, DB 연결 장애가 나면 그 배치를 보관한 채 중단
+    private void drain() {
+        int batchSize = Math.max(1, auditConfig.getBatchSize());
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        batch.addAll(retained);
+        retained.clear();
+        while (!batch.isEmpty() || buffer.drainTo(batch, batchSize) > 0) {
+            if (!write(batch)) {
+                retained.addAll(batch);
+                retryAfter = System.currentTimeMillis() + auditConfig.getFailureBackoffMs();
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * 배치를 저장하는 메서드
+     *
+     * 배치 저장이 DB 연결 장애 외의 이유로 실패하면 한 건씩 다시 저장하여 문제 있는 이벤트만 버립니다.
+     *
+     * @param batch 저장할 이벤트 (DB 연결 장애 시 저장하지 못한 이벤트만 남김)
+     * @return DB 연결 장애로 중단했으면 false
+     */
+    private boolean write(List<AuditEvent> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> bind(ps, event));
+            writtenCounter.increment(batch.size());
+            return true;
+        } catch (DataAccessException e) {
+            if (isConnectionFailure(e)) {
+                log.warn("DB 연결 장애로 감사 이벤트 저장 보류 ({}ms 후 재시도): 대기 {}건, 원인 {}",
+                        auditConfig.getFailureBackoffMs(), batch.size() + buffer.size(), e.getMessage());
+                return false;
+            }
+            if (batch.size() == 1) {
+                failedCounter.increment();
+                log.warn("감사 이벤트 저장 실패: 유형 {}, 원인 {}", batch.get(0).getEventType(), e.getMessage());
+                return true;
+            }
+            log.warn("감사 이벤트 {}건 배치 저장 실패, 한 건씩 재시도: {}", batch.size(), e.getMessage());
+            return writeEach(batch);
+        }
+    }
+
+    private boolean writeEach(List<AuditEvent> batch) {
+        int size = batch.size();
+        int failed = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            AuditEvent event = batch.get(i);
+            try {
+                jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, event));
+                writtenCounter.increment();
+            } catch (DataAccessException e) {
+                if (isConnectionFailure(e)) {
+                    // 저장한 이벤트는 빼고 나머지만 보관
+                    batch.subList(0, i).clear();
+                    log.warn("DB 연결 장애로 감사 이벤트 저장 보류 ({}ms 후 재시도): 대기 {}건, 원인 {}",
+                            auditConfig.getFailureBackoffMs(), batch.size() + buffer.size(), e.getMessage());
+                    return false;
+                }
+                failed++;
+                failedCounter.increment();
+                log.debug("감사 이벤트 저장 실패: 유형 {}, 원인 {}", event.getEventType(), e.getMessage());
+            }
+        }
+        if (failed > 0) {
+            log.warn("감사 이벤트 {}건 중 {}건 저장 실패", size, failed);
+        }
+        return true;
+    }
+
+    // 커넥션 획득 실패, 연결 끊김, 타임아웃 등 이벤트 내용과 무관하게 다시 시도하면 성공할 수 있는 실패
+    private static boolean isConnectionFailure(DataAccessException e) {
+        return e instanceof DataAccessResourceFailureException || e instanceof TransientDataAccessException;
+    }
+
+    private static void bind(PreparedStatement ps, AuditEvent event) throws SQLException {
+        ps.setString(1, event.getEventType());
+        ps.setString(2, event.getActorId());
+        ps.setString(3, event.getTargetId());
+        ps.setString(4, event.getClientIp());
+        ps.setString(5, event.getDetail());
+        ps.setTimestamp(6, Timestamp.valueOf(event.getOccurredAt()));
+    }
+}
@@ -0,0 +1,204 @@
+package com.deefacto.user_service.service;
+
+import com.deefacto.user_service.common.exception.CustomException;
+import com.deefacto.user_service.common.exception.ErrorCode;
+import com.deefacto.user_service.common.redis.RedisCircuitBreaker;
+import com.deefacto.user_service.config.LoginThrottleConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로그인 시도 제한 서비스 (슬라이딩 윈도우)
+ *
+ * BCrypt 검증 전에 사원번호별, 요청 IP별 시도 횟수를 확인하여
+ * 제한을 넘은 요청은 DB 조회와 비밀번호 검증 없이 바로 거부합니다.
+ *
+ * - 기본: Redis Sorted Set 기반 슬라이딩 윈도우 (확인 + 기록을 스크립트 1회로 원자적으로 처리)
+ * - Redis 장애 시: 인스턴스 로컬 슬라이딩 윈도우로 대체 (서킷 브레이커가 열려 있으면 Redis 호출 없이 바로 대체)
+ *
+ * 거부된 시도는 윈도우에 기록하지 않으므로, 윈도우가 지나면 다시 시도할 수 있습니다.
+ */
+@Slf4j
+@Service
+public class LoginThrottleService {
+
+    private static final String EMPLOYEE_KEY_PREFIX = "login_attempts:employee:";
+    private static final String IP_KEY_PREFIX = "login_attempts:ip:";
+
+    // 반환값: 0 = 허용, i = KEYS[i] 한도 초과로 거부
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            -- KEYS[i]: 제한 대상 키 (사원번호, IP)
+            -- ARGV[1]: 현재 시각(ms), ARGV[2]: 윈도우(ms), ARGV[3]: 시도 식별자, ARGV[3 + i]: KEYS[i] 한도
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            for i = 1, #KEYS do
+                redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', now - window)
+                if redis.call('ZCARD', KEYS[i]) >= tonumber(ARGV[3 + i]) then
+                    return i
+                end
+            end
+            for i = 1, #KEYS do
+                redis.call('ZADD', KEYS[i], now, ARGV[3])
+                redis.call('PEXPIRE', KEYS[i], window)
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LoginThrottleConfig throttleConfig;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final LocalSlidingWindow localWindow = new LocalSlidingWindow();
+
+    private final Counter throttledByEmployeeRedis;
+    private final Counter throttledByIpRedis;
+    private final Counter throttledByEmployeeLocal;
+    private final Counter throttledByIpLocal;
+    private final Counter fallbackCounter;
+
+    public LoginThrottleService(RedisTemplate<String, String> redisTemplate,
+                                LoginThrottleConfig throttleConfig,
+                                RedisCircuitBreaker redisCircuitBreaker,
+                                MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.throttleConfig = throttleConfig;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.throttledByEmployeeRedis = throttledCounter(meterRegistry, "employee", "redis");
+        this.throttledByIpRedis = throttledCounter(meterRegistry, "ip", "redis");
+        this.throttledByEmployeeLocal = throttledCounter(meterRegistry, "employee", "local");
+        this.throttledByIpLocal = throttledCounter(meterRegistry, "ip", "local");
+        this.fallbackCounter = Counter.builder("user.login.throttle.fallback")
+                .description("Redis 장애로 로컬 제한기를 사용한 로그인 시도 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시도를 확인하고 기록하는 메서드
+     *
+     * @param employeeId 로그인 시도 사원번호
+     * @param clientIp 요청 IP (알 수 없으면 null)
+     * @throws CustomException 한도를 초과한 경우 (TOO_MANY_REQUESTS)
+     */
+    public void checkAndRecord(String employeeId, String clientIp) {
+        if (!throttleConfig.isEnabled()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(2);
+        List<Integer> limits = new ArrayList<>(2);
+        keys.add(EMPLOYEE_KEY_PREFIX + employeeId);
+        limits.add(throttleConfig.getMaxAttemptsPerEmployee());
+        if (clientIp != null && !clientIp.isEmpty()) {
+            keys.add(IP_KEY_PREFIX + clientIp);
+            limits.add(throttleConfig.getMaxAttemptsPerIp());
+        }
+
+        long now = System.currentTimeMillis();
+        long windowMillis = throttleConfig.getWindowSeconds() * 1000L;
+
+        Integer redisResult = redisCircuitBreaker.execute("login-throttle",
+                () -> checkWithRedis(keys, limits, now, windowMillis),
+                () -> null);
+        boolean redisAvailable = redisResult != null;
+        int rejectedIndex;
+        if (redisAvailable) {
+            rejectedIndex = redisResult;
+        } else {
+            fallbackCounter.increment();
+            rejectedIndex = localWindow.tryAcquire(keys, limits, now, windowMillis);
+        }
+
+        if (rejectedIndex == 0) {
+            return;
+        }
+
+        boolean byEmployee = rejectedIndex == 1;
+        if (redisAvailable) {
+            (byEmployee ? throttledByEmployeeRedis : throttledByIpRedis).increment();
+        } else {
+            (byEmployee ? throttledByEmployeeLocal : throttledByIpLocal).increment();
+        }
+        log.warn("로그인 시도 제한 초과: 사원번호 {}, IP {}, 기준 {}", employeeId, clientIp, byEmployee ? "employee" : "ip");
+        throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+    }
+
+    /**
+     * 로그인 성공 시 사원번호의 시도 기록을 초기화하는 메서드
+     *
+     * @param employeeId 로그인에 성공한 사원번호
+     */
+    public void reset(String employeeId) {
+        if (!throttleConfig.isEnabled()) {
+            return;
+        }
+        String key = EMPLOYEE_KEY_PREFIX + employeeId;
+        localWindow.reset(key);
+        redisCircuitBreaker.run("login-throttle", () -> redisTemplate.delete(key));
+    }
+
+    private int checkWithRedis(List<String> keys, List<Integer> limits, long now, long windowMillis) {
+        Object[] args = new Object[3 + limits.size()];
+        args[0] = String.valueOf(now);
+        args[1] = String.valueOf(windowMillis);
+        args[2] = now + ":" + ThreadLocalRandom.current().nextLong();
+        for (int i = 0; i < limits.size(); i++) {
+            args[3 + i] = String.valueOf(limits.get(i));
+        }
+        Long result = redisTemplate.execute(SLIDING_WINDOW_SCRIPT, keys, args);
+        return result != null ? result.intValue() : 0;
+    }
+
+    private static Counter throttledCounter(MeterRegistry meterRegistry, String scope, String limiter) {
+        return Counter.builder("user.login.throttled")
+                .description("시도 제한으로 거부된 로그인 요청 수")
+                .tag("scope", scope)
+                .tag("limiter", limiter)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Redis 장애 시 사용하는 인스턴스 로컬 슬라이딩 윈도우
+     *
+     * 장애 상황에서만 사용되므로 단순성을 위해 전체를 하나의 락으로 보호합니다.
+     */
+    private static final class LocalSlidingWindow {
+
+        private static final int MAX_KEYS = 10_000;
+
+        private final Map<String, ArrayDeque<Long>> attempts = new HashMap<>();
+
+        synchronized int tryAcquire(List<String> keys, List<Integer> limits, long now, long windowMillis) {
+            if (attempts.size() > MAX_KEYS) {
+                attempts.values().removeIf(deque -> deque.isEmpty() || deque.peekLast() <= now - windowMillis);
+            }
+            for (int i = 0; i < keys.size(); i++) {
+                ArrayDeque<Long> deque = attempts.computeIfAbsent(keys.get(i), k -> new ArrayDeque<>());
+                while (!deque.isEmpty() && deque.peekFirst() <= now - windowMillis) {
+                    deque.pollFirst();
+                }
+                if (deque.size() >= limits.get(i)) {
+                    return i + 1;
+                }
+            }
+            for (String key : keys) {
+                attempts.get(key).addLast(now);
+            }
+            return 0;
+        }
+
+        synchronized void reset(String key) {
+            attempts.remove(key);
+        }
+    }
+}
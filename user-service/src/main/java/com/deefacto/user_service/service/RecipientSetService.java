@@ -0,0 +1,406 @@
+package com.deefacto.user_service.service;
+
+import com.deefacto.user_service.common.bulkhead.Bulkheads;
+import com.deefacto.user_service.common.redis.RedisCircuitBreaker;
+import com.deefacto.user_service.common.redis.RedisLeaderLock;
+import com.deefacto.user_service.config.RecipientSetConfig;
+import com.deefacto.user_service.domain.dto.UserRecipientChangedEvent;
+import com.deefacto.user_service.domain.dto.UserRecipientView;
+import com.deefacto.user_service.domain.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 구역/근무시간별 알림 수신자 집합 관리 서비스
+ *
+ * (구역, 근무시간) 조합마다 활성 사용자 ID를 Redis Set(recipients:{zone}:{shift})으로 유지하여
+ * 알림 수신자 조회(user.request)를 DB 조회 없이 SMEMBERS / SUNION 1회로 처리합니다.
+ *
+ * - 기동 시 / 주기적으로: 활성 사용자를 한 번에 조회해 전체 재구성
+ *   (리더 락을 얻은 인스턴스 한 곳에서만, DB 조회는 background bulkhead 안에서)
+ * - 사용자 등록/변경/삭제 시: 트랜잭션 커밋 후 해당 사용자만 스크립트 1회로 갱신
+ * - 전체 재구성이 끝나면 준비 표시 키(recipients:ready)를 집합 교체와 같은 MULTI/EXEC에서 기록
+ *
+ * Redis는 빈 Set을 저장하지 않으므로, 준비 표시 키가 있으면 없는 집합 키는 수신자가 없는 (구역, 근무시간)으로 봅니다.
+ * 준비 표시 키가 없으면 (재구성 전, Redis 초기화 등) null을 반환하여 DB 조회로 대체합니다.
+ * Redis 호출은 RedisCircuitBreaker를 거치며, 장애 중 조회는 DB로 대체하고 갱신은 다음 재구성에서 보정합니다.
+ *
+ * 구역/근무시간은 DB 조회(findUserIdsByScopeAndShift)와 같은 기준으로 비교합니다.
+ * - 대소문자 구분 없음 (DB 기본 collation과 동일, 키는 소문자로 저장)
+ * - 담당 구역 목록의 공백은 제거하지 않음 (LIKE 'a,%' 비교와 동일)
+ *
+ * 생성된 집합 키 목록은 recipients:keys, 재구성 중 변경된 사용자 ID는 recipients:changed에 보관합니다.
+ */
+@Slf4j
+@Service
+public class RecipientSetService {
+
+    private static final String KEY_PREFIX = "recipients:";
+    private static final String INDEX_KEY = "recipients:keys";
+    private static final String CHANGED_KEY = "recipients:changed";
+    private static final String READY_KEY = "recipients:ready";
+    private static final String TEMP_SUFFIX = ":rebuild:";
+    private static final String REBUILD_LOCK_NAME = "recipient-set.rebuild";
+
+    // 집합 키 목록이 스크립트 실행 전에 바뀐 경우 다시 시도하는 최대 횟수
+    private static final int MAX_UPDATE_ATTEMPTS = 3;
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+
+    // 기존 소속 집합에서 모두 제거 후 새 소속 집합에 추가 (반환값: 추가된 집합 수, 키 목록이 바뀌었으면 -1)
+    private static final RedisScript<Long> UPDATE_MEMBER_SCRIPT = new DefaultRedisScript<>("""
+            -- KEYS[1]: recipients:keys, KEYS[2]: recipients:changed
+            -- KEYS[3..ARGV[2]+2]: 새로 속할 수신자 집합, 나머지: 그 외 recipients:keys에 등록된 집합
+            -- ARGV[1]: userId, ARGV[2]: 새로 속할 집합 수
+            redis.call('SADD', KEYS[2], ARGV[1])
+            local added = tonumber(ARGV[2])
+            local declared = {}
+            for i = 3, #KEYS do
+                declared[KEYS[i]] = true
+            end
+            for _, key in ipairs(redis.call('SMEMBERS', KEYS[1])) do
+                if not declared[key] then
+                    return -1
+                end
+            end
+            for i = 3 + added, #KEYS do
+                redis.call('SREM', KEYS[i], ARGV[1])
+            end
+            for i = 3, 2 + added do
+                redis.call('SADD', KEYS[i], ARGV[1])
+                redis.call('SADD', KEYS[1], KEYS[i])
+            end
+            return added
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UserRepository userRepository;
+    private final RecipientSetConfig recipientSetConfig;
+    private final RedisLeaderLock redisLeaderLock;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final Bulkheads bulkheads;
+
+    public RecipientSetService(RedisTemplate<String, String> redisTemplate,
+                               UserRepository userRepository,
+                               RecipientSetConfig recipientSetConfig,
+                               RedisLeaderLock redisLeaderLock,
+                               RedisCircuitBreaker redisCircuitBreaker,
+                               Bulkheads bulkheads) {
+        this.redisTemplate = redisTemplate;
+        this.userRepository = userRepository;
+        this.recipientSetConfig = recipientSetConfig;
+        this.redisLeaderLock = redisLeaderLock;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.bulkheads = bulkheads;
+    }
+
+    /**
+     * 구역/근무시간의 수신자 ID 목록을 조회하는 메서드
+     *
+     * @param zones 구역 코드 목록 (2개 이상이면 SUNION)
+     * @param shift 근무시간
+     * @return 수신자 ID 목록, 재구성 전이거나 Redis 장애인 경우 null (DB 조회로 대체)
+     */
+    public List<Long> findRecipients(List<String> zones, String shift) {
+        if (!recipientSetConfig.isEnabled() || shift == null) {
+            return null;
+        }
+
+        List<String> keys = new ArrayList<>(zones.size());
+        for (String zone : zones) {
+            keys.add(recipientKey(normalize(zone), normalize(shift)));
+        }
+
+        // 준비 표시 키 확인과 집합 조회를 파이프라인 1회로 처리
+        List<Object> results = redisCircuitBreaker.execute("recipient-set.read",
+                () -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Object execute(RedisOperations operations) {
+                        RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                        ops.countExistingKeys(List.of(READY_KEY));
+                        if (keys.size() == 1) {
+                            ops.opsForSet().members(keys.get(0));
+                        } else {
+                            ops.opsForSet().union(keys);
+                        }
+                        return null;
+                    }
+                }),
+                () -> null);
+        if (results == null || !(results.get(0) instanceof Number ready) || ready.intValue() == 0) {
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<String> members = (Set<String>) results.get(1);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        List<Long> userIds = new ArrayList<>(members.size());
+        for (String member : members) {
+            userIds.add(Long.parseLong(member));
+        }
+        return userIds;
+    }
+
+    /**
+     * 사용자 변경을 수신자 집합에 반영하는 메서드 (트랜잭션 커밋 후 실행)
+     *
+     * 실패하더라도 사용자 변경은 이미 커밋되었으므로 로그만 남기고, 다음 전체 재구성에서 보정합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserRecipientChanged(UserRecipientChangedEvent event) {
+        if (!recipientSetConfig.isEnabled() || event.getUserId() == null) {
+            return;
+        }
+        applyMember(event.getUserId(), event.isActive() ? targetKeys(event.getScope(), event.getShift()) : Set.of());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!recipientSetConfig.isEnabled()) {
+            return;
+        }
+        try {
+            rebuildAll();
+        } catch (RuntimeException e) {
+            log.warn("기동 시 수신자 집합 구성 실패, 구성 전까지 DB 조회로 대체: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${recipient-set.reconcile-interval-ms:600000}",
+            fixedDelayString = "${recipient-set.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        if (!recipientSetConfig.isEnabled()) {
+            return;
+        }
+        try {
+            rebuildAll();
+        } catch (RuntimeException e) {
+            log.warn("수신자 집합 재구성 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 활성 사용자 전체로 수신자 집합을 다시 만드는 메서드
+     *
+     * 리더 락을 얻은 인스턴스만 실행하며, 다른 인스턴스가 실행 중이면 건너뜁니다.
+     * 집합별로 이번 실행에만 쓰는 임시 키에 적재한 뒤 RENAME하고, 키 목록을 WATCH한 MULTI/EXEC 안에서
+     * 한 번에 교체하므로 조회 중인 요청은 항상 완성된 집합을 봅니다.
+     * 더 이상 해당하는 사용자가 없는 집합은 삭제합니다.
+     *
+     * DB 조회 이후 커밋된 변경이 덮어써지지 않도록, 재구성 중 갱신된 사용자(recipients:changed)는
+     * 교체 후 DB에서 다시 읽어 반영합니다.
+     */
+    public void rebuildAll() {
+        String lockToken = redisLeaderLock.tryAcquire(REBUILD_LOCK_NAME, recipientSetConfig.getRebuildLockLeaseMs());
+        if (lockToken == null) {
+            log.debug("다른 인스턴스에서 수신자 집합 재구성 중, 이번 주기 건너뜀");
+            return;
+        }
+        try {
+            rebuild(lockToken);
+        } finally {
+            redisLeaderLock.release(REBUILD_LOCK_NAME, lockToken);
+        }
+    }
+
+    private void rebuild(String lockToken) {
+        long startedAt = System.currentTimeMillis();
+        if (!redisCircuitBreaker.execute("recipient-set.rebuild", () -> {
+            redisTemplate.delete(CHANGED_KEY);
+            return true;
+        }, () -> false)) {
+            log.warn("Redis 장애로 수신자 집합 재구성 건너뜀");
+            return;
+        }
+
+        Map<String, List<String>> recipients = new HashMap<>();
+        for (UserRecipientView view : bulkheads.background().execute(userRepository::findActiveRecipients)) {
+            String userId = String.valueOf(view.getId());
+            for (String key : targetKeys(view.getScope(), view.getShift())) {
+                recipients.computeIfAbsent(key, k -> new ArrayList<>()).add(userId);
+            }
+        }
+
+        Integer staleCount = redisCircuitBreaker.execute("recipient-set.rebuild", () -> {
+            int stale = -1;
+            for (int attempt = 0; attempt < MAX_REBUILD_ATTEMPTS && stale < 0; attempt++) {
+                stale = replaceAll(recipients, TEMP_SUFFIX + lockToken, startedAt);
+            }
+            return stale;
+        }, () -> null);
+        if (staleCount == null) {
+            log.warn("Redis 장애로 수신자 집합 교체 실패, 다음 주기에 재시도");
+            return;
+        }
+        if (staleCount < 0) {
+            throw new IllegalStateException("recipient set index kept changing during rebuild");
+        }
+
+        int reapplied = reapplyChanged();
+        log.info("수신자 집합 재구성 완료: 집합 {}개, 삭제 {}개, 재반영 {}명, {}ms",
+                recipients.size(), staleCount, reapplied, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 키 목록(recipients:keys)을 WATCH한 상태로 모든 집합과 준비 표시 키를 MULTI/EXEC 1회로 교체하는 메서드
+     *
+     * @return 삭제한 집합 수, 그 사이 키 목록이 바뀌어 EXEC가 취소되었으면 -1
+     */
+    private int replaceAll(Map<String, List<String>> recipients, String tempSuffix, long rebuiltAt) {
+        int batchSize = Math.max(1, recipientSetConfig.getWriteBatchSize());
+        List<Object> results = redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Object> execute(RedisOperations operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.watch(INDEX_KEY);
+                Set<String> previousKeys = ops.opsForSet().members(INDEX_KEY);
+                Set<String> staleKeys = previousKeys != null ? new HashSet<>(previousKeys) : new HashSet<>();
+                staleKeys.removeAll(recipients.keySet());
+
+                ops.multi();
+                for (Map.Entry<String, List<String>> entry : recipients.entrySet()) {
+                    String tempKey = entry.getKey() + tempSuffix;
+                    List<String> userIds = entry.getValue();
+                    for (int from = 0; from < userIds.size(); from += batchSize) {
+                        List<String> batch = userIds.subList(from, Math.min(userIds.size(), from + batchSize));
+                        ops.opsForSet().add(tempKey, batch.toArray(new String[0]));
+                    }
+                    ops.rename(tempKey, entry.getKey());
+                }
+                if (!staleKeys.isEmpty()) {
+                    ops.delete(staleKeys);
+                }
+                ops.delete(INDEX_KEY);
+                if (!recipients.isEmpty()) {
+                    ops.opsForSet().add(INDEX_KEY, recipients.keySet().toArray(new String[0]));
+                }
+                ops.opsForValue().set(READY_KEY, String.valueOf(rebuiltAt));
+                List<Object> exec = ops.exec();
+                return exec == null || exec.isEmpty() ? null : List.of(staleKeys.size());
+            }
+        });
+        return results != null ? (Integer) results.get(0) : -1;
+    }
+
+    // 재구성 중 갱신된 사용자를 DB에서 다시 읽어 반영 (교체 전 스냅샷으로 덮어쓴 변경 복구)
+    private int reapplyChanged() {
+        Set<String> changed = redisCircuitBreaker.execute("recipient-set.rebuild",
+                () -> redisTemplate.opsForSet().members(CHANGED_KEY), () -> null);
+        if (changed == null || changed.isEmpty()) {
+            return 0;
+        }
+        List<Long> userIds = new ArrayList<>(changed.size());
+        for (String member : changed) {
+            userIds.add(Long.parseLong(member));
+        }
+
+        Map<Long, UserRecipientView> active = new HashMap<>();
+        for (UserRecipientView view : bulkheads.background().execute(() -> userRepository.findActiveRecipientsByIdIn(userIds))) {
+            active.put(view.getId(), view);
+        }
+        for (Long userId : userIds) {
+            UserRecipientView view = active.get(userId);
+            applyMember(userId, view != null ? targetKeys(view.getScope(), view.getShift()) : Set.of());
+        }
+        return userIds.size();
+    }
+
+    // 사용자 1명의 소속 집합 갱신 (Redis 장애 시 생략, 다음 재구성에서 보정)
+    private void applyMember(Long userId, Set<String> targetKeys) {
+        redisCircuitBreaker.execute("recipient-set.update", () -> {
+            updateMember(userId, targetKeys);
+            return null;
+        }, () -> {
+            log.warn("수신자 집합 갱신 실패 (다음 재구성에서 보정): userId {}", userId);
+            return null;
+        });
+    }
+
+    /**
+     * 사용자 1명의 소속 집합을 스크립트 1회로 교체하는 메서드
+     *
+     * 스크립트가 건드리는 모든 키를 KEYS로 넘기기 위해 현재 키 목록을 먼저 읽고,
+     * 그 사이 키 목록이 바뀌었으면 (스크립트가 -1 반환) 다시 시도합니다.
+     */
+    private void updateMember(Long userId, Set<String> targetKeys) {
+        for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+            Set<String> indexed = redisTemplate.opsForSet().members(INDEX_KEY);
+
+            List<String> keys = new ArrayList<>();
+            keys.add(INDEX_KEY);
+            keys.add(CHANGED_KEY);
+            keys.addAll(targetKeys);
+            if (indexed != null) {
+                for (String key : indexed) {
+                    if (!targetKeys.contains(key)) {
+                        keys.add(key);
+                    }
+                }
+            }
+
+            Long result = redisTemplate.execute(UPDATE_MEMBER_SCRIPT, keys,
+                    String.valueOf(userId), String.valueOf(targetKeys.size()));
+            if (result != null && result >= 0) {
+                return;
+            }
+        }
+        log.warn("수신자 집합 키 목록이 계속 바뀌어 갱신 생략 (다음 재구성에서 보정): userId {}", userId);
+    }
+
+    // 사용자가 속할 수신자 집합 키 목록 (근무시간이 없으면 어느 집합에도 속하지 않음)
+    private static Set<String> targetKeys(String scope, String shift) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (shift == null) {
+            return keys;
+        }
+        for (String zone : parseScope(scope)) {
+            keys.add(recipientKey(zone, normalize(shift)));
+        }
+        return keys;
+    }
+
+    // 콤마로 구분된 담당 구역 목록 파싱 (DB LIKE 비교와 같도록 공백은 그대로 두고 빈 값만 제외)
+    private static Set<String> parseScope(String scope) {
+        Set<String> zones = new LinkedHashSet<>();
+        if (scope == null) {
+            return zones;
+        }
+        for (String zone : scope.split(",")) {
+            if (!zone.isEmpty()) {
+                zones.add(normalize(zone));
+            }
+        }
+        return zones;
+    }
+
+    // DB 기본 collation처럼 대소문자를 구분하지 않도록 소문자로 통일
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static String recipientKey(String zone, String shift) {
+        return KEY_PREFIX + zone + ":" + shift;
+    }
+}
@@ -0,0 +1,143 @@
+package com.deefacto.user_service.service;
+
+import com.deefacto.user_service.common.bulkhead.Bulkheads;
+import com.deefacto.user_service.config.ShiftPrewarmConfig;
+import com.deefacto.user_service.domain.Entitiy.User;
+import com.deefacto.user_service.domain.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 근무 교대 전 캐시 예열 서비스
+ *
+ * 근무시간(DAY / NIGHT)이 시작되기 shift-prewarm.lead-minutes 전에 해당 근무조의 활성 사용자를
+ * 배치 단위로 한 번에 조회하여, 교대 직후 몰리는 사용자 조회가 차가운 DB 대신 캐시를 거치도록 합니다.
+ *
+ * - Redis 유저 캐시(user:{employeeId}, user_id:{id}): 다른 서비스의 사용자 일괄 조회(findUsersBatch)와
+ *   프로필 조건부 요청(If-None-Match)이 사용, 배치마다 파이프라인 1회로 저장
+ *   (여러 인스턴스 중 예열 락을 얻은 한 곳만 저장)
+ * - Hibernate 2차 캐시(user, user-natural-id): 로그인 후 프로필 조회(findById)와 Redis 캐시 미스 시 조회
+ *   (findByEmployeeId)가 사용, 조회만으로 채워지므로 인스턴스마다 각자 조회
+ *
+ * 로그인 / 토큰 재발급 / 권한 확인은 다른 노드의 변경이 바로 보이도록 두 캐시를 모두 거치지 않고
+ * Primary에서 조회하므로 예열 대상이 아닙니다.
+ *
+ * 교대 직전 로그인과 커넥션을 다투지 않도록 배치 조회는 background bulkhead 안에서 실행합니다.
+ */
+@Slf4j
+@Service
+public class ShiftPrewarmService {
+
+    private static final String LOCK_KEY_PREFIX = "lock:shift_prewarm:";
+
+    // Redis에 저장되는 유저정보 TTL (Refresh Token 시간과 통일)
+    private final long USER_CACHE_TTL_MIN = 20;
+
+    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ShiftPrewarmConfig shiftPrewarmConfig;
+    private final TaskScheduler taskScheduler;
+    private final MeterRegistry meterRegistry;
+    private final Bulkheads bulkheads;
+
+    public ShiftPrewarmService(UserRepository userRepository,
+                               UserCacheService userCacheService,
+                               RedisTemplate<String, String> redisTemplate,
+                               ShiftPrewarmConfig shiftPrewarmConfig,
+                               TaskScheduler taskScheduler,
+                               MeterRegistry meterRegistry,
+                               Bulkheads bulkheads) {
+        this.userRepository = userRepository;
+        this.userCacheService = userCacheService;
+        this.redisTemplate = redisTemplate;
+        this.shiftPrewarmConfig = shiftPrewarmConfig;
+        this.taskScheduler = taskScheduler;
+        this.meterRegistry = meterRegistry;
+        this.bulkheads = bulkheads;
+    }
+
+    // 근무시간별 시작 시각 - lead-minutes 에 매일 예열 실행 등록
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleShifts() {
+        if (!shiftPrewarmConfig.isEnabled()) {
+            return;
+        }
+        ZoneId zone = ZoneId.of(shiftPrewarmConfig.getZone());
+        for (Map.Entry<String, String> entry : shiftPrewarmConfig.getStartTimes().entrySet()) {
+            String shift = entry.getKey();
+            LocalTime prewarmAt = LocalTime.parse(entry.getValue()).minusMinutes(shiftPrewarmConfig.getLeadMinutes());
+            String cron = String.format("0 %d %d * * *", prewarmAt.getMinute(), prewarmAt.getHour());
+            taskScheduler.schedule(() -> prewarm(shift), new CronTrigger(cron, zone));
+            log.info("교대 전 캐시 예열 등록: 근무시간 {}, 매일 {} ({})", shift, prewarmAt, zone);
+        }
+    }
+
+    /**
+     * 근무조의 활성 사용자를 캐시에 미리 적재하는 메서드
+     *
+     * @param shift 근무시간 (User.shift 값)
+     * @return 조회한 사용자 수
+     */
+    public int prewarm(String shift) {
+        long startedAt = System.currentTimeMillis();
+        boolean writeRedis = acquireLock(shift);
+        int batchSize = Math.max(1, shiftPrewarmConfig.getBatchSize());
+
+        int loaded = 0;
+        long afterId = 0;
+        try {
+            while (true) {
+                long lastId = afterId;
+                List<User> users = bulkheads.background().execute(
+                        () -> userRepository.findActiveByShiftAfterId(shift, lastId, PageRequest.ofSize(batchSize)));
+                if (users.isEmpty()) {
+                    break;
+                }
+                if (writeRedis) {
+                    userCacheService.saveUsers(users, USER_CACHE_TTL_MIN);
+                }
+                loaded += users.size();
+                afterId = users.get(users.size() - 1).getId();
+                if (users.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("교대 전 캐시 예열 실패: 근무시간 {}, {}명 적재 후 중단, 원인 {}", shift, loaded, e.getMessage());
+            return loaded;
+        }
+
+        meterRegistry.counter("user.cache.prewarm.users", "shift", shift).increment(loaded);
+        log.info("교대 전 캐시 예열 완료: 근무시간 {}, 사용자 {}명, Redis 저장 {}, {}ms",
+                shift, loaded, writeRedis, System.currentTimeMillis() - startedAt);
+        return loaded;
+    }
+
+    // 같은 근무조 예열은 하루에 한 인스턴스만 Redis에 저장 (Redis 장애 시 저장 생략)
+    private boolean acquireLock(String shift) {
+        String lockKey = LOCK_KEY_PREFIX + shift + ":" + LocalDate.now(ZoneId.of(shiftPrewarmConfig.getZone()));
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(lockKey, "1", shiftPrewarmConfig.getLeadMinutes() + 1L, TimeUnit.MINUTES));
+        } catch (DataAccessException e) {
+            log.debug("교대 전 캐시 예열 락 획득 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.deefacto.user_service.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 기동 후 첫 로그인까지 걸린 시간 측정
+ *
+ * JVM 시작부터 첫 로그인 성공까지의 시간을 application.first.login.time 메트릭으로 노출합니다.
+ * (Spring Boot 기본 메트릭 application.ready.time과 함께 빠른 기동 모드 효과 비교에 사용)
+ */
+@Slf4j
+@Component
+public class StartupTimeTracker {
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean recorded = new AtomicBoolean();
+
+    public StartupTimeTracker(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 로그인 성공 시 호출 (처음 한 번만 기록)
+     */
+    public void recordLogin() {
+        if (recorded.get() || !recorded.compareAndSet(false, true)) {
+            return;
+        }
+        long elapsedMillis = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        TimeGauge.builder("application.first.login.time", () -> elapsedMillis, TimeUnit.MILLISECONDS)
+                .description("JVM 시작부터 첫 로그인 성공까지 걸린 시간")
+                .register(meterRegistry);
+        log.info("기동 후 첫 로그인 처리: JVM 시작 후 {}ms", elapsedMillis);
+    }
+}
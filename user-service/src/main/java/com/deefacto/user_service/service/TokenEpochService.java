@@ -0,0 +1,170 @@
+package com.deefacto.user_service.service;
+
+import com.deefacto.user_service.common.cache.LocalTtlCache;
+import com.deefacto.user_service.common.exception.CustomException;
+import com.deefacto.user_service.common.exception.ErrorCode;
+import com.deefacto.user_service.common.redis.RedisCircuitBreaker;
+import com.deefacto.user_service.secret.jwt.JwtConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 사용자별 토큰 세대(epoch) 관리 서비스
+ *
+ * 발급되는 모든 토큰에 사용자의 현재 epoch를 클레임으로 넣고,
+ * 검증 시 토큰의 epoch와 현재 epoch를 비교합니다.
+ * epoch를 1 올리면(INCR 1회) 그 이전에 발급된 사용자의 모든 토큰이 한 번에 무효화됩니다.
+ *
+ * 현재 epoch는 로컬 캐시에 짧게 보관하고, 다른 인스턴스에서 epoch가 올라가면
+ * Redis Pub/Sub 알림으로 로컬 캐시를 즉시 비웁니다.
+ *
+ * Redis 장애로 epoch를 알 수 없으면(로컬 캐시에 없는 경우) 검증은 SERVICE_UNAVAILABLE입니다.
+ * 검증을 통과시키면 일괄 무효화된 토큰이 다시 유효해지기 때문입니다.
+ * 발급은 findAvailableEpoch로 epoch를 알 수 없음을 확인한 뒤, redis-resilience.login-policy에 따라
+ * 짧은 수명의 미확인 토큰을 발급하거나 거부합니다. (TokenGenerator)
+ */
+@Slf4j
+@Service
+public class TokenEpochService implements MessageListener {
+
+    private static final String EPOCH_KEY_PREFIX = "user_epoch:";
+    private static final String EPOCH_CHANNEL = "user_epoch_changed";
+    private static final int LOCAL_CACHE_MAX_SIZE = 10_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final LocalTtlCache<String, Long> epochCache;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    public TokenEpochService(RedisTemplate<String, String> redisTemplate,
+                             RedisMessageListenerContainer listenerContainer,
+                             JwtConfig jwtConfig,
+                             RedisCircuitBreaker redisCircuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.epochCache = new LocalTtlCache<>(jwtConfig.getEpochCacheTtlSeconds() * 1000L, LOCAL_CACHE_MAX_SIZE);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(EPOCH_CHANNEL));
+    }
+
+    /**
+     * 사용자의 현재 epoch를 반환하는 메서드 (로컬 캐시 우선)
+     *
+     * @param employeeId 사용자 사원번호
+     * @return 현재 epoch (한 번도 올린 적이 없으면 0)
+     * @throws CustomException Redis 장애로 epoch를 알 수 없는 경우 (SERVICE_UNAVAILABLE)
+     */
+    public long currentEpoch(String employeeId) {
+        return findEpoch(employeeId);
+    }
+
+    /**
+     * 사용자의 현재 epoch를 반환하되, Redis 장애로 알 수 없으면 예외 대신 null을 반환하는 메서드
+     *
+     * @param employeeId 사용자 사원번호
+     * @return 현재 epoch (한 번도 올린 적이 없으면 0), 알 수 없으면 null
+     */
+    public Long findAvailableEpoch(String employeeId) {
+        Long cached = epochCache.get(employeeId);
+        if (cached != null) {
+            return cached;
+        }
+        String value = redisCircuitBreaker.execute("token-epoch.read",
+                () -> {
+                    String current = redisTemplate.opsForValue().get(epochKey(employeeId));
+                    return current != null ? current : "0";
+                },
+                () -> null);
+        return value != null ? cacheEpoch(employeeId, value) : null;
+    }
+
+    /**
+     * 로컬 캐시에 있는 epoch만 반환하는 메서드 (Redis를 조회하지 않음)
+     *
+     * @param employeeId 사용자 사원번호
+     * @return 캐시된 epoch, 없으면 null
+     */
+    public Long findCachedEpoch(String employeeId) {
+        return epochCache.get(employeeId);
+    }
+
+    /**
+     * 다른 곳에서 Redis로 조회한 epoch 값을 로컬 캐시에 반영하는 메서드
+     *
+     * @param employeeId 사용자 사원번호
+     * @param value epoch 키의 값 (없으면 null)
+     * @return 해석한 epoch
+     */
+    public long cacheEpoch(String employeeId, String value) {
+        long epoch = value != null ? Long.parseLong(value) : 0L;
+        epochCache.put(employeeId, epoch);
+        return epoch;
+    }
+
+    public static String epochKey(String employeeId) {
+        return EPOCH_KEY_PREFIX + employeeId;
+    }
+
+    /**
+     * 토큰의 epoch가 사용자의 현재 epoch와 같은지 확인하는 메서드
+     *
+     * @param employeeId 사용자 사원번호
+     * @param tokenEpoch 토큰에 담긴 epoch
+     * @return 현재 세대의 토큰이면 true
+     * @throws CustomException Redis 장애로 epoch를 알 수 없는 경우 (SERVICE_UNAVAILABLE)
+     */
+    public boolean isCurrent(String employeeId, long tokenEpoch) {
+        return findEpoch(employeeId) == tokenEpoch;
+    }
+
+    /**
+     * 사용자의 epoch를 올려 지금까지 발급된 모든 토큰을 무효화하는 메서드
+     *
+     * Redis 쓰기는 DB 롤백과 함께 되돌릴 수 없으므로, 트랜잭션 안의 변경에 따른 무효화는
+     * 커밋 후에 호출해야 합니다. (TokenRevocationService)
+     *
+     * @param employeeId 사용자 사원번호
+     * @return 새 epoch
+     */
+    public long bumpEpoch(String employeeId) {
+        Long epoch = redisCircuitBreaker.execute("token-epoch.bump",
+                () -> redisTemplate.opsForValue().increment(epochKey(employeeId)),
+                () -> {
+                    throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+                });
+        long newEpoch = epoch != null ? epoch : 0L;
+        epochCache.put(employeeId, newEpoch);
+        // 알림 실패 시 다른 인스턴스는 로컬 캐시 TTL 후 반영
+        redisCircuitBreaker.run("token-epoch.publish", () -> redisTemplate.convertAndSend(EPOCH_CHANNEL, employeeId));
+        log.info("토큰 epoch 갱신: 사원번호 {}, epoch {}", employeeId, newEpoch);
+        return newEpoch;
+    }
+
+    // 로컬 캐시 → Redis 순으로 조회 (Redis 장애 시 SERVICE_UNAVAILABLE)
+    private long findEpoch(String employeeId) {
+        Long epoch = findAvailableEpoch(employeeId);
+        if (epoch == null) {
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+        return epoch;
+    }
+
+    // 다른 인스턴스에서 epoch가 바뀐 경우 로컬 캐시 제거
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String employeeId = new String(message.getBody(), StandardCharsets.UTF_8);
+        epochCache.invalidate(employeeId);
+    }
+}
@@ -0,0 +1,215 @@
+package com.deefacto.user_service.service;
+
+import com.deefacto.user_service.common.cache.LocalTtlCache;
+import com.deefacto.user_service.common.exception.CustomException;
+import com.deefacto.user_service.common.exception.ErrorCode;
+import com.deefacto.user_service.common.redis.RedisCircuitBreaker;
+import com.deefacto.user_service.config.TokenIntrospectionConfig;
+import com.deefacto.user_service.domain.dto.TokenIntrospectionDto;
+import com.deefacto.user_service.secret.jwt.TokenGenerator;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 토큰 일괄 검증(introspection) 서비스
+ *
+ * API Gateway가 Redis를 직접 조회하며 로그아웃/epoch 검증 로직을 다시 구현하지 않도록
+ * 토큰 목록을 받아 토큰별 상태(ACTIVE/REVOKED/EXPIRED/INVALID)와 클레임을 반환합니다.
+ *
+ * 처리 과정:
+ * 1. 최근 검증 결과 로컬 캐시 확인 (짧은 TTL)
+ * 2. 캐시에 없는 토큰만 서명 검증 (토큰당 1회)
+ * 3. 로그아웃 표식(토큰 키)과 로컬 캐시에 없는 사용자 epoch를 파이프라인 GET 1회로 조회
+ *
+ * Redis 장애 중 epoch를 확인하지 못하고 발급한 토큰(EpochUnverified)은 Redis 조회가 되면 REVOKED입니다.
+ * (장애 중에는 조회 자체가 SERVICE_UNAVAILABLE이므로 Gateway 정책으로 처리)
+ */
+@Service
+public class TokenIntrospectionService {
+
+    // UserService.logout / UserSessionService가 토큰 키에 저장하는 값
+    private static final String LOGOUT_MARKER = "logout";
+
+    private final TokenGenerator tokenGenerator;
+    private final TokenEpochService tokenEpochService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenIntrospectionConfig introspectionConfig;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final LocalTtlCache<String, TokenIntrospectionDto> verdictCache;
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+
+    public TokenIntrospectionService(TokenGenerator tokenGenerator,
+                                     TokenEpochService tokenEpochService,
+                                     RedisTemplate<String, String> redisTemplate,
+                                     TokenIntrospectionConfig introspectionConfig,
+                                     RedisCircuitBreaker redisCircuitBreaker,
+                                     MeterRegistry meterRegistry) {
+        this.tokenGenerator = tokenGenerator;
+        this.tokenEpochService = tokenEpochService;
+        this.redisTemplate = redisTemplate;
+        this.introspectionConfig = introspectionConfig;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.verdictCache = new LocalTtlCache<>(introspectionConfig.getVerdictCacheTtlMs(),
+                introspectionConfig.getVerdictCacheMaxSize());
+        this.cacheHitCounter = Counter.builder("token.introspect.cache")
+                .tag("result", "hit")
+                .description("검증 결과 로컬 캐시 조회 수")
+                .register(meterRegistry);
+        this.cacheMissCounter = Counter.builder("token.introspect.cache")
+                .tag("result", "miss")
+                .description("검증 결과 로컬 캐시 조회 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 목록을 일괄 검증하는 메서드
+     *
+     * @param tokens 검증할 토큰 목록
+     * @return 요청과 같은 순서의 검증 결과
+     * @throws CustomException 최대 개수를 초과한 경우 (BAD_PARAMETER)
+     */
+    public List<TokenIntrospectionDto> introspect(List<String> tokens) {
+        if (tokens.size() > introspectionConfig.getBatchMaxSize()) {
+            throw new CustomException(ErrorCode.BAD_PARAMETER,
+                    "At most " + introspectionConfig.getBatchMaxSize() + " tokens per request");
+        }
+
+        long nowSeconds = System.currentTimeMillis() / 1000;
+        Map<String, TokenIntrospectionDto> verdicts = new LinkedHashMap<>();
+        Map<String, Claims> pending = new LinkedHashMap<>();
+        for (String token : new LinkedHashSet<>(tokens)) {
+            if (token == null || token.isBlank()) {
+                continue;
+            }
+            TokenIntrospectionDto cached = verdictCache.get(token);
+            if (cached != null) {
+                cacheHitCounter.increment();
+                // 캐시 보관 중 만료 시각이 지난 경우
+                if (cached.getStatus() == TokenIntrospectionDto.Status.ACTIVE
+                        && cached.getExpiresAt() != null && cached.getExpiresAt() <= nowSeconds) {
+                    cached = cached.toBuilder().status(TokenIntrospectionDto.Status.EXPIRED).build();
+                }
+                verdicts.put(token, cached);
+                continue;
+            }
+            cacheMissCounter.increment();
+            try {
+                pending.put(token, tokenGenerator.parseClaims(token));
+            } catch (ExpiredJwtException e) {
+                cacheVerdict(verdicts, token, toVerdict(TokenIntrospectionDto.Status.EXPIRED, e.getClaims()));
+            } catch (JwtException | IllegalArgumentException e) {
+                cacheVerdict(verdicts, token, TokenIntrospectionDto.invalid());
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            resolveRevocation(pending, verdicts);
+        }
+
+        List<TokenIntrospectionDto> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            TokenIntrospectionDto verdict = token != null ? verdicts.get(token) : null;
+            results.add(verdict != null ? verdict : TokenIntrospectionDto.invalid());
+        }
+        return results;
+    }
+
+    /**
+     * 로그아웃한 토큰의 검증 결과 캐시를 지우는 메서드 (이 인스턴스에서는 즉시 REVOKED로 보이도록)
+     *
+     * @param token 로그아웃한 토큰
+     */
+    public void invalidate(String token) {
+        verdictCache.invalidate(token);
+    }
+
+    /**
+     * 서명 검증을 통과한 토큰의 로그아웃 여부와 epoch를 파이프라인 1회로 확인하는 메서드
+     */
+    private void resolveRevocation(Map<String, Claims> pending, Map<String, TokenIntrospectionDto> verdicts) {
+        List<String> tokens = new ArrayList<>(pending.keySet());
+
+        // 로컬 캐시에 epoch가 없는 사용자만 조회
+        Map<String, Long> epochs = new HashMap<>();
+        Set<String> epochMisses = new LinkedHashSet<>();
+        for (Claims claims : pending.values()) {
+            Long cached = tokenEpochService.findCachedEpoch(claims.getSubject());
+            if (cached != null) {
+                epochs.put(claims.getSubject(), cached);
+            } else {
+                epochMisses.add(claims.getSubject());
+            }
+        }
+        List<String> epochEmployeeIds = new ArrayList<>(epochMisses);
+
+        // Redis 장애 시 무효화 여부를 알 수 없으므로 SERVICE_UNAVAILABLE (Gateway가 자체 정책으로 처리)
+        List<Object> values = redisCircuitBreaker.execute("token.introspect", () -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (String token : tokens) {
+                    ops.opsForValue().get(token);
+                }
+                for (String employeeId : epochEmployeeIds) {
+                    ops.opsForValue().get(TokenEpochService.epochKey(employeeId));
+                }
+                return null;
+            }
+        }), () -> {
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+        });
+
+        for (int i = 0; i < epochEmployeeIds.size(); i++) {
+            Object value = values.get(tokens.size() + i);
+            String employeeId = epochEmployeeIds.get(i);
+            epochs.put(employeeId, tokenEpochService.cacheEpoch(employeeId, value != null ? value.toString() : null));
+        }
+
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            Claims claims = pending.get(token);
+            boolean loggedOut = LOGOUT_MARKER.equals(values.get(i));
+            // 장애 중 발급한 토큰은 epoch 클레임이 없어 0과 같게 보이므로 먼저 거름
+            TokenIntrospectionDto.Status status = loggedOut || TokenGenerator.isEpochUnverified(claims)
+                    || epochs.get(claims.getSubject()) != TokenGenerator.epochOf(claims)
+                    ? TokenIntrospectionDto.Status.REVOKED
+                    : TokenIntrospectionDto.Status.ACTIVE;
+            cacheVerdict(verdicts, token, toVerdict(status, claims));
+        }
+    }
+
+    private void cacheVerdict(Map<String, TokenIntrospectionDto> verdicts, String token, TokenIntrospectionDto verdict) {
+        verdicts.put(token, verdict);
+        verdictCache.put(token, verdict);
+    }
+
+    private TokenIntrospectionDto toVerdict(TokenIntrospectionDto.Status status, Claims claims) {
+        Object userId = claims.get("UserId");
+        return TokenIntrospectionDto.builder()
+                .status(status)
+                .employeeId(claims.getSubject())
+                .userId(userId instanceof Number number ? number.longValue() : null)
+                .type(claims.get("type", String.class))
+                .epoch(TokenGenerator.epochOf(claims))
+                .issuedAt(claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() / 1000 : null)
+                .expiresAt(claims.getExpiration() != null ? claims.getExpiration().getTime() / 1000 : null)
+                .build();
+    }
+}
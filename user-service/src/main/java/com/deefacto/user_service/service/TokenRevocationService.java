@@ -0,0 +1,113 @@
+package com.deefacto.user_service.service;
+
+import com.deefacto.user_service.common.bulkhead.Bulkheads;
+import com.deefacto.user_service.common.redis.RedisCircuitBreaker;
+import com.deefacto.user_service.common.redis.RedisLeaderLock;
+import com.deefacto.user_service.config.SessionConfig;
+import com.deefacto.user_service.domain.Entitiy.TokenRevocation;
+import com.deefacto.user_service.domain.repository.TokenRevocationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 토큰 일괄 무효화(epoch 증가 + 세션 레지스트리 정리)를 커밋 후 확실히 반영하는 서비스
+ *
+ * 처리 과정:
+ * 1. 사용자 변경과 같은 트랜잭션에서 무효화 요청을 token_revocation 테이블에 기록
+ * 2. 커밋 후 바로 Redis에 반영하고, 성공하면 요청 행 삭제
+ * 3. 반영에 실패한 요청(Redis 장애, 반영 전 인스턴스 종료 등)은 리더 인스턴스가 주기적으로 재시도
+ *
+ * 커밋 후 실패는 요청 스레드로 던지지 않습니다. (변경은 이미 커밋됐으므로 요청은 성공으로 응답)
+ * 재시도는 커밋 직후 반영과 겹쳐 epoch가 두 번 오르지 않도록 session.revocation-retry-delay-seconds가 지난 요청만 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private static final String LOCK_NAME = "token-revocation.retry";
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final TokenEpochService tokenEpochService;
+    private final UserSessionService userSessionService;
+    private final SessionConfig sessionConfig;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final RedisLeaderLock leaderLock;
+    private final Bulkheads bulkheads;
+
+    /**
+     * 토큰 일괄 무효화를 요청하는 메서드
+     *
+     * 반드시 사용자 변경과 같은 트랜잭션 안에서 호출되어야 하며(MANDATORY),
+     * 트랜잭션이 롤백되면 토큰은 그대로 유지됩니다.
+     *
+     * @param employeeId 대상 사용자 사원번호
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void request(String employeeId) {
+        TokenRevocation revocation = tokenRevocationRepository.save(new TokenRevocation(employeeId));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(revocation);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${session.revocation-retry-interval-ms:1000}")
+    public void retryPending() {
+        // Redis 장애 중에는 재시도해도 실패하므로 DB 조회도 생략
+        if (redisCircuitBreaker.isDegraded()) {
+            return;
+        }
+        String lockToken = leaderLock.tryAcquire(LOCK_NAME, sessionConfig.getRevocationRetryIntervalMs() * 10);
+        if (lockToken == null) {
+            return;
+        }
+        try {
+            LocalDateTime before = LocalDateTime.now().minusSeconds(sessionConfig.getRevocationRetryDelaySeconds());
+            List<TokenRevocation> batch = bulkheads.background().execute(
+                    () -> tokenRevocationRepository.findBatchForRetry(before, sessionConfig.getRevocationRetryBatchSize()));
+            for (TokenRevocation revocation : batch) {
+                // 실패하면 남은 요청은 다음 주기에 기록 순서대로 재시도
+                if (!apply(revocation)) {
+                    break;
+                }
+            }
+        } finally {
+            leaderLock.release(LOCK_NAME, lockToken);
+        }
+    }
+
+    /**
+     * 무효화 요청 하나를 Redis에 반영하고 요청 행을 삭제하는 메서드
+     *
+     * @return 반영 성공 여부 (실패한 요청은 행이 남아 재시도됨)
+     */
+    private boolean apply(TokenRevocation revocation) {
+        String employeeId = revocation.getEmployeeId();
+        try {
+            tokenEpochService.bumpEpoch(employeeId);
+            userSessionService.revokeAllSessions(employeeId);
+        } catch (RuntimeException e) {
+            log.warn("토큰 일괄 무효화 반영 실패, 재시도 예정: 사원번호 {}, 원인 {}", employeeId, e.getMessage());
+            return false;
+        }
+        try {
+            tokenRevocationRepository.deleteById(revocation.getId());
+        } catch (RuntimeException e) {
+            // 행이 남으면 재시도 때 epoch가 한 번 더 오를 뿐 (이미 무효화된 토큰만 영향)
+            log.warn("토큰 일괄 무효화 요청 삭제 실패: 사원번호 {}, 원인 {}", employeeId, e.getMessage());
+        }
+        return true;
+    }
+}
@@ -1,36 +1,443 @@
 package com.deefacto.user_service.service;
 
+import com.deefacto.user_service.common.cache.UserCacheCodec;
+import com.deefacto.user_service.common.redis.RedisCircuitBreaker;
+import com.deefacto.user_service.config.UserCacheConfig;
 import com.deefacto.user_service.domain.Entitiy.User;
 import com.deefacto.user_service.domain.dto.UserCacheDto;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
+/**
+ * Redis 유저 정보 캐시 서비스
+ *
+ * 같은 정보를 사번 키(user:{employeeId}, API Gateway가 참조)와
+ * ID 키(user_id:{id}, 일괄 조회용) 두 곳에 저장합니다.
+ *
+ * 캐시 스탬피드(같은 시각에 저장된 항목이 한꺼번에 만료되어 DB로 조회가 몰리는 현상) 방지:
+ * - TTL에 무작위 편차(±user-cache.ttl-jitter-ratio)를 더해 만료 시각 분산
+ * - getOrLoad: 같은 키의 동시 조회는 노드 안에서는 하나의 조회로 합치고(single-flight),
+ *   노드 간에는 짧은 Redis 락(lock:user:{employeeId})으로 한 노드만 DB를 조회
+ * - getOrLoad: 만료가 가까울수록 높은 확률로 미리 갱신 (XFetch, 갱신 중에는 기존 값 반환)
+ *
+ * 값은 user-cache.format에 따라 JSON 또는 UserCacheCodec 바이너리로 저장하며,
+ * 읽을 때는 첫 바이트로 형식을 판별하므로 형식 전환 중 두 형식이 섞여 있어도 됩니다.
+ *
+ * Redis 장애 시(RedisCircuitBreaker) 캐시 읽기는 미스로 처리하여 DB에서 조회합니다.
+ * 캐시 쓰기 / 삭제가 실패하면 이전 값이 남아 있을 수 있으므로 두 키를 삭제 대기 목록에 넣고,
+ * Redis가 복구되면 주기적으로(user-cache.eviction-retry-interval-ms) 삭제합니다.
+ * 삭제 대기 중인 키는 이 노드에서는 Redis에서 읽지 않고 미스로 처리합니다.
+ * (목록은 노드 메모리에만 있으므로 다른 노드와 Gateway는 삭제 전까지 이전 값을 볼 수 있고, 재시작하면 TTL로 만료)
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserCacheService {
+    private static final String USER_KEY_PREFIX = "user:";
+    private static final String USER_ID_KEY_PREFIX = "user_id:";
+    private static final String LOCK_KEY_PREFIX = "lock:";
+
+    // 락 값이 자신의 토큰일 때만 삭제 (락 만료 후 다른 노드가 얻은 락을 지우지 않도록)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // 락 키 전용
     private final RedisTemplate<String, String> redisTemplate;
+    // 캐시 값 읽기/쓰기 (JSON / 바이너리 모두 바이트로 처리)
+    private final RedisTemplate<String, byte[]> userCacheRedisTemplate;
     private final ObjectMapper objectMapper;
+    private final UserCacheConfig userCacheConfig;
+    private final MeterRegistry meterRegistry;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    // 이 노드에서 진행 중인 키별 조회 (같은 키의 동시 조회는 이 결과를 함께 기다림)
+    private final ConcurrentHashMap<String, CompletableFuture<UserCacheDto>> inFlightLoads = new ConcurrentHashMap<>();
+
+    // Redis 장애로 쓰기 / 삭제에 실패해 이전 값이 남아 있을 수 있는 키 → 등록 순번
+    // (삭제 재시도 중 다시 실패로 등록된 키를 목록에서 지우지 않도록 순번이 같을 때만 제거)
+    private final ConcurrentHashMap<String, Long> pendingEvictions = new ConcurrentHashMap<>();
+    private final AtomicLong pendingSequence = new AtomicLong();
+
+    // DB 조회 + 캐시 저장 소요 시간 추정치 (밀리초, 지수 이동 평균, XFetch의 delta)
+    private volatile double loadTimeMs;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("user.cache.pending.evictions", pendingEvictions, Map::size)
+                .description("Redis 장애로 삭제를 기다리는 유저 캐시 키 수")
+                .register(meterRegistry);
+    }
 
     // 필요한 유저 정보만 담아 redis에 저장
     public void saveOrUpdateUser(User user, long ttlMinutes) {
+        saveUsers(List.of(user), ttlMinutes);
+    }
+
+    // 여러 유저 정보를 파이프라인 1회로 저장 (사용자마다 TTL 편차 적용, 두 키는 같은 TTL, Redis 장애 시 삭제 대기)
+    public void saveUsers(Collection<User> users, long ttlMinutes) {
+        if (users.isEmpty()) {
+            return;
+        }
+        Map<User, byte[]> values = new HashMap<>(users.size());
+        for (User user : users) {
+            values.put(user, encode(UserCacheDto.from(user)));
+        }
+
+        List<String> keys = keysOf(users);
+        Map<String, Long> pending = pendingSnapshot(keys);
+
+        boolean written = redisCircuitBreaker.execute("user-cache.write", () -> {
+            userCacheRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    RedisOperations<String, byte[]> ops = (RedisOperations<String, byte[]>) operations;
+                    values.forEach((user, value) -> {
+                        long ttlMillis = jitteredTtlMillis(ttlMinutes);
+                        ops.opsForValue().set(userKey(user.getEmployeeId()), value, ttlMillis, TimeUnit.MILLISECONDS);
+                        ops.opsForValue().set(userIdKey(user.getId()), value, ttlMillis, TimeUnit.MILLISECONDS);
+                    });
+                    return null;
+                }
+            });
+            return true;
+        }, () -> false);
+
+        if (written) {
+            pending.forEach(pendingEvictions::remove);
+        } else {
+            markPendingEviction(keys);
+        }
+    }
+
+    /**
+     * 캐시된 유저 정보를 조회하고, 없으면 loader로 조회해 캐시에 저장하는 메서드
+     *
+     * 처리 과정:
+     * 1. GET + PTTL을 파이프라인 1회로 조회
+     * 2. 값이 있고 조기 갱신 대상이 아니면 그대로 반환
+     * 3. 같은 키를 이 노드에서 이미 조회 중이면 그 결과를 기다림 (갱신 중이면 기존 값 반환,
+     *    in-flight-wait-ms를 넘기면 직접 조회)
+     * 4. Redis 락을 얻은 노드만 loader로 DB 조회 후 캐시 저장
+     *    (락을 못 얻으면 기존 값 반환, 없으면 lock-wait-ms 동안 캐시가 채워지기를 기다린 뒤 직접 조회)
+     *
+     * @param employeeId 사원번호
+     * @param ttlMinutes 캐시 TTL (분, 편차 적용 전)
+     * @param loader DB 조회 함수 (사용자가 없으면 null 반환)
+     * @return 유저 정보, 사용자가 없으면 null
+     */
+    public UserCacheDto getOrLoad(String employeeId, long ttlMinutes, Supplier<User> loader) {
+        String key = userKey(employeeId);
+        List<Object> results = pendingEvictions.containsKey(key) ? null : redisCircuitBreaker.execute("user-cache.read",
+                () -> userCacheRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Object execute(RedisOperations operations) {
+                        RedisOperations<String, byte[]> ops = (RedisOperations<String, byte[]>) operations;
+                        ops.opsForValue().get(key);
+                        ops.getExpire(key, TimeUnit.MILLISECONDS);
+                        return null;
+                    }
+                }),
+                () -> null);
+        UserCacheDto cached = results != null ? parse((byte[]) results.get(0)) : null;
+        long ttlMillis = results != null && results.get(1) instanceof Long ttl ? ttl : -1;
+
+        if (cached != null && !shouldRefreshEarly(ttlMillis)) {
+            return cached;
+        }
+        if (cached != null) {
+            meterRegistry.counter("user.cache.early.refresh").increment();
+        }
+
+        CompletableFuture<UserCacheDto> load = new CompletableFuture<>();
+        CompletableFuture<UserCacheDto> inFlight = inFlightLoads.putIfAbsent(key, load);
+        if (inFlight != null) {
+            meterRegistry.counter("user.cache.coalesced.loads").increment();
+            return cached != null ? cached : await(inFlight, ttlMinutes, loader);
+        }
+        try {
+            UserCacheDto loaded = loadWithLock(key, ttlMinutes, cached, loader);
+            load.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(key, load);
+        }
+    }
+
+    // 캐시된 유저 정보 조회 (없거나 읽을 수 없거나 삭제 대기 중이면 null)
+    public UserCacheDto findUser(String employeeId) {
+        String key = userKey(employeeId);
+        if (pendingEvictions.containsKey(key)) {
+            return null;
+        }
+        return parse(redisCircuitBreaker.execute("user-cache.read",
+                () -> userCacheRedisTemplate.opsForValue().get(key),
+                () -> null));
+    }
+
+    /**
+     * 캐시 키 목록을 MGET 1회로 조회하는 메서드
+     *
+     * @param keys userKey / userIdKey로 만든 캐시 키 목록
+     * @return 캐시 키 → 유저 정보 (없거나 읽을 수 없거나 삭제 대기 중인 키는 제외)
+     */
+    public Map<String, UserCacheDto> findUsers(List<String> keys) {
+        Map<String, UserCacheDto> result = new HashMap<>(keys.size());
+        List<String> readable = pendingEvictions.isEmpty() ? keys
+                : keys.stream().filter(key -> !pendingEvictions.containsKey(key)).toList();
+        if (readable.isEmpty()) {
+            return result;
+        }
+        List<byte[]> values = redisCircuitBreaker.execute("user-cache.read",
+                () -> userCacheRedisTemplate.opsForValue().multiGet(readable),
+                () -> null);
+        if (values == null) {
+            return result;
+        }
+        for (int i = 0; i < readable.size(); i++) {
+            UserCacheDto user = parse(values.get(i));
+            if (user != null) {
+                result.put(readable.get(i), user);
+            }
+        }
+        return result;
+    }
+
+    // 유저 정보 캐시 삭제 (사용자 삭제 시, Redis 장애 시 삭제 대기 목록에 넣고 복구 후 삭제)
+    public void evictUser(User user) {
+        List<String> keys = keysOf(List.of(user));
+        markPendingEviction(keys);
+        if (!evictPending(keys)) {
+            log.warn("Redis 장애로 유저 캐시 삭제 보류: 사원번호 {}", user.getEmployeeId());
+        }
+    }
+
+    // 삭제 대기 중인 키를 Redis 복구 후 삭제 (회로가 열려 있는 동안은 서킷 브레이커가 호출 없이 실패 처리)
+    @Scheduled(fixedDelayString = "${user-cache.eviction-retry-interval-ms:1000}")
+    public void retryPendingEvictions() {
+        if (!pendingEvictions.isEmpty()) {
+            evictPending(List.copyOf(pendingEvictions.keySet()));
+        }
+    }
+
+    public static String userKey(String employeeId) {
+        return USER_KEY_PREFIX + employeeId;
+    }
+
+    public static String userIdKey(Long userId) {
+        return USER_ID_KEY_PREFIX + userId;
+    }
+
+    private static List<String> keysOf(Collection<User> users) {
+        List<String> keys = new ArrayList<>(users.size() * 2);
+        for (User user : users) {
+            keys.add(userKey(user.getEmployeeId()));
+            keys.add(userIdKey(user.getId()));
+        }
+        return keys;
+    }
+
+    private void markPendingEviction(List<String> keys) {
+        long sequence = pendingSequence.incrementAndGet();
+        keys.forEach(key -> pendingEvictions.put(key, sequence));
+    }
+
+    // 삭제 대기 중인 키와 등록 순번 (쓰기 / 삭제 성공 후 이 시점까지 등록된 항목만 목록에서 제거)
+    private Map<String, Long> pendingSnapshot(List<String> keys) {
+        Map<String, Long> snapshot = new HashMap<>();
+        keys.forEach(key -> {
+            Long sequence = pendingEvictions.get(key);
+            if (sequence != null) {
+                snapshot.put(key, sequence);
+            }
+        });
+        return snapshot;
+    }
+
+    // 삭제 중 다시 등록된 키는 목록에 남아 다음 재시도 대상 (Redis 장애로 실패하면 false)
+    private boolean evictPending(List<String> keys) {
+        Map<String, Long> snapshot = pendingSnapshot(keys);
+        if (snapshot.isEmpty()) {
+            return true;
+        }
+        boolean deleted = redisCircuitBreaker.execute("user-cache.evict", () -> {
+            userCacheRedisTemplate.delete(snapshot.keySet());
+            return true;
+        }, () -> false);
+        if (deleted) {
+            snapshot.forEach(pendingEvictions::remove);
+        }
+        return deleted;
+    }
+
+    // 노드 간 락을 얻은 경우에만 DB 조회 (Redis 장애 시에는 락 없이 조회)
+    private UserCacheDto loadWithLock(String key, long ttlMinutes, UserCacheDto stale, Supplier<User> loader) {
+        String lockKey = LOCK_KEY_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisCircuitBreaker.execute("user-cache.lock",
+                () -> redisTemplate.opsForValue()
+                        .setIfAbsent(lockKey, token, userCacheConfig.getLockTtlMs(), TimeUnit.MILLISECONDS),
+                () -> null);
+        if (acquired == null) {
+            return load(ttlMinutes, loader, false);
+        }
+
+        if (!acquired) {
+            // 다른 노드가 갱신 중
+            if (stale != null) {
+                return stale;
+            }
+            UserCacheDto filled = waitForFill(key);
+            if (filled != null) {
+                meterRegistry.counter("user.cache.coalesced.loads").increment();
+                return filled;
+            }
+            return load(ttlMinutes, loader, true);
+        }
+
+        try {
+            return load(ttlMinutes, loader, true);
+        } finally {
+            // 실패 시 TTL로 만료
+            redisCircuitBreaker.run("user-cache.lock", () -> redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token));
+        }
+    }
+
+    private UserCacheDto load(long ttlMinutes, Supplier<User> loader, boolean writeCache) {
+        long startedAt = System.nanoTime();
+        User user = loader.get();
+        meterRegistry.counter("user.cache.loads").increment();
+        if (user == null) {
+            return null;
+        }
+        if (writeCache) {
+            saveOrUpdateUser(user, ttlMinutes);
+        }
+        double elapsedMs = (System.nanoTime() - startedAt) / 1_000_000.0;
+        loadTimeMs = loadTimeMs == 0 ? elapsedMs : loadTimeMs * 0.8 + elapsedMs * 0.2;
+        return UserCacheDto.from(user);
+    }
+
+    // 다른 노드가 캐시를 채울 때까지 잠시 대기 (lock-wait-ms 초과 시 null)
+    private UserCacheDto waitForFill(String key) {
+        long deadline = System.currentTimeMillis() + userCacheConfig.getLockWaitMs();
+        long pollMs = Math.max(1, userCacheConfig.getLockPollMs());
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(pollMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            if (redisCircuitBreaker.isDegraded()) {
+                return null;
+            }
+            UserCacheDto filled = parse(redisCircuitBreaker.execute("user-cache.read",
+                    () -> userCacheRedisTemplate.opsForValue().get(key),
+                    () -> null));
+            if (filled != null) {
+                return filled;
+            }
+        }
+        return null;
+    }
+
+    // 이 노드의 진행 중인 조회 결과를 기다림 (in-flight-wait-ms 초과 시 캐시에 쓰지 않고 직접 조회)
+    private UserCacheDto await(CompletableFuture<UserCacheDto> inFlight, long ttlMinutes, Supplier<User> loader) {
+        try {
+            return inFlight.get(userCacheConfig.getInFlightWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            meterRegistry.counter("user.cache.coalesced.timeouts").increment();
+            return load(ttlMinutes, loader, false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for user cache load", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // XFetch: 남은 TTL이 짧을수록, 조회 시간이 길수록 높은 확률로 true (-delta * beta * ln(rand) >= 남은 TTL)
+    private boolean shouldRefreshEarly(long ttlMillis) {
+        double beta = userCacheConfig.getEarlyRefreshBeta();
+        if (ttlMillis <= 0 || beta <= 0) {
+            return false;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        return -loadTimeMs * beta * Math.log(random) >= ttlMillis;
+    }
+
+    private long jitteredTtlMillis(long ttlMinutes) {
+        long ttlMillis = TimeUnit.MINUTES.toMillis(ttlMinutes);
+        double ratio = Math.max(0, Math.min(1, userCacheConfig.getTtlJitterRatio()));
+        if (ratio == 0) {
+            return ttlMillis;
+        }
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-ratio, ratio);
+        return Math.max(1, (long) (ttlMillis * factor));
+    }
+
+    // 저장 형식 자동 판별 (바이너리 코덱 / JSON), 읽을 수 없으면 캐시 미스로 처리
+    private UserCacheDto parse(byte[] value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            if (UserCacheCodec.isEncoded(value)) {
+                return UserCacheCodec.decode(value);
+            }
+            return objectMapper.readValue(value, UserCacheDto.class);
+        } catch (IOException | IllegalArgumentException e) {
+            log.debug("유저 캐시 값 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] encode(UserCacheDto user) {
+        if (userCacheConfig.getFormat() == UserCacheConfig.Format.BINARY) {
+            return UserCacheCodec.encode(user);
+        }
         try {
-            UserCacheDto cacheDto = new UserCacheDto(
-                    user.getId(),
-                    user.getEmployeeId(),
-                    user.getName(),
-                    user.getRole(),
-                    user.getScope(),
-                    user.getShift()
-            );
-
-            String key = "user:" + user.getEmployeeId();
-            String value = objectMapper.writeValueAsString(cacheDto);
-            redisTemplate.opsForValue().set(key, value, ttlMinutes, TimeUnit.MINUTES);
+            return objectMapper.writeValueAsBytes(user);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
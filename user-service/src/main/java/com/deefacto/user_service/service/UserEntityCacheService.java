@@ -0,0 +1,97 @@
+package com.deefacto.user_service.service;
+
+import com.deefacto.user_service.common.redis.RedisCircuitBreaker;
+import com.deefacto.user_service.domain.Entitiy.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * User 엔티티 2차 캐시(Hibernate, 인스턴스별) 무효화를 모든 인스턴스에 전파하는 서비스
+ *
+ * 2차 캐시는 인스턴스마다 따로 유지되어, 한 인스턴스에서 사용자를 변경하면 다른 인스턴스는
+ * 캐시 TTL 동안 이전 값(프로필 / ETag, 권한 등)을 보게 됩니다.
+ * 사용자 변경 트랜잭션이 커밋되면 변경된 사용자 ID를 Redis Pub/Sub으로 알리고,
+ * 알림을 받은 인스턴스(자신 포함)는 그 사용자의 엔티티 캐시만 제거합니다.
+ *
+ * Redis 장애로 알리지 못하면 다른 인스턴스는 2차 캐시 TTL이 지난 뒤 반영합니다.
+ * (권한 판단은 2차 캐시를 거치지 않으므로 영향 없음)
+ */
+@Slf4j
+@Service
+public class UserEntityCacheService implements MessageListener {
+
+    private static final String EVICT_CHANNEL = "user_entity_evicted";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final EntityManagerFactory entityManagerFactory;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    public UserEntityCacheService(RedisTemplate<String, String> redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  EntityManagerFactory entityManagerFactory,
+                                  RedisCircuitBreaker redisCircuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.entityManagerFactory = entityManagerFactory;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 모든 인스턴스에서 사용자의 엔티티 캐시를 제거하는 메서드 (트랜잭션 밖이면 즉시)
+     *
+     * @param userId 변경된 사용자 ID
+     */
+    public void evictAfterCommit(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictEverywhere(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictEverywhere(userId);
+            }
+        });
+    }
+
+    private void evictEverywhere(Long userId) {
+        evictLocal(userId);
+        redisCircuitBreaker.run("user-entity-cache.publish",
+                () -> redisTemplate.convertAndSend(EVICT_CHANNEL, String.valueOf(userId)));
+    }
+
+    private void evictLocal(Long userId) {
+        entityManagerFactory.getCache().evict(User.class, userId);
+    }
+
+    // 다른 인스턴스에서 변경된 사용자의 엔티티 캐시 제거
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evictLocal(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 엔티티 캐시 무효화 알림 무시: {}", body);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.deefacto.user_service.service;
+
+import com.deefacto.user_service.domain.Entitiy.User;
+import com.deefacto.user_service.domain.Entitiy.UserOutboxEvent;
+import com.deefacto.user_service.domain.repository.UserOutboxRepository;
+import com.deefacto.user_service.remote.dto.UserChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자 변경 이벤트를 Outbox 테이블에 기록하는 서비스
+ *
+ * 반드시 사용자 변경과 같은 트랜잭션 안에서 호출되어야 하며(MANDATORY),
+ * 실제 Kafka 발행은 UserChangeOutboxRelay가 비동기 배치로 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserOutboxService {
+
+    private final UserOutboxRepository userOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 사용자 변경 이벤트를 기록하는 메서드
+     *
+     * @param user 변경된 사용자
+     * @param eventType 이벤트 유형 (DELETED는 tombstone으로 발행되도록 payload 없이 기록)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(User user, UserChangedEvent.Type eventType) {
+        String payload = null;
+        if (eventType != UserChangedEvent.Type.DELETED) {
+            try {
+                payload = objectMapper.writeValueAsString(UserChangedEvent.of(user, eventType));
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        userOutboxRepository.save(new UserOutboxEvent(user.getEmployeeId(), eventType.name(), payload));
+    }
+}
@@ -1,16 +1,33 @@
 package com.deefacto.user_service.service;
 
+import com.deefacto.user_service.common.bulkhead.Bulkheads;
 import com.deefacto.user_service.common.exception.CustomException;
 import com.deefacto.user_service.common.exception.ErrorCode;
 import com.deefacto.user_service.domain.dto.*;
 import com.deefacto.user_service.secret.jwt.TokenGenerator;
 import com.deefacto.user_service.secret.jwt.dto.TokenDto;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import com.deefacto.user_service.config.SecurityConfig.PasswordEncoder;
+import com.deefacto.user_service.config.RedisResilienceConfig;
+import com.deefacto.user_service.config.UserLookupConfig;
+import com.deefacto.user_service.common.redis.RedisCircuitBreaker;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.deefacto.user_service.domain.repository.UserRepository;
+import com.deefacto.user_service.remote.dto.UserChangedEvent;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.time.LocalDateTime;
 import org.springframework.data.domain.Page;
@@ -19,7 +36,9 @@ import org.springframework.data.domain.Pageable;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import io.jsonwebtoken.Claims;
 
+import com.deefacto.user_service.domain.Entitiy.AuditEvent;
 import com.deefacto.user_service.domain.Entitiy.User;
 
 /**
@@ -54,6 +73,46 @@ public class UserService {
     // Redis 유저 정보 사용을 위한 서비스
     private final UserCacheService userCacheService;
 
+    // User 엔티티 2차 캐시 무효화 전파 서비스
+    private final UserEntityCacheService userEntityCacheService;
+
+    // 사원번호별 로그인 세션(멀티 디바이스) 관리 서비스
+    private final UserSessionService userSessionService;
+
+    // 토큰 일괄 무효화 (커밋 후 반영 + 실패 시 재시도)
+    private final TokenRevocationService tokenRevocationService;
+
+    // 로그인 시도 제한 서비스 (Brute Force 방어)
+    private final LoginThrottleService loginThrottleService;
+
+    // 사용자 변경 이벤트 Outbox 기록 서비스 (같은 트랜잭션에서 기록)
+    private final UserOutboxService userOutboxService;
+
+    // 알림 수신자 집합 갱신 이벤트 발행 (트랜잭션 커밋 후 반영)
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 기동 후 첫 로그인 시간 측정 (빠른 기동 모드 효과 확인용)
+    private final StartupTimeTracker startupTimeTracker;
+
+    // 사용자 조회 API 설정 (일괄 조회 최대 개수)
+    private final UserLookupConfig userLookupConfig;
+
+    // 인증/관리 감사 이벤트 기록 (비동기 배치 저장)
+    private final AuditService auditService;
+
+    // 토큰 일괄 검증 결과 캐시 (로그아웃 시 무효화)
+    private final TokenIntrospectionService tokenIntrospectionService;
+
+    // Redis 장애 감지 / 장애 중 로그인 정책
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final RedisResilienceConfig resilienceConfig;
+
+    // 캐시 미스일 때만 트랜잭션을 여는 조회용 (findCachedUser)
+    private final PlatformTransactionManager transactionManager;
+
+    // 캐시 미스 DB 조회 동시 실행 제한 (findCachedUser)
+    private final Bulkheads bulkheads;
+
     // Redis에 저장되는 유저정보 TTL (Refresh Token 시간과 통일)
     private final long USER_CACHE_TTL_MIN = 20;
 
@@ -70,6 +129,7 @@ public class UserService {
      * 4. 기본값 설정 (권한, 활성여부, 근무시간)
      * 5. 등록자 정보 기록 (감사 로그용)
      * 6. 데이터베이스에 저장
+     * 7. 사용자 변경 이벤트를 outbox에 기록 (같은 트랜잭션)
      * 
      * @param userRegisterDto 사용자 등록 정보 DTO (사원번호, 비밀번호, 이름, 이메일 등)
      * @param createdBy 사용자를 등록한 관리자의 사원번호
@@ -111,6 +171,11 @@ public class UserService {
 
         // 데이터베이스에 사용자 정보 저장
         userRepository.save(user);
+
+        // 사용자 변경 이벤트 기록 (트랜잭션 커밋 후 릴레이가 Kafka로 발행)
+        userOutboxService.append(user, UserChangedEvent.Type.CREATED);
+        publishRecipientChanged(user, true);
+        auditService.recordAfterCommit(AuditEvent.register(createdBy, user.getEmployeeId(), user.getRole()));
         
         log.info("새로운 사용자가 등록되었습니다: {}", user.getEmployeeId());
     }
@@ -119,67 +184,100 @@ public class UserService {
      * 사용자 로그인을 처리하고 JWT 토큰을 발급하는 메서드
      * 
      * 처리 과정:
-     * 1. 사원번호로 사용자 조회 (데이터베이스에서 사용자 정보 확인)
-     * 2. 비밀번호 검증 (BCrypt matches로 암호화된 비밀번호와 비교)
-     * 3. 중복 로그인 확인 (Redis에서 기존 토큰 확인)
+     * 1. 로그인 시도 제한 확인 (한도 초과 시 DB 조회/BCrypt 검증 없이 거부)
+     * 2. 사원번호로 사용자 조회 (데이터베이스에서 사용자 정보 확인)
+     * 3. 비밀번호 검증 (BCrypt matches로 암호화된 비밀번호와 비교)
      * 4. 액세스 토큰과 리프레시 토큰 발급 (JWT 생성)
-     * 5. Redis에 사용자별 토큰 저장 (후입/선입 차단 정책 적용)
+     * 5. Redis 세션 레지스트리에 등록 (최대 디바이스 수 초과 시 가장 오래된 세션 무효화)
+     * 
+     * Redis 장애로 epoch를 확인할 수 없으면 redis-resilience.login-policy가 ALLOW일 때
+     * 세션 등록 없이 짧은 수명의 미확인 토큰을 발급하고, DENY면 SERVICE_UNAVAILABLE입니다.
      * 
      * @param loginDto 로그인 정보 DTO (사원번호, 비밀번호)
+     * @param clientIp 요청 IP (시도 제한용, 알 수 없으면 null)
      * @return 액세스 토큰과 리프레시 토큰이 포함된 DTO
      * @throws NotFound 사용자가 존재하지 않는 경우
      * @throws BadParameter 비밀번호가 일치하지 않는 경우
-     * @throws BadParameter 중복 로그인으로 인한 차단 (후입/선입 차단 정책)
      */
     @Transactional
-    public TokenDto.AccessRefreshToken login(UserLoginDto loginDto) {
-        log.info("로그인 시도: 사원번호 {}", loginDto.getEmployeeId());
+    public TokenDto.AccessRefreshToken login(UserLoginDto loginDto, String clientIp) {
+        log.debug("로그인 시도: 사원번호 {}", loginDto.getEmployeeId());
+
+        // Redis 장애 중 로그인 거부 정책이면 BCrypt 검증 전에 바로 거부
+        if (redisCircuitBreaker.isDegraded()
+                && resilienceConfig.getLoginPolicy() == RedisResilienceConfig.LoginPolicy.DENY) {
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+
+        // 시도 제한 확인 (BCrypt 검증 비용이 크므로 가장 먼저 수행)
+        try {
+            loginThrottleService.checkAndRecord(loginDto.getEmployeeId(), clientIp);
+        } catch (CustomException e) {
+            auditService.record(AuditEvent.loginFailure(loginDto.getEmployeeId(), clientIp, "THROTTLED"));
+            throw e;
+        }
         
-        // 사원번호로 사용자 조회 (데이터베이스에서 사용자 정보 확인)
-        User user = userRepository.findByEmployeeId(loginDto.getEmployeeId());
+        // 사원번호로 사용자 조회 (다른 노드의 비밀번호/활성 여부 변경이 보이도록 2차 캐시를 거치지 않음)
+        // 로그인 실패는 트랜잭션이 롤백되어도 남도록 즉시 감사 기록
+        User user = userRepository.findByEmployeeIdFromDatabase(loginDto.getEmployeeId());
         if (user == null) {
             log.warn("존재하지 않는 사용자: 사원번호 {}", loginDto.getEmployeeId());
+            auditService.record(AuditEvent.loginFailure(loginDto.getEmployeeId(), clientIp, "USER_NOT_FOUND"));
             throw new CustomException(ErrorCode.UNAUTHORIZED, "User/Password is incorrect");
 //            throw new NotFound("User/Password is incorrect");
         }
         
-        // 디버깅을 위한 비밀번호 정보 로깅 (개발 환경에서만 사용)
-        log.info("사용자 발견: {}, 저장된 비밀번호: {}", user.getEmployeeId(), user.getPassword());
-        log.info("입력된 비밀번호: {}", loginDto.getPassword());
-        
         // BCrypt를 사용하여 비밀번호 검증
         // encode()된 비밀번호와 원본 비밀번호를 비교 (단방향 해시 검증)
 
         // ROOT 계정은 평문도 가능 (초기)
         if(user.getRole().equals("ROOT")) {
            if(loginDto.getPassword().equals(user.getPassword()) || passwordEncoder.matches(loginDto.getPassword(), user.getPassword())) {
-               log.info("ROOT 사용자 로그인");
+               log.debug("ROOT 사용자 로그인");
            } else {
                log.warn("Root 계정 비밀번호 불일치: 사원번호 {}", loginDto.getEmployeeId());
+               auditService.record(AuditEvent.loginFailure(loginDto.getEmployeeId(), clientIp, "BAD_PASSWORD"));
                throw new CustomException(ErrorCode.UNAUTHORIZED, "User/Password is incorrect");
 //               throw new BadParameter("User/Password is incorrect");
            }
         } else {
             if (!passwordEncoder.matches(loginDto.getPassword(), user.getPassword())) {
                 log.warn("비밀번호 불일치: 사원번호 {}", loginDto.getEmployeeId());
+                auditService.record(AuditEvent.loginFailure(loginDto.getEmployeeId(), clientIp, "BAD_PASSWORD"));
                 throw new CustomException(ErrorCode.UNAUTHORIZED, "User/Password is incorrect");
 //                throw new BadParameter("User/Password is incorrect");
             }
         }
 
-        // 중복 로그인 확인 (후입/선입 차단 정책 - Redis 기반)
-        checkDuplicateLogin(loginDto.getEmployeeId());
+        // 비활성화된 사용자는 로그인 불가
+        if (!user.isActive()) {
+            log.warn("비활성 사용자 로그인 시도: 사원번호 {}", loginDto.getEmployeeId());
+            auditService.record(AuditEvent.loginFailure(loginDto.getEmployeeId(), clientIp, "INACTIVE"));
+            throw new CustomException(ErrorCode.UNAUTHORIZED, "User/Password is incorrect");
+        }
 
-        log.info("로그인 성공: 사원번호 {}", loginDto.getEmployeeId());
+        log.debug("로그인 성공: 사원번호 {}", loginDto.getEmployeeId());
+
+        // 로그인 성공 시 사원번호 시도 기록 초기화
+        loginThrottleService.reset(loginDto.getEmployeeId());
         
-        // 로그인 성공 시 액세스 토큰과 리프레시 토큰 발급 (JWT 생성)
-        TokenDto.AccessRefreshToken token = tokenGenerator.generateAccessRefreshToken(loginDto.getEmployeeId());
+        // 로그인 성공 시 같은 세션 ID로 액세스 토큰과 리프레시 토큰 발급 (JWT 생성)
+        String sessionId = UserSessionService.newSessionId();
+        TokenDto.AccessRefreshToken token = tokenGenerator.generateAccessRefreshToken(user, sessionId);
         
-        // Redis에 사용자별 토큰 저장 (후입/선입 차단 정책 적용)
-        saveUserTokenToRedis(loginDto.getEmployeeId(), token);
+        // 세션 레지스트리에 등록 (최대 디바이스 수 초과 시 가장 오래된 세션부터 무효화)
+        // Redis 장애로 epoch를 확인하지 못하고 발급한 짧은 수명의 토큰은 등록하지 않음 (재발급 불가)
+        if (TokenGenerator.isEpochUnverified(tokenGenerator.parseClaims(token.getAccess().getToken()))) {
+            log.warn("Redis 장애로 epoch 미확인 토큰 발급: 사원번호 {}", loginDto.getEmployeeId());
+        } else {
+            userSessionService.registerSession(loginDto.getEmployeeId(), sessionId, token.getAccess());
+        }
 
         // Redis에 필요 유저 정보 저장
         userCacheService.saveOrUpdateUser(user, USER_CACHE_TTL_MIN);
+
+        auditService.recordAfterCommit(AuditEvent.loginSuccess(loginDto.getEmployeeId(), clientIp));
+        startupTimeTracker.recordLogin();
         
         return token;
     }
@@ -191,7 +289,7 @@ public class UserService {
      * 1. 토큰 유효성 검증
      * 2. 토큰 만료 확인
      * 3. 액세스 토큰인지 확인 (리프레시 토큰은 로그아웃 불가)
-     * 4. Redis에서 사용자별 토큰 삭제 (중복 로그인 방지 해제)
+     * 4. 세션 레지스트리에서 해당 세션 제거
      * 5. Redis에 로그아웃 토큰 저장 (토큰 만료 시간까지)
      * 
      * @param token 로그아웃할 JWT 토큰
@@ -217,78 +315,30 @@ public class UserService {
 //            throw new BadParameter("Only access tokens can be logged out");
         }
         
-        // 토큰에서 사용자 ID 추출
-        String employeeId = tokenGenerator.getEmployeeIdFromToken(token);
+        // 토큰에서 사용자 ID와 세션 ID 추출
+        Claims claims = tokenGenerator.parseClaims(token);
+        String employeeId = claims.getSubject();
         
         // 토큰의 남은 만료 시간을 계산
         long expirationTime = tokenGenerator.getExpirationTime(token);
         
-        // Redis에서 사용자별 토큰 삭제 (중복 로그인 방지 해제)
-        String userTokenKey = "user_token:" + employeeId;
-        redisTemplate.delete(userTokenKey);
+        // 세션 레지스트리에서 해당 세션만 제거 (다른 디바이스 세션은 유지, 세션의 리프레시 토큰도 재발급 불가)
+        userSessionService.removeSession(employeeId, TokenGenerator.sessionIdOf(claims), token);
         
         // Redis에 로그아웃 토큰을 저장
-        // 토큰이 만료될 때까지 "logout" 상태로 유지
-        redisTemplate.opsForValue().set(token, "logout", expirationTime, TimeUnit.MILLISECONDS);
-        
-        log.info("로그아웃 처리 완료: 사원번호 {}, 토큰 타입 {}, 만료 시간 {}ms", employeeId, tokenType, expirationTime);
+        // 토큰이 만료될 때까지 "logout" 상태로 유지 (Redis 장애 시 무효화할 수 없으므로 SERVICE_UNAVAILABLE)
+        redisCircuitBreaker.execute("token.revoke", () -> {
+            redisTemplate.opsForValue().set(token, "logout", expirationTime, TimeUnit.MILLISECONDS);
+            return null;
+        }, () -> {
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+        });
+        tokenIntrospectionService.invalidate(token);
+        
+        auditService.record(AuditEvent.logout(employeeId));
+        log.debug("로그아웃 처리 완료: 사원번호 {}, 토큰 타입 {}, 만료 시간 {}ms", employeeId, tokenType, expirationTime);
     }
 
-    /**
-     * 중복 로그인을 확인하는 메서드 (후입/선입 차단 정책)
-     * 
-     * Redis에서 사용자별 토큰을 확인하여 기존 로그인이 있는지 검사합니다.
-     * 기존 로그인이 있으면 예외를 발생시켜 후입을 차단합니다.
-     * 
-     * @param employeeId 사용자 사원번호
-     * @throws BadParameter 기존 로그인이 존재하는 경우
-     */
-//    private void checkDuplicateLogin(String employeeId) {
-//        String userTokenKey = "user_token:" + employeeId;
-//        String existingToken = redisTemplate.opsForValue().get(userTokenKey);
-//
-//        if (existingToken != null) {
-//            log.warn("중복 로그인 감지: 사원번호 {} (후입/선입 차단 정책 적용)", employeeId);
-//            throw new CustomException(ErrorCode.CONFLICT_STATE, "User is already logged in. Please logout from other devices first.");
-////            throw new BadParameter("User is already logged in. Please logout from other devices first.");
-//        }
-//
-//        log.debug("중복 로그인 없음: 사원번호 {}", employeeId);
-//    }
-    private void checkDuplicateLogin(String employeeId) {
-        String userTokenKey = "user_token:" + employeeId;
-        String existingToken = redisTemplate.opsForValue().get(userTokenKey);
-
-        if (existingToken != null) {
-            log.warn("기존 로그인 세션 무효화: {}", employeeId);
-            // 기존 토큰을 logout 처리
-            redisTemplate.opsForValue().set(existingToken, "logout", 1, TimeUnit.SECONDS);
-        }
-    }
-    
-    /**
-     * 사용자별 토큰을 Redis에 저장하는 메서드
-     * 
-     * 사용자 사원번호를 키로 하여 액세스 토큰을 저장합니다.
-     * 토큰 만료 시간과 동일하게 Redis 키도 만료되도록 설정합니다.
-     * 
-     * @param employeeId 사용자 사원번호
-     * @param token 발급된 토큰 DTO
-     */
-    private void saveUserTokenToRedis(String employeeId, TokenDto.AccessRefreshToken token) {
-        String userTokenKey = "user_token:" + employeeId;
-        String accessToken = token.getAccess().getToken();
-        long expirationTime = token.getAccess().getExpiresIn() * 1000L; // 밀리초 단위
-        
-        // 사용자별 토큰 저장 (후입/선입 차단용)
-        redisTemplate.opsForValue().set(userTokenKey, accessToken, expirationTime, TimeUnit.MILLISECONDS);
-        
-        // 토큰별 상태 저장 (로그아웃 감지용)
-        redisTemplate.opsForValue().set(accessToken, "login", expirationTime, TimeUnit.MILLISECONDS);
-        
-        log.info("사용자 토큰 저장 완료: 사원번호 {}, 만료 시간 {}ms", employeeId, expirationTime);
-    }
-    
     /**
      * 사용자 비밀번호를 변경하는 메서드 (구현 예정)
      * 
@@ -296,9 +346,10 @@ public class UserService {
      * @param oldPassword 현재 비밀번호
      * @param newPassword 새로운 비밀번호
      */
+    @Transactional
     public void changePassword(String employeeId, UserChangePasswordDto userChangePasswordDto) {
-        // 1. 현재 비밀번호 검증
-        User user = userRepository.findByEmployeeId(employeeId);
+        // 1. 현재 비밀번호 검증 (다른 노드에서 바뀐 비밀번호가 보이도록 2차 캐시를 거치지 않음)
+        User user = userRepository.findByEmployeeIdFromDatabase(employeeId);
         if (user == null) {
             throw new CustomException(ErrorCode.USER_NOT_FOUND_IN_TOKEN);
 //            throw new NotFound("User not found");
@@ -326,11 +377,24 @@ public class UserService {
         // 정보 변경 시점의 시간 기록
         user.setUpdatedAt(LocalDateTime.now());
         
-        userRepository.save(user);
+        // 증가된 버전을 캐시에 반영하기 위해 즉시 flush
+        userRepository.saveAndFlush(user);
+
+        // 사용자 변경 이벤트 기록 (비밀번호는 포함하지 않음)
+        userOutboxService.append(user, UserChangedEvent.Type.PASSWORD_CHANGED);
+        // 프로필 ETag 비교에 쓰이는 캐시 버전 갱신 (롤백된 버전이 캐시에 남지 않도록 커밋 후)
+        runAfterCommit(() -> userCacheService.saveOrUpdateUser(user, USER_CACHE_TTL_MIN));
+        // 다른 인스턴스의 2차 캐시에 남은 이전 값도 제거 (커밋 후)
+        userEntityCacheService.evictAfterCommit(user.getId());
+
+        // 비밀번호 변경 전에 발급된 모든 토큰 무효화
+        revokeAllTokens(employeeId);
+
         log.info("비밀번호 변경 완료: 사원번호 {}", employeeId);
     }
 
-    public void deleteUser(UserDeleteDto userDeleteDto) {
+    @Transactional
+    public void deleteUser(UserDeleteDto userDeleteDto, String deletedBy) {
         String deleteEmployeeId = userDeleteDto.getEmployeeId();
         User user = userRepository.findByEmployeeId(deleteEmployeeId);
         if (user == null) {
@@ -338,7 +402,19 @@ public class UserService {
 //            throw new NotFound("User not found");
         }
         userRepository.delete(user);
-        log.info("사용자 삭제 완료: 사원번호 {}", deleteEmployeeId);
+
+        // 사용자 삭제 이벤트 기록 (compacted 토픽에 tombstone으로 발행)
+        userOutboxService.append(user, UserChangedEvent.Type.DELETED);
+        publishRecipientChanged(user, false);
+        runAfterCommit(() -> userCacheService.evictUser(user));
+        // 다른 인스턴스의 2차 캐시에 남은 이전 값도 제거 (커밋 후)
+        userEntityCacheService.evictAfterCommit(user.getId());
+
+        // 삭제된 사용자의 모든 토큰 무효화
+        revokeAllTokens(deleteEmployeeId);
+        auditService.recordAfterCommit(AuditEvent.delete(deletedBy, deleteEmployeeId));
+
+        log.info("사용자 삭제 완료: 사원번호 {}, 삭제자 {}", deleteEmployeeId, deletedBy);
     }
 
     /**
@@ -347,6 +423,7 @@ public class UserService {
      * @param searchDto 검색 조건 DTO
      * @return 검색 결과 페이지 (UserInfoResponseDto로 변환)
      */
+    @Transactional(readOnly = true)
     public Page<UserInfoResponseDto> searchUsers(UserSearchDto searchDto) {
         // 페이징 정보 생성
         Pageable pageable = PageRequest.of(
@@ -362,7 +439,7 @@ public class UserService {
         String employeeId = searchDto.getEmployeeId() != null && !searchDto.getEmployeeId().trim().isEmpty() 
             ? searchDto.getEmployeeId().trim() : null;
         
-        log.info("사용자 검색: 페이지={}, 크기={}, 이름={}, 이메일={}, 사원번호={}", 
+        log.debug("사용자 검색: 페이지={}, 크기={}, 이름={}, 이메일={}, 사원번호={}", 
             pageable.getPageNumber(), pageable.getPageSize(), name, email, employeeId);
         
         // 조건부 검색 실행
@@ -371,11 +448,74 @@ public class UserService {
         // User 엔티티를 UserInfoResponseDto로 변환
         Page<UserInfoResponseDto> result = userPage.map(UserInfoResponseDto::from);
         
-        log.info("검색 결과: 총 {}개 중 {}개 조회", result.getTotalElements(), result.getContent().size());
+        log.debug("검색 결과: 총 {}개 중 {}개 조회", result.getTotalElements(), result.getContent().size());
         
         return result;
     }
 
+    /**
+     * 사용자 정보를 부분 변경하는 메서드 (PATCH)
+     * 
+     * 처리 과정:
+     * 1. 전달된 필드만 UPDATE 1회로 변경 (WHERE 버전 일치, 사전 SELECT 없음)
+     * 2. 변경된 행이 없으면 사용자 존재 여부로 404 / 409 구분
+     * 3. 변경 후 사용자를 조회해 outbox, 수신자 집합, Redis 캐시에 반영
+     * 
+     * 권한/활성여부를 보낸 경우에만 토큰 무효화 판단을 위해 변경 전 값을 조회합니다.
+     * 
+     * @param employeeId 대상 사원번호
+     * @param patchDto 변경할 필드와 기대 버전
+     * @param updatedBy 변경을 수행한 관리자의 사원번호
+     * @return 변경 후 사용자 정보 (새 버전 포함)
+     * @throws CustomException 변경할 필드가 없는 경우 (BAD_PARAMETER), 사용자가 없는 경우 (BAD_PARAMETER),
+     *                         다른 요청이 먼저 변경한 경우 (CONCURRENT_MODIFICATION)
+     */
+    @Transactional
+    public UserInfoResponseDto patchUserInfo(String employeeId, UserPatchDto patchDto, String updatedBy) {
+        if (patchDto.isEmpty()) {
+            throw new CustomException(ErrorCode.BAD_PARAMETER, "No fields to update");
+        }
+
+        UserAccessView previous = null;
+        if (patchDto.getRole() != null || Boolean.FALSE.equals(patchDto.getActive())) {
+            previous = userRepository.findAccessByEmployeeId(employeeId);
+        }
+
+        if (userRepository.patchByEmployeeId(employeeId, patchDto, updatedBy) == 0) {
+            if (!userRepository.existsByEmployeeId(employeeId)) {
+                throw new CustomException(ErrorCode.BAD_PARAMETER, "Change target User not found");
+            }
+            throw new CustomException(ErrorCode.CONCURRENT_MODIFICATION);
+        }
+
+        User savedUser = userRepository.findByEmployeeId(employeeId);
+
+        // 사용자 변경 이벤트 기록 (트랜잭션 커밋 후 릴레이가 Kafka로 발행)
+        userOutboxService.append(savedUser, UserChangedEvent.Type.UPDATED);
+        if (patchDto.getScope() != null || patchDto.getShift() != null || patchDto.getActive() != null) {
+            publishRecipientChanged(savedUser, savedUser.isActive());
+        }
+        runAfterCommit(() -> userCacheService.saveOrUpdateUser(savedUser, USER_CACHE_TTL_MIN));
+        // 다른 인스턴스의 2차 캐시에 남은 이전 값도 제거 (커밋 후)
+        userEntityCacheService.evictAfterCommit(savedUser.getId());
+
+        // 권한이 바뀌었거나 비활성화된 경우 기존 토큰 일괄 무효화
+        if (previous != null) {
+            boolean roleChanged = !Objects.equals(previous.getRole(), savedUser.getRole());
+            boolean deactivated = Boolean.TRUE.equals(previous.getActive()) && !savedUser.isActive();
+            if (roleChanged || deactivated) {
+                revokeAllTokens(employeeId);
+            }
+            if (roleChanged) {
+                auditService.recordAfterCommit(
+                        AuditEvent.roleChange(updatedBy, employeeId, previous.getRole(), savedUser.getRole()));
+            }
+        }
+
+        log.debug("사용자 정보 부분 변경 완료: 사원번호 {}, 변경자 {}, 버전 {}", employeeId, updatedBy, savedUser.getVersion());
+        return UserInfoResponseDto.from(savedUser);
+    }
+
     /**
      * 사용자 정보를 변경하는 메서드
      * 
@@ -398,63 +538,260 @@ public class UserService {
 //            throw new NotFound("User not found");
         }
         
-        // 디버깅을 위한 변경 전후 정보 로깅
-        log.info("변경 전 사용자 정보: {}", user);
-        log.info("변경할 정보: {}", userInfoResponseDto);
+        // 권한/활성여부 변경 시 토큰 무효화 판단을 위해 변경 전 값 보관
+        String previousRole = user.getRole();
+        boolean previousActive = user.isActive();
+
+        log.debug("변경할 정보: {}", userInfoResponseDto);
         
         // 각 필드별 null 체크 후 업데이트 (부분 업데이트 지원)
         if (userInfoResponseDto.getName() != null) {
             user.setName(userInfoResponseDto.getName());
-            log.info("이름 변경: {}", userInfoResponseDto.getName());
+            log.debug("이름 변경: {}", userInfoResponseDto.getName());
         }
         if (userInfoResponseDto.getEmail() != null) {
             user.setEmail(userInfoResponseDto.getEmail());
-            log.info("이메일 변경: {}", userInfoResponseDto.getEmail());
+            log.debug("이메일 변경: {}", userInfoResponseDto.getEmail());
         }
         if (userInfoResponseDto.getGender() != null) {
             user.setGender(userInfoResponseDto.getGender());
-            log.info("성별 변경: {}", userInfoResponseDto.getGender());
+            log.debug("성별 변경: {}", userInfoResponseDto.getGender());
         }
         if (userInfoResponseDto.getDepartment() != null) {
             user.setDepartment(userInfoResponseDto.getDepartment());
-            log.info("부서 변경: {}", userInfoResponseDto.getDepartment());
+            log.debug("부서 변경: {}", userInfoResponseDto.getDepartment());
         }
         if (userInfoResponseDto.getPosition() != null) {
             user.setPosition(userInfoResponseDto.getPosition());
-            log.info("직급 변경: {}", userInfoResponseDto.getPosition());
+            log.debug("직급 변경: {}", userInfoResponseDto.getPosition());
         }
         if (userInfoResponseDto.getRole() != null) {
             user.setRole(userInfoResponseDto.getRole());
-            log.info("권한 변경: {}", userInfoResponseDto.getRole());
+            log.debug("권한 변경: {}", userInfoResponseDto.getRole());
         }
         if (userInfoResponseDto.getScope() != null) {
             user.setScope(userInfoResponseDto.getScope());
-            log.info("구역 범위 변경: {}", userInfoResponseDto.getScope());
+            log.debug("구역 범위 변경: {}", userInfoResponseDto.getScope());
         }
         if (userInfoResponseDto.getShift() != null) {
             user.setShift(userInfoResponseDto.getShift());
-            log.info("근무시간 변경: {}", userInfoResponseDto.getShift());
+            log.debug("근무시간 변경: {}", userInfoResponseDto.getShift());
         }
         
         // boolean 필드는 null 체크 없이 직접 설정 (기본값 false)
         user.setActive(userInfoResponseDto.isActive());
-        log.info("활성여부 변경: {}", userInfoResponseDto.isActive());
+        log.debug("활성여부 변경: {}", userInfoResponseDto.isActive());
         
         // 정보 변경 시점의 시간과 변경자 기록 (감사 로그용)
         user.setUpdatedAt(LocalDateTime.now());
         user.setUpdated_pr(updatedBy);
         
-        // 변경된 사용자 정보를 데이터베이스에 저장
-        User savedUser = userRepository.save(user);
-        // 변경된 사용자 정보를 redis에도 적용 (redis update)
-        userCacheService.saveOrUpdateUser(savedUser, USER_CACHE_TTL_MIN);
+        // 변경된 사용자 정보를 데이터베이스에 저장 (증가된 버전을 캐시에 반영하기 위해 즉시 flush)
+        User savedUser = userRepository.saveAndFlush(user);
 
-        log.info("변경 후 사용자 정보: {}", savedUser);
+        // 사용자 변경 이벤트 기록 (트랜잭션 커밋 후 릴레이가 Kafka로 발행)
+        userOutboxService.append(savedUser, UserChangedEvent.Type.UPDATED);
+        publishRecipientChanged(savedUser, savedUser.isActive());
+        // 변경된 사용자 정보를 redis에도 적용 (redis update, 커밋 후)
+        runAfterCommit(() -> userCacheService.saveOrUpdateUser(savedUser, USER_CACHE_TTL_MIN));
+        // 다른 인스턴스의 2차 캐시에 남은 이전 값도 제거 (커밋 후)
+        userEntityCacheService.evictAfterCommit(savedUser.getId());
+
+        // 권한이 바뀌었거나 비활성화된 경우 기존 토큰 일괄 무효화
+        boolean roleChanged = !Objects.equals(previousRole, savedUser.getRole());
+        boolean deactivated = previousActive && !savedUser.isActive();
+        if (roleChanged || deactivated) {
+            revokeAllTokens(savedUser.getEmployeeId());
+        }
+        if (roleChanged) {
+            auditService.recordAfterCommit(
+                    AuditEvent.roleChange(updatedBy, savedUser.getEmployeeId(), previousRole, savedUser.getRole()));
+        }
         
         log.info("사용자 정보 변경 완료: 사원번호 {}, 변경자 {}", userInfoResponseDto.getEmployeeId(), updatedBy);
     }
 
 
+    /**
+     * 사용자의 모든 토큰을 무효화하는 메서드 (트랜잭션 커밋 후 실행)
+     *
+     * epoch를 올려 이전 세대 토큰을 한 번에 무효화하고,
+     * 세션 레지스트리의 액세스 토큰도 logout 상태로 전환합니다.
+     * 요청은 같은 트랜잭션에서 기록되므로 트랜잭션이 롤백되면 토큰은 그대로 유지되고,
+     * 커밋 후 반영에 실패하면 TokenRevocationService가 재시도합니다.
+     *
+     * Redis 장애 중에는 변경은 커밋됐는데 토큰이 살아 있는 상태가 길어지지 않도록 커밋 전에 거부합니다.
+     *
+     * @param employeeId 대상 사용자 사원번호
+     * @throws CustomException Redis 장애 중인 경우 (SERVICE_UNAVAILABLE)
+     */
+    private void revokeAllTokens(String employeeId) {
+        if (redisCircuitBreaker.isDegraded()) {
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+        tokenRevocationService.request(employeeId);
+    }
+
+    /**
+     * 사용자의 모든 로그인 세션과 발급된 토큰을 무효화하는 메서드 (전체 디바이스 로그아웃)
+     *
+     * 비밀번호 변경 등과 같은 경로(epoch 증가 + 세션 레지스트리 정리)를 사용하므로
+     * 레지스트리에 없는 토큰(세션 등록이 생략된 토큰 등)도 함께 무효화됩니다.
+     *
+     * @param employeeId 대상 사용자 사원번호
+     * @throws CustomException Redis 장애 중인 경우 (SERVICE_UNAVAILABLE)
+     */
+    @Transactional
+    public void revokeAllSessions(String employeeId) {
+        revokeAllTokens(employeeId);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후에 실행하는 메서드 (트랜잭션 밖이면 즉시)
+     */
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 알림 수신자 집합 갱신 이벤트를 발행하는 메서드 (커밋 후 RecipientSetService가 반영)
+     *
+     * @param user 변경된 사용자
+     * @param active 수신 대상 여부 (삭제/비활성 사용자는 false)
+     */
+    private void publishRecipientChanged(User user, boolean active) {
+        eventPublisher.publishEvent(new UserRecipientChangedEvent(user.getId(), user.getScope(), user.getShift(), active));
+    }
+
+    /**
+     * 사용자 ID / 사원번호 목록으로 사용자 요약 정보를 일괄 조회하는 메서드
+     * 
+     * 처리 과정:
+     * 1. Redis 유저 캐시(user_id:{id}, user:{employeeId})를 MGET 1회로 조회
+     * 2. 캐시에 없는 사용자만 IN 쿼리 1회로 조회
+     * 3. DB에서 조회한 사용자를 파이프라인 1회로 캐시에 다시 저장
+     * 
+     * @param batchRequestDto 조회할 ID / 사원번호 목록
+     * @return 조회된 사용자와 존재하지 않는 ID / 사원번호 목록
+     * @throws CustomException 최대 개수를 초과한 경우 (BAD_PARAMETER)
+     */
+    @Transactional(readOnly = true)
+    public UserBatchResponseDto findUsersBatch(UserBatchRequestDto batchRequestDto) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (batchRequestDto.getIds() != null) {
+            batchRequestDto.getIds().stream().filter(Objects::nonNull).forEach(ids::add);
+        }
+        Set<String> employeeIds = new LinkedHashSet<>();
+        if (batchRequestDto.getEmployeeIds() != null) {
+            batchRequestDto.getEmployeeIds().stream()
+                    .filter(e -> e != null && !e.isBlank())
+                    .forEach(employeeIds::add);
+        }
+        if (ids.size() + employeeIds.size() > userLookupConfig.getBatchMaxSize()) {
+            throw new CustomException(ErrorCode.BAD_PARAMETER,
+                    "At most " + userLookupConfig.getBatchMaxSize() + " ids/employeeIds per request");
+        }
+
+        // 1. 캐시 조회 (MGET 1회)
+        List<String> keys = new ArrayList<>(ids.size() + employeeIds.size());
+        ids.forEach(id -> keys.add(UserCacheService.userIdKey(id)));
+        employeeIds.forEach(e -> keys.add(UserCacheService.userKey(e)));
+        Map<String, UserCacheDto> cached = userCacheService.findUsers(keys);
+
+        Map<Long, UserCacheDto> found = new LinkedHashMap<>();
+        Set<Long> missingIds = new LinkedHashSet<>();
+        Set<String> missingEmployeeIds = new LinkedHashSet<>();
+        for (Long id : ids) {
+            UserCacheDto user = cached.get(UserCacheService.userIdKey(id));
+            if (user != null) {
+                found.put(user.getId(), user);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        for (String employeeId : employeeIds) {
+            UserCacheDto user = cached.get(UserCacheService.userKey(employeeId));
+            if (user != null) {
+                found.put(user.getId(), user);
+            } else {
+                missingEmployeeIds.add(employeeId);
+            }
+        }
+
+        // 2. 캐시에 없는 사용자만 IN 쿼리 1회로 조회 후 3. 캐시 재적재
+        if (!missingIds.isEmpty() || !missingEmployeeIds.isEmpty()) {
+            List<User> loaded;
+            if (missingEmployeeIds.isEmpty()) {
+                loaded = userRepository.findAllById(missingIds);
+            } else if (missingIds.isEmpty()) {
+                loaded = userRepository.findByEmployeeIdIn(missingEmployeeIds);
+            } else {
+                loaded = userRepository.findByIdInOrEmployeeIdIn(missingIds, missingEmployeeIds);
+            }
+            userCacheService.saveUsers(loaded, USER_CACHE_TTL_MIN);
+            for (User user : loaded) {
+                found.put(user.getId(), UserCacheDto.from(user));
+                missingIds.remove(user.getId());
+                missingEmployeeIds.remove(user.getEmployeeId());
+            }
+            log.debug("사용자 일괄 조회: 요청 {}건, 캐시 적중 {}건, DB 조회 {}건",
+                    keys.size(), cached.size(), loaded.size());
+        }
+
+        return new UserBatchResponseDto(new ArrayList<>(found.values()),
+                new ArrayList<>(missingIds), new ArrayList<>(missingEmployeeIds));
+    }
+
+    /**
+     * 유저 캐시(user:{employeeId})를 조회하고, 없으면 DB에서 조회해 채우는 메서드
+     * 
+     * 같은 사원번호의 동시 조회는 노드 안팎에서 하나의 DB 조회로 합쳐집니다. (UserCacheService.getOrLoad)
+     * 캐시 적중이나 다른 조회를 기다리는 동안 커넥션을 잡지 않도록 트랜잭션은 DB 조회(loader)에서만 열고,
+     * 캐시 만료 직후 조회가 몰려도 커넥션 풀을 모두 쓰지 않도록 DB 조회는 user-lookup bulkhead 안에서 실행합니다.
+     * 
+     * @param employeeId 사원번호
+     * @return 유저 정보, 사용자가 없으면 null
+     */
+    public UserCacheDto findCachedUser(String employeeId) {
+        return userCacheService.getOrLoad(employeeId, USER_CACHE_TTL_MIN,
+                () -> bulkheads.userLookup().execute(() ->
+                        readOnlyTransaction().execute(status -> userRepository.findByEmployeeId(employeeId))));
+    }
+
+    // 읽기 전용 트랜잭션 (replica로 라우팅)
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    /**
+     * 권한 판단(ROOT 확인 등)에 쓸 사용자를 조회하는 메서드
+     *
+     * 다른 노드에서 바뀐 권한 / 활성 여부가 바로 보이도록 2차 캐시와 Replica를 거치지 않고 Primary에서 조회합니다.
+     *
+     * @param employeeId 요청자 사원번호
+     * @return 사용자
+     * @throws CustomException 사용자가 없는 경우 (BAD_PARAMETER)
+     */
+    public User searchUserForAuthorization(String employeeId) {
+        User user = userRepository.findByEmployeeIdFromDatabase(employeeId);
+        if (user == null) {
+            throw new CustomException(ErrorCode.BAD_PARAMETER);
+        }
+        return user;
+    }
+
+    @Transactional(readOnly = true)
     public User searchUserById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.BAD_PARAMETER));
@@ -0,0 +1,330 @@
+package com.deefacto.user_service.service;
+
+import com.deefacto.user_service.common.exception.CustomException;
+import com.deefacto.user_service.common.exception.ErrorCode;
+import com.deefacto.user_service.common.redis.RedisCircuitBreaker;
+import com.deefacto.user_service.config.RedisResilienceConfig;
+import com.deefacto.user_service.config.SessionConfig;
+import com.deefacto.user_service.domain.dto.UserSessionDto;
+import com.deefacto.user_service.secret.jwt.JwtConfig;
+import com.deefacto.user_service.secret.jwt.dto.TokenDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 사원번호별 로그인 세션(멀티 디바이스) 레지스트리
+ *
+ * 사원번호마다 Redis Sorted Set(user_sessions:{employeeId}) 하나를 두고,
+ * member = "{세션 ID}:{현재 액세스 토큰}", score = 로그인 시각(ms)으로 저장합니다.
+ * 세션 ID는 로그인 때 만들어 액세스 / 리프레시 토큰 모두에 Sid 클레임으로 넣으므로,
+ * 레지스트리에서 빠진 세션(축출, 로그아웃, 전체 로그아웃)의 리프레시 토큰은 더 이상 재발급에 쓸 수 없습니다.
+ * 세션은 리프레시 토큰 만료 시각까지 유지됩니다.
+ *
+ * - 로그인: 토큰 상태 SET + 스크립트 1회로 세션 등록 / 만료 세션 정리 / 최대 디바이스 초과분(가장 오래된 세션) 축출
+ *   + 축출된 토큰 logout 전환 (파이프라인 1회)
+ * - 토큰 재발급: 토큰 상태 SET + 스크립트 1회로 세션의 액세스 토큰 교체 (세션이 없으면 거부) + 이전 토큰 logout 전환
+ * - 세션 목록: ZRANGE 1회
+ * - 전체 로그아웃: 스크립트 1회 + 토큰 logout 전환 파이프라인 1회 (세션 수와 무관하게 왕복 2번)
+ *
+ * 스크립트는 KEYS로 받은 세션 키만 다룹니다. (Redis Cluster에서도 슬롯이 하나로 정해지도록)
+ *
+ * 토큰별 상태 키(토큰 → "login"/"logout")는 API Gateway가 참조하므로 기존 형식을 그대로 유지합니다.
+ *
+ * Redis 장애 시(RedisCircuitBreaker):
+ * - 세션 등록: redis-resilience.login-policy가 ALLOW면 생략(최대 디바이스 수 미적용), DENY면 SERVICE_UNAVAILABLE
+ * - 단일 세션 제거: 생략 (세션 항목은 토큰 만료 후 정리됨)
+ * - 토큰 재발급 / 세션 목록 / 전체 세션 무효화: SERVICE_UNAVAILABLE
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserSessionService {
+
+    private static final String SESSION_KEY_PREFIX = "user_sessions:";
+    private static final String MEMBER_SEPARATOR = ":";
+
+    // 세션 등록 + 만료 세션 정리 + 오래된 세션 축출 (반환값: 축출된 토큰 목록)
+    // 토큰 상태 키는 Gateway가 토큰 원문 그대로 조회하므로 해시 태그를 붙일 수 없어,
+    // 스크립트는 세션 키(KEYS[1])만 다루고 토큰 상태 쓰기는 스크립트 밖에서 수행합니다. (Redis Cluster 슬롯 라우팅)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REGISTER_SCRIPT = new DefaultRedisScript<>("""
+            -- KEYS[1]: user_sessions:{employeeId}
+            -- ARGV[1]: 세션 ID:액세스 토큰, ARGV[2]: 로그인 시각(ms), ARGV[3]: 세션 TTL(ms, 리프레시 토큰 만료 시간)
+            -- ARGV[4]: 최대 디바이스 수, ARGV[5]: 만료 기준 시각(ms, 이 값 미만은 만료 세션)
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[5])
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            local evicted = {}
+            local overflow = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[4])
+            if overflow > 0 then
+                local oldest = redis.call('ZPOPMIN', KEYS[1], overflow)
+                for i = 1, #oldest, 2 do
+                    evicted[#evicted + 1] = oldest[i]
+                end
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return evicted
+            """, List.class);
+
+    // 세션의 액세스 토큰 교체, 로그인 시각은 유지 (반환값: 이전 member, 세션이 없으면 nil)
+    private static final RedisScript<String> REFRESH_SCRIPT = new DefaultRedisScript<>("""
+            -- KEYS[1]: user_sessions:{employeeId}
+            -- ARGV[1]: 세션 ID:, ARGV[2]: 세션 ID:새 액세스 토큰
+            local sessions = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES')
+            for i = 1, #sessions, 2 do
+                if string.sub(sessions[i], 1, #ARGV[1]) == ARGV[1] then
+                    redis.call('ZREM', KEYS[1], sessions[i])
+                    redis.call('ZADD', KEYS[1], sessions[i + 1], ARGV[2])
+                    return sessions[i]
+                end
+            end
+            return false
+            """, String.class);
+
+    // 전체 세션 제거 (반환값: 제거된 member 목록)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REVOKE_ALL_SCRIPT = new DefaultRedisScript<>("""
+            -- KEYS[1]: user_sessions:{employeeId}
+            local tokens = redis.call('ZRANGE', KEYS[1], 0, -1)
+            redis.call('DEL', KEYS[1])
+            return tokens
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SessionConfig sessionConfig;
+    private final JwtConfig jwtConfig;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final RedisResilienceConfig resilienceConfig;
+
+    /**
+     * 새 로그인 세션 ID를 만드는 메서드 (액세스 / 리프레시 토큰의 Sid 클레임)
+     */
+    public static String newSessionId() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * 새 로그인 세션을 등록하는 메서드
+     *
+     * 최대 디바이스 수를 초과하면 가장 오래된 세션부터 logout 상태로 전환하고,
+     * 축출된 세션의 리프레시 토큰은 재발급에 쓸 수 없게 됩니다.
+     *
+     * @param employeeId 사용자 사원번호
+     * @param sessionId 로그인 세션 ID (newSessionId)
+     * @param accessToken 발급된 액세스 토큰
+     */
+    public void registerSession(String employeeId, String sessionId, TokenDto.JwtToken accessToken) {
+        long now = System.currentTimeMillis();
+        long ttlMillis = accessToken.getExpiresIn() * 1000L;
+        long sessionTtlMillis = sessionTtlMillis();
+        int maxDevices = Math.max(1, sessionConfig.getMaxDevices());
+
+        List<String> evicted = redisCircuitBreaker.execute("session.register",
+                () -> {
+                    redisTemplate.opsForValue().set(accessToken.getToken(), "login", Duration.ofMillis(ttlMillis));
+                    List<String> tokens = toTokens(redisTemplate.execute(
+                            REGISTER_SCRIPT,
+                            List.of(sessionKey(employeeId)),
+                            member(sessionId, accessToken.getToken()),
+                            String.valueOf(now),
+                            String.valueOf(sessionTtlMillis),
+                            String.valueOf(maxDevices),
+                            String.valueOf(now - sessionTtlMillis)
+                    ));
+                    markLoggedOut(tokens);
+                    return tokens;
+                },
+                () -> {
+                    if (resilienceConfig.getLoginPolicy() == RedisResilienceConfig.LoginPolicy.DENY) {
+                        throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+                    }
+                    log.warn("Redis 장애로 세션 등록 생략: 사원번호 {}", employeeId);
+                    return List.of();
+                });
+
+        if (!evicted.isEmpty()) {
+            log.info("최대 디바이스 수 초과로 기존 세션 무효화: 사원번호 {}, 무효화 {}건", employeeId, evicted.size());
+        }
+    }
+
+    /**
+     * 리프레시로 새로 발급한 액세스 토큰을 세션에 등록하는 메서드
+     *
+     * 세션의 이전 액세스 토큰은 logout 상태로 전환하므로 세션마다 유효한 액세스 토큰은 하나입니다.
+     *
+     * @param employeeId 사용자 사원번호
+     * @param sessionId 리프레시 토큰의 세션 ID
+     * @param accessToken 새로 발급한 액세스 토큰
+     * @throws CustomException 세션이 레지스트리에 없는 경우 (INVALID_TOKEN: 축출 / 로그아웃 / 전체 로그아웃된 세션),
+     *                         Redis 장애로 세션을 확인할 수 없는 경우 (SERVICE_UNAVAILABLE)
+     */
+    public void refreshSession(String employeeId, String sessionId, TokenDto.JwtToken accessToken) {
+        long ttlMillis = accessToken.getExpiresIn() * 1000L;
+        String previous = redisCircuitBreaker.execute("session.refresh",
+                () -> {
+                    redisTemplate.opsForValue().set(accessToken.getToken(), "login", Duration.ofMillis(ttlMillis));
+                    String replaced = redisTemplate.execute(REFRESH_SCRIPT, List.of(sessionKey(employeeId)),
+                            sessionId + MEMBER_SEPARATOR, member(sessionId, accessToken.getToken()));
+                    markLoggedOut(replaced != null ? List.of(replaced) : List.of(accessToken.getToken()));
+                    return replaced;
+                },
+                () -> {
+                    throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+                });
+        if (previous == null) {
+            log.info("종료된 세션의 토큰 재발급 거부: 사원번호 {}", employeeId);
+            throw new CustomException(ErrorCode.INVALID_TOKEN, "Session has been logged out");
+        }
+    }
+
+    /**
+     * 단일 세션을 레지스트리에서 제거하는 메서드 (로그아웃)
+     *
+     * @param employeeId 사용자 사원번호
+     * @param sessionId 액세스 토큰의 세션 ID (Sid 클레임이 없는 이전 토큰이면 null)
+     * @param accessToken 로그아웃할 액세스 토큰
+     */
+    public void removeSession(String employeeId, String sessionId, String accessToken) {
+        String member = sessionId != null ? member(sessionId, accessToken) : accessToken;
+        redisCircuitBreaker.run("session.remove", () -> redisTemplate.opsForZSet().remove(sessionKey(employeeId), member));
+    }
+
+    /**
+     * 사용자의 활성 세션 목록을 조회하는 메서드 (Redis 명령 1회)
+     *
+     * @param employeeId 사용자 사원번호
+     * @return 로그인 시각 오름차순 세션 목록
+     */
+    public List<UserSessionDto> listSessions(String employeeId) {
+        Set<ZSetOperations.TypedTuple<String>> sessions = redisCircuitBreaker.execute("session.list",
+                () -> redisTemplate.opsForZSet().rangeWithScores(sessionKey(employeeId), 0, -1),
+                () -> {
+                    throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+                });
+        if (sessions == null || sessions.isEmpty()) {
+            return List.of();
+        }
+
+        // 아직 정리되지 않은 만료 세션은 응답에서 제외
+        long expiredBefore = System.currentTimeMillis() - sessionTtlMillis();
+        List<UserSessionDto> result = new ArrayList<>(sessions.size());
+        for (ZSetOperations.TypedTuple<String> session : sessions) {
+            if (session.getValue() == null || session.getScore() == null || session.getScore() < expiredBefore) {
+                continue;
+            }
+            LocalDateTime loginAt = LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(session.getScore().longValue()), ZoneId.systemDefault());
+            result.add(new UserSessionDto(toSessionId(sessionIdOf(session.getValue())), loginAt));
+        }
+        return result;
+    }
+
+    /**
+     * 사용자의 모든 세션을 무효화하는 메서드 (스크립트 1회 + 토큰 logout 전환 파이프라인 1회)
+     *
+     * 세션의 리프레시 토큰도 재발급에 쓸 수 없게 됩니다.
+     * 이미 발급된 토큰을 epoch로도 무효화하려면 UserService.revokeAllSessions를 사용합니다.
+     *
+     * @param employeeId 사용자 사원번호
+     * @return 무효화된 세션 수
+     */
+    public long revokeAllSessions(String employeeId) {
+        List<String> revoked = redisCircuitBreaker.execute("session.revoke",
+                () -> {
+                    List<String> tokens = toTokens(redisTemplate.execute(REVOKE_ALL_SCRIPT, List.of(sessionKey(employeeId))));
+                    markLoggedOut(tokens);
+                    return tokens;
+                },
+                () -> {
+                    throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+                });
+        long count = revoked.size();
+        log.info("전체 세션 무효화: 사원번호 {}, 무효화 {}건", employeeId, count);
+        return count;
+    }
+
+    /**
+     * 레지스트리에서 빠진 세션들의 액세스 토큰 상태 키를 logout으로 바꾸는 메서드 (파이프라인 1회)
+     *
+     * SET XX KEEPTTL로 이미 만료된 토큰은 건드리지 않고, 남은 TTL은 그대로 유지합니다.
+     */
+    private void markLoggedOut(List<String> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+        byte[] logout = "logout".getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String member : members) {
+                connection.stringCommands().set(tokenOf(member).getBytes(StandardCharsets.UTF_8), logout,
+                        Expiration.keepTtl(), RedisStringCommands.SetOption.ifPresent());
+            }
+            return null;
+        });
+    }
+
+    @SuppressWarnings("rawtypes")
+    private List<String> toTokens(List result) {
+        if (result == null || result.isEmpty()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>(result.size());
+        for (Object token : result) {
+            tokens.add(String.valueOf(token));
+        }
+        return tokens;
+    }
+
+    private String sessionKey(String employeeId) {
+        return SESSION_KEY_PREFIX + employeeId;
+    }
+
+    // 세션은 리프레시 토큰 만료 시각까지 유지
+    private long sessionTtlMillis() {
+        return jwtConfig.getExpriresIn() * 1000L;
+    }
+
+    private static String member(String sessionId, String accessToken) {
+        return sessionId + MEMBER_SEPARATOR + accessToken;
+    }
+
+    // member의 액세스 토큰 (세션 ID 도입 전 member는 토큰 원문, JWT에는 ':'가 없음)
+    private static String tokenOf(String member) {
+        int separator = member.indexOf(MEMBER_SEPARATOR);
+        return separator < 0 ? member : member.substring(separator + 1);
+    }
+
+    private static String sessionIdOf(String member) {
+        int separator = member.indexOf(MEMBER_SEPARATOR);
+        return separator < 0 ? member : member.substring(0, separator);
+    }
+
+    // 세션 ID(이전 member는 토큰 원문) 대신 SHA-256 해시 앞 16자리를 응답용 세션 식별자로 사용
+    private String toSessionId(String sessionId) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(sessionId.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
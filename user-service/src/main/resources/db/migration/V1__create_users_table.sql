@@ -30,7 +30,7 @@ CREATE TABLE user (
 
     -- 생성 및 수정 시간 (자동 관리)
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,    -- 레코드 생성 시간
-    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP  -- 레코드 수정 시간,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,  -- 레코드 수정 시간
     
     -- 체크 제약조건 추가
     CONSTRAINT chk_gender CHECK (gender IN ('MALE', 'FEMALE', 'OTHER')),
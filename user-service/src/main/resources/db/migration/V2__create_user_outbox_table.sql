@@ -0,0 +1,18 @@
+-- ========================================
+-- 사용자 변경 이벤트 Outbox 테이블 생성 마이그레이션
+-- ========================================
+-- 
+-- 파일명: V2__create_user_outbox_table.sql
+-- 설명: 사용자 등록/변경/삭제 트랜잭션과 같은 트랜잭션에서 변경 이벤트를 기록하는 outbox 테이블입니다.
+--       별도 릴레이가 배치로 읽어 Kafka(user.changed, compacted) 토픽으로 발행한 뒤 삭제합니다.
+
+CREATE TABLE user_outbox (
+    -- 기본 키 (자동 증가, 발행 순서 기준)
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+
+    aggregate_id VARCHAR(20) NOT NULL,           -- 대상 사용자 사번 (Kafka 메시지 키)
+    event_type VARCHAR(20) NOT NULL,             -- 이벤트 유형 (CREATED/UPDATED/PASSWORD_CHANGED/DELETED)
+    payload TEXT NULL,                           -- 사용자 스냅샷 JSON (DELETED는 NULL → tombstone 발행)
+
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP    -- 이벤트 기록 시간
+);
@@ -0,0 +1,10 @@
+-- ========================================
+-- 사용자 버전 컬럼 추가 마이그레이션
+-- ========================================
+-- 
+-- 파일명: V3__add_user_version_column.sql
+-- 설명: 낙관적 잠금(@Version)과 프로필 ETag에 사용하는 버전 컬럼을 추가합니다.
+--       기존 사용자는 0부터 시작하며, 변경될 때마다 1씩 증가합니다.
+
+ALTER TABLE user
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;   -- 엔티티 버전 (변경 시 증가)
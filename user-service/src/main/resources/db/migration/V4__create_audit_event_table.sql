@@ -0,0 +1,24 @@
+-- ========================================
+-- 감사 이벤트 테이블 생성 마이그레이션
+-- ========================================
+-- 
+-- 파일명: V4__create_audit_event_table.sql
+-- 설명: 로그인 성공/실패, 로그아웃, 사용자 등록, 권한 변경, 삭제 이벤트를 기록하는 테이블입니다.
+--       요청 스레드가 아닌 백그라운드 작업이 배치 INSERT로 저장합니다.
+
+CREATE TABLE audit_event (
+    -- 기본 키 (자동 증가)
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+
+    event_type VARCHAR(20) NOT NULL,             -- 이벤트 유형 (LOGIN_SUCCESS/LOGIN_FAILURE/LOGOUT/REGISTER/ROLE_CHANGE/DELETE)
+    actor_id VARCHAR(20) NULL,                   -- 수행자 사번 (로그인/로그아웃은 본인)
+    target_id VARCHAR(20) NULL,                  -- 대상 사용자 사번
+    client_ip VARCHAR(45) NULL,                  -- 요청 IP (IPv6 포함)
+    detail VARCHAR(100) NULL,                    -- 실패 사유, 권한 변경 내용 등
+
+    occurred_at DATETIME(6) NOT NULL,            -- 이벤트 발생 시간
+
+    -- 사용자별 / 기간별 조회용 인덱스
+    INDEX idx_audit_event_target (target_id, occurred_at),
+    INDEX idx_audit_event_occurred (occurred_at)
+);
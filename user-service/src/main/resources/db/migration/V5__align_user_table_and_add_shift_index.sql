@@ -0,0 +1,22 @@
+-- ========================================
+-- 사용자 테이블 컬럼 정리 및 근무시간 인덱스 추가 마이그레이션
+-- ========================================
+-- 
+-- 파일명: V5__align_user_table_and_add_shift_index.sql
+-- 설명: V1 이후 엔티티에 추가된 컬럼(구역, 근무시간, 활성 여부, 등록자/수정자)을 추가하고,
+--       ROOT 권한을 허용하도록 권한 체크 제약조건을 바꿉니다.
+--       근무시간별 활성 사용자 조회(수신자 조회, 교대 전 캐시 예열)용 인덱스를 추가합니다.
+--       (쿼리 실행 계획은 UserRepositoryQueryPlanTest에서 검증)
+
+ALTER TABLE user
+    ADD COLUMN scope VARCHAR(100) NOT NULL DEFAULT '',          -- 담당 구역 목록 (a,b,c)
+    ADD COLUMN shift VARCHAR(10) NULL,                          -- 근무 시간 (DAY/NIGHT)
+    ADD COLUMN is_active BOOLEAN NOT NULL DEFAULT TRUE,         -- 활성 여부
+    ADD COLUMN created_pr VARCHAR(20) NOT NULL DEFAULT '',      -- 등록자 사번
+    ADD COLUMN updated_pr VARCHAR(20) NULL;                     -- 수정자 사번
+
+ALTER TABLE user DROP CHECK chk_role;
+ALTER TABLE user ADD CONSTRAINT chk_role CHECK (role IN ('USER', 'ADMIN', 'ROOT'));
+
+-- 근무시간 + 활성 여부 (InnoDB 보조 인덱스에는 id가 포함되므로 id 순 키셋 페이징도 이 인덱스로 처리)
+CREATE INDEX idx_user_shift_active ON user (shift, is_active);
@@ -0,0 +1,19 @@
+-- ========================================
+-- 토큰 일괄 무효화 대기 테이블 생성 마이그레이션
+-- ========================================
+-- 
+-- 파일명: V6__create_token_revocation_table.sql
+-- 설명: 비밀번호 변경, 권한 변경, 삭제, 전체 로그아웃 트랜잭션과 같은 트랜잭션에서 토큰 무효화 요청을 기록하는 테이블입니다.
+--       커밋 후 Redis(epoch 증가 + 세션 정리)에 반영되면 삭제하고, 실패한 요청은 TokenRevocationService가 재시도합니다.
+
+CREATE TABLE token_revocation (
+    -- 기본 키 (자동 증가, 처리 순서 기준)
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+
+    employee_id VARCHAR(20) NOT NULL,            -- 대상 사용자 사번
+
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,   -- 요청 기록 시간
+
+    -- 재시도 대상 조회용 인덱스
+    INDEX idx_token_revocation_created (created_at)
+);
@@ -0,0 +1,141 @@
+package com.deefacto.user_service.common.cache;
+
+import com.deefacto.user_service.domain.dto.UserCacheDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유저 캐시 값 형식 비교 벤치마크 (JSON vs UserCacheCodec)
+ *
+ * 실제 캐시 값과 비슷한 UserCacheDto 샘플로 항목당 바이트 수와
+ * 인코딩/디코딩 1회당 평균 시간을 출력합니다.
+ * 일반 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행합니다.
+ * (-Dbenchmark.codec.iterations=반복 횟수)
+ */
+@Tag("benchmark")
+class UserCacheCodecBenchmark {
+
+    private static final int SAMPLES = 1_000;
+    private static final int ITERATIONS = Integer.getInteger("benchmark.codec.iterations", 200);
+    private static final String[] ROLES = {"USER", "ADMIN", "ROOT"};
+    private static final String[] SCOPES = {"A", "B", "A,B", "A,C,E", "B,D"};
+    private static final String[] SHIFTS = {"DAY", "NIGHT"};
+    private static final String[] NAMES = {"김민수", "이서연", "박지훈", "최유진", "정하늘", "Alex Kim"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void jsonVersusBinaryCodec() throws Exception {
+        List<UserCacheDto> users = samples();
+
+        long jsonBytes = 0;
+        long binaryBytes = 0;
+        for (UserCacheDto user : users) {
+            byte[] json = objectMapper.writeValueAsBytes(user);
+            byte[] binary = UserCacheCodec.encode(user);
+            jsonBytes += json.length;
+            binaryBytes += binary.length;
+
+            UserCacheDto decoded = UserCacheCodec.decode(binary);
+            assertThat(decoded).usingRecursiveComparison().isEqualTo(user);
+        }
+
+        // 워밍업 (JIT)
+        measureJson(users, ITERATIONS / 2);
+        measureBinary(users, ITERATIONS / 2);
+
+        long[] json = measureJson(users, ITERATIONS);
+        long[] binary = measureBinary(users, ITERATIONS);
+        long operations = (long) users.size() * ITERATIONS;
+
+        System.out.printf("%n=== user cache codec benchmark (%d samples x %d iterations) ===%n", users.size(), ITERATIONS);
+        System.out.printf("%-8s %14s %14s %14s%n", "format", "bytes/entry", "encode(ns)", "decode(ns)");
+        System.out.printf("%-8s %14.1f %14d %14d%n", "JSON",
+                (double) jsonBytes / users.size(), json[0] / operations, json[1] / operations);
+        System.out.printf("%-8s %14.1f %14d %14d%n", "BINARY",
+                (double) binaryBytes / users.size(), binary[0] / operations, binary[1] / operations);
+
+        assertThat(binaryBytes).isLessThan(jsonBytes);
+    }
+
+    @Test
+    void nullFieldsRoundTrip() {
+        UserCacheDto user = new UserCacheDto(7L, "E0007", null, "USER", "A", null, null);
+
+        UserCacheDto decoded = UserCacheCodec.decode(UserCacheCodec.encode(user));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(user);
+    }
+
+    // [0]: 인코딩 누적 시간, [1]: 디코딩 누적 시간 (ns)
+    private long[] measureJson(List<UserCacheDto> users, int iterations) throws Exception {
+        List<byte[]> encoded = new ArrayList<>(users.size());
+        for (UserCacheDto user : users) {
+            encoded.add(objectMapper.writeValueAsBytes(user));
+        }
+        long sink = 0;
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            for (UserCacheDto user : users) {
+                sink += objectMapper.writeValueAsBytes(user).length;
+            }
+        }
+        long encodeNanos = System.nanoTime() - startedAt;
+        startedAt = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            for (byte[] value : encoded) {
+                sink += objectMapper.readValue(value, UserCacheDto.class).getId();
+            }
+        }
+        long decodeNanos = System.nanoTime() - startedAt;
+        assertThat(sink).isPositive();
+        return new long[]{encodeNanos, decodeNanos};
+    }
+
+    private long[] measureBinary(List<UserCacheDto> users, int iterations) {
+        List<byte[]> encoded = new ArrayList<>(users.size());
+        for (UserCacheDto user : users) {
+            encoded.add(UserCacheCodec.encode(user));
+        }
+        long sink = 0;
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            for (UserCacheDto user : users) {
+                sink += UserCacheCodec.encode(user).length;
+            }
+        }
+        long encodeNanos = System.nanoTime() - startedAt;
+        startedAt = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            for (byte[] value : encoded) {
+                sink += UserCacheCodec.decode(value).getId();
+            }
+        }
+        long decodeNanos = System.nanoTime() - startedAt;
+        assertThat(sink).isPositive();
+        return new long[]{encodeNanos, decodeNanos};
+    }
+
+    private static List<UserCacheDto> samples() {
+        Random random = new Random(42);
+        List<UserCacheDto> users = new ArrayList<>(SAMPLES);
+        for (int i = 1; i <= SAMPLES; i++) {
+            users.add(new UserCacheDto(
+                    (long) i,
+                    String.format("E%06d", i),
+                    NAMES[random.nextInt(NAMES.length)],
+                    ROLES[random.nextInt(ROLES.length)],
+                    SCOPES[random.nextInt(SCOPES.length)],
+                    SHIFTS[random.nextInt(SHIFTS.length)],
+                    (long) random.nextInt(20)));
+        }
+        return users;
+    }
+}
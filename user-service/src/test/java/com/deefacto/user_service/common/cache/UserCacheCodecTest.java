@@ -0,0 +1,124 @@
+package com.deefacto.user_service.common.cache;
+
+import com.deefacto.user_service.domain.dto.UserCacheDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 유저 캐시 바이너리 코덱 테스트
+ *
+ * 왕복 변환, null 필드, 버전 바이트 검사, 손상된 값 거부(IllegalArgumentException → 캐시 미스)를 확인합니다.
+ */
+class UserCacheCodecTest {
+
+    @Test
+    void roundTripsAllFields() {
+        UserCacheDto user = new UserCacheDto(42L, "E00042", "홍길동", "ADMIN", "A,B,C", "NIGHT", 7L);
+
+        UserCacheDto decoded = UserCacheCodec.decode(UserCacheCodec.encode(user));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(user);
+    }
+
+    @Test
+    void roundTripsExtremeNumbersAndEmptyStrings() {
+        UserCacheDto user = new UserCacheDto(Long.MAX_VALUE, "", "", "", "", "", Long.MIN_VALUE);
+
+        UserCacheDto decoded = UserCacheCodec.decode(UserCacheCodec.encode(user));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(user);
+    }
+
+    @Test
+    void keepsNullFieldsDistinctFromEmpty() {
+        UserCacheDto user = new UserCacheDto(null, "E00001", null, "", null, null, null);
+
+        UserCacheDto decoded = UserCacheCodec.decode(UserCacheCodec.encode(user));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(user);
+        assertThat(decoded.getName()).isNull();
+        assertThat(decoded.getRole()).isEmpty();
+    }
+
+    @Test
+    void encodesAllNullUserAsHeaderOnly() {
+        byte[] encoded = UserCacheCodec.encode(new UserCacheDto());
+
+        assertThat(encoded).hasSize(3);
+        assertThat(UserCacheCodec.decode(encoded)).usingRecursiveComparison().isEqualTo(new UserCacheDto());
+    }
+
+    @Test
+    void startsWithMagicAndVersion() {
+        byte[] encoded = UserCacheCodec.encode(sample());
+
+        assertThat(encoded[0]).isEqualTo(UserCacheCodec.MAGIC);
+        assertThat(encoded[1]).isEqualTo(UserCacheCodec.VERSION);
+        assertThat(UserCacheCodec.isEncoded(encoded)).isTrue();
+    }
+
+    @Test
+    void doesNotTreatJsonAsEncoded() throws Exception {
+        byte[] json = new ObjectMapper().writeValueAsBytes(sample());
+
+        assertThat(UserCacheCodec.isEncoded(json)).isFalse();
+        assertThat(UserCacheCodec.isEncoded(null)).isFalse();
+        assertThat(UserCacheCodec.isEncoded(new byte[]{UserCacheCodec.MAGIC, UserCacheCodec.VERSION})).isFalse();
+        assertThatThrownBy(() -> UserCacheCodec.decode(json)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 0: 이전 버전, 2 이상: 이 노드가 모르는 새 버전 (모두 캐시 미스로 처리되도록 거부)
+    @ParameterizedTest
+    @ValueSource(bytes = {0, 2, 3, (byte) 0x7F, (byte) 0xFF})
+    void rejectsUnknownOrOldVersion(byte version) {
+        byte[] encoded = UserCacheCodec.encode(sample());
+        encoded[1] = version;
+
+        assertThatThrownBy(() -> UserCacheCodec.decode(encoded))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(String.valueOf(version));
+    }
+
+    @Test
+    void rejectsTruncatedValue() {
+        byte[] encoded = UserCacheCodec.encode(sample());
+
+        for (int length = 3; length < encoded.length; length++) {
+            byte[] truncated = Arrays.copyOf(encoded, length);
+            assertThatThrownBy(() -> UserCacheCodec.decode(truncated))
+                    .as("length %d", length)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void rejectsStringLengthPastEnd() {
+        // 헤더 + id(0) + version(0) + employeeId 길이 100 (실제 바이트는 1개)
+        byte[] corrupt = {UserCacheCodec.MAGIC, UserCacheCodec.VERSION, 0b1111000, 0, 0, 100, 'E'};
+
+        assertThatThrownBy(() -> UserCacheCodec.decode(corrupt))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("100");
+    }
+
+    @Test
+    void rejectsOverlongVarint() {
+        byte[] corrupt = new byte[3 + 11];
+        corrupt[0] = UserCacheCodec.MAGIC;
+        corrupt[1] = UserCacheCodec.VERSION;
+        Arrays.fill(corrupt, 3, corrupt.length, (byte) 0xFF);
+
+        assertThatThrownBy(() -> UserCacheCodec.decode(corrupt)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static UserCacheDto sample() {
+        return new UserCacheDto(1L, "E00001", "사용자", "USER", "A", "DAY", 3L);
+    }
+}
@@ -0,0 +1,57 @@
+package com.deefacto.user_service.common.dto;
+
+import com.deefacto.user_service.domain.dto.UserInfoResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 페이지 응답 DTO 직렬화 시간 벤치마크
+ *
+ * 실행 시간에 따라 결과가 달라지므로 일반 테스트에서는 제외하고 benchmark 태스크에서만 실행합니다.
+ * (./gradlew benchmark --tests '*PageResponseDtoBenchmark')
+ */
+@Tag("benchmark")
+class PageResponseDtoBenchmark {
+
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURE_ROUNDS = 5_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void serializesFasterThanPage() throws Exception {
+        Page<UserInfoResponseDto> page = PageResponseDtoTest.samplePage(10);
+
+        long pageNanos = measure(ApiResponseDto.createOk(page, "ok"));
+        long compactNanos = measure(ApiResponseDto.createOk(PageResponseDto.from(page), "ok"));
+
+        assertThat(compactNanos)
+                .as("PageResponseDto %d ns / Page %d ns", compactNanos, pageNanos)
+                .isLessThan(pageNanos);
+    }
+
+    // 1회 직렬화 평균 시간 (ns)
+    private long measure(Object value) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8_192);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            out.reset();
+            objectMapper.writeValue(out, value);
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            out.reset();
+            objectMapper.writeValue(out, value);
+        }
+        return (System.nanoTime() - started) / MEASURE_ROUNDS;
+    }
+}
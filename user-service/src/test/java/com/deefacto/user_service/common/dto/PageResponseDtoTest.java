@@ -0,0 +1,78 @@
+package com.deefacto.user_service.common.dto;
+
+import com.deefacto.user_service.domain.dto.UserInfoResponseDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 페이지 응답 DTO 직렬화 테스트
+ *
+ * 기존 응답 형식(Spring PageImpl 직렬화)과 응답 크기를 비교합니다.
+ * 직렬화 시간 비교는 PageResponseDtoBenchmark (benchmark 태스크)에서 실행합니다.
+ */
+class PageResponseDtoTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void writesOnlyPageFields() throws Exception {
+        Page<UserInfoResponseDto> page = samplePage(10);
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsBytes(PageResponseDto.from(page)));
+
+        assertThat(json.fieldNames()).toIterable().containsExactly("items", "page", "size", "total", "hasNext");
+        assertThat(json.get("items")).hasSize(10);
+        assertThat(json.get("page").asInt()).isEqualTo(1);
+        assertThat(json.get("size").asInt()).isEqualTo(10);
+        assertThat(json.get("total").asLong()).isEqualTo(135);
+        assertThat(json.get("hasNext").asBoolean()).isTrue();
+    }
+
+    @Test
+    void isSmallerThanSerializingPage() throws Exception {
+        Page<UserInfoResponseDto> page = samplePage(10);
+
+        int pageBytes = objectMapper.writeValueAsBytes(ApiResponseDto.createOk(page, "ok")).length;
+        int compactBytes = objectMapper.writeValueAsBytes(ApiResponseDto.createOk(PageResponseDto.from(page), "ok")).length;
+
+        assertThat(compactBytes).isLessThan(pageBytes);
+    }
+
+    static Page<UserInfoResponseDto> samplePage(int size) {
+        List<UserInfoResponseDto> users = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int i = 0; i < size; i++) {
+            users.add(UserInfoResponseDto.builder()
+                    .employeeId("E" + (1000 + i))
+                    .name("사용자" + i)
+                    .email("user" + i + "@deefacto.com")
+                    .gender("M")
+                    .department("생산")
+                    .position("사원")
+                    .role("USER")
+                    .scope("A,B")
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .shift("DAY")
+                    .created_pr("admin")
+                    .isActive(true)
+                    .updated_pr("admin")
+                    .build());
+        }
+        return new PageImpl<>(users, PageRequest.of(1, size), 135);
+    }
+}
@@ -0,0 +1,137 @@
+package com.deefacto.user_service.common.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 락 없는 링 버퍼 테스트
+ *
+ * 단일 스레드 동작(용량, 가득 참, 순환)과 생산자 여러 개 + 소비자 하나의 동시 offer / drain을 확인합니다.
+ */
+class MpscRingBufferTest {
+
+    private static final int PRODUCERS = 8;
+    private static final int PER_PRODUCER = 50_000;
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertThat(new MpscRingBuffer<Integer>(2).capacity()).isEqualTo(2);
+        assertThat(new MpscRingBuffer<Integer>(5).capacity()).isEqualTo(8);
+        assertThat(new MpscRingBuffer<Integer>(1024).capacity()).isEqualTo(1024);
+        assertThatThrownBy(() -> new MpscRingBuffer<Integer>(1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsWhenFullAndAcceptsAfterPoll() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(4)).isTrue();
+    }
+
+    @Test
+    void keepsFifoOrderAcrossWrapAround() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            buffer.offer(i);
+            if (i % 3 == 2) {
+                buffer.drainTo(drained, 3);
+            }
+        }
+        buffer.drainTo(drained, Integer.MAX_VALUE);
+
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void rejectsNull() {
+        assertThatThrownBy(() -> new MpscRingBuffer<Integer>(4).offer(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void deliversEveryOfferExactlyOnceUnderConcurrentProducers() throws Exception {
+        // 버퍼를 작게 두어 가득 참 / 순환이 자주 일어나도록 함
+        MpscRingBuffer<Long> buffer = new MpscRingBuffer<>(256);
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean producing = new AtomicBoolean(true);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            long producer = p;
+            futures.add(producers.submit(() -> {
+                start.await();
+                for (long seq = 0; seq < PER_PRODUCER; seq++) {
+                    // 원소 = 생산자 번호 * 2^32 + 순번
+                    while (!buffer.offer((producer << 32) | seq)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long[] nextSeq = new long[PRODUCERS];
+        long received = 0;
+        List<Long> batch = new ArrayList<>(64);
+        start.countDown();
+        Thread closer = new Thread(() -> {
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            producing.set(false);
+        });
+        closer.start();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while ((producing.get() || buffer.size() > 0) && System.nanoTime() < deadline) {
+            batch.clear();
+            buffer.drainTo(batch, 64);
+            for (long element : batch) {
+                int producer = (int) (element >>> 32);
+                long seq = element & 0xFFFF_FFFFL;
+                // 생산자별 순서 유지 + 중복/누락 없음
+                assertThat(seq).isEqualTo(nextSeq[producer]);
+                nextSeq[producer]++;
+                received++;
+            }
+        }
+        batch.clear();
+        buffer.drainTo(batch, Integer.MAX_VALUE);
+        for (long element : batch) {
+            nextSeq[(int) (element >>> 32)]++;
+            received++;
+        }
+        closer.join(5_000);
+        producers.shutdownNow();
+
+        assertThat(received).isEqualTo((long) PRODUCERS * PER_PRODUCER);
+        for (long seq : nextSeq) {
+            assertThat(seq).isEqualTo(PER_PRODUCER);
+        }
+        assertThat(buffer.poll()).isNull();
+    }
+}
@@ -0,0 +1,114 @@
+package com.deefacto.user_service.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizationAutoConfiguration;
+import org.springframework.boot.test.context.assertj.AssertableApplicationContext;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Primary / Replica 라우팅 테스트
+ *
+ * 두 개의 H2 인메모리 DB를 Primary / Replica 대신 사용하고,
+ * 각 DB에 자신의 이름을 기록해 두어 어느 쪽에서 조회했는지 확인합니다.
+ */
+class DataSourceRoutingConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    DataSourceAutoConfiguration.class,
+                    DataSourceTransactionManagerAutoConfiguration.class,
+                    TransactionAutoConfiguration.class,
+                    TransactionManagerCustomizationAutoConfiguration.class))
+            .withUserConfiguration(DataSourceRoutingConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+                    "spring.datasource.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1");
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplicaAndOthersUsePrimary() {
+        contextRunner.run(context -> {
+            prepareNodes(context);
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+
+            assertThat(readOnly(context).execute(status -> currentNode(jdbcTemplate))).isEqualTo("replica");
+            assertThat(readWrite(context).execute(status -> currentNode(jdbcTemplate))).isEqualTo("primary");
+            assertThat(currentNode(jdbcTemplate)).isEqualTo("primary");
+        });
+    }
+
+    @Test
+    void readAfterWriteInSameRequestUsesPrimary() {
+        contextRunner.run(context -> {
+            prepareNodes(context);
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+            assertThat(readOnly(context).execute(status -> currentNode(jdbcTemplate))).isEqualTo("replica");
+
+            readWrite(context).executeWithoutResult(status ->
+                    jdbcTemplate.update("UPDATE node SET updated = TRUE"));
+
+            assertThat(readOnly(context).execute(status -> currentNode(jdbcTemplate))).isEqualTo("primary");
+        });
+    }
+
+    @Test
+    void writeOutsideRequestDoesNotPinReads() {
+        contextRunner.run(context -> {
+            prepareNodes(context);
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+
+            readWrite(context).executeWithoutResult(status ->
+                    jdbcTemplate.update("UPDATE node SET updated = TRUE"));
+
+            assertThat(readOnly(context).execute(status -> currentNode(jdbcTemplate))).isEqualTo("replica");
+        });
+    }
+
+    private void prepareNodes(AssertableApplicationContext context) {
+        prepareNode(context.getBean("primaryDataSource", HikariDataSource.class), "primary");
+        prepareNode(context.getBean("replicaDataSource", HikariDataSource.class), "replica");
+    }
+
+    private void prepareNode(DataSource dataSource, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS node");
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20), updated BOOLEAN DEFAULT FALSE)");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+    }
+
+    private String currentNode(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private TransactionTemplate readOnly(AssertableApplicationContext context) {
+        TransactionTemplate template = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private TransactionTemplate readWrite(AssertableApplicationContext context) {
+        return new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+}
@@ -0,0 +1,167 @@
+package com.deefacto.user_service.domain.repository;
+
+import com.deefacto.user_service.common.bulkhead.Bulkheads;
+import com.deefacto.user_service.common.exception.CustomException;
+import com.deefacto.user_service.common.exception.ErrorCode;
+import com.deefacto.user_service.common.redis.RedisCircuitBreaker;
+import com.deefacto.user_service.config.RedisResilienceConfig;
+import com.deefacto.user_service.config.SecurityConfig.PasswordEncoder;
+import com.deefacto.user_service.config.UserLookupConfig;
+import com.deefacto.user_service.domain.Entitiy.User;
+import com.deefacto.user_service.domain.dto.UserPatchDto;
+import com.deefacto.user_service.secret.jwt.TokenGenerator;
+import com.deefacto.user_service.service.AuditService;
+import com.deefacto.user_service.service.LoginThrottleService;
+import com.deefacto.user_service.service.StartupTimeTracker;
+import com.deefacto.user_service.service.TokenIntrospectionService;
+import com.deefacto.user_service.service.TokenRevocationService;
+import com.deefacto.user_service.service.UserCacheService;
+import com.deefacto.user_service.service.UserEntityCacheService;
+import com.deefacto.user_service.service.UserOutboxService;
+import com.deefacto.user_service.service.UserService;
+import com.deefacto.user_service.service.UserSessionService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 사용자 부분 변경(PATCH) 낙관적 잠금 테스트
+ *
+ * H2 인메모리 DB(MySQL 모드)에 사용자 한 명을 넣고,
+ * 기대 버전이 맞을 때만 변경되고 어긋나면 409(CONCURRENT_MODIFICATION)로 거절되는지 확인합니다.
+ * UserService는 실제 리포지토리와 함께 띄우고 Redis/Kafka 관련 협력 객체는 목으로 대체합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-patch;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(UserService.class)
+class UserPatchRepositoryTest {
+
+    private static final String EMPLOYEE_ID = "E00001";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private TokenGenerator tokenGenerator;
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+    @MockitoBean
+    private RedisTemplate<String, String> redisTemplate;
+    @MockitoBean
+    private UserCacheService userCacheService;
+    @MockitoBean
+    private UserEntityCacheService userEntityCacheService;
+    @MockitoBean
+    private UserSessionService userSessionService;
+    @MockitoBean
+    private TokenRevocationService tokenRevocationService;
+    @MockitoBean
+    private LoginThrottleService loginThrottleService;
+    @MockitoBean
+    private UserOutboxService userOutboxService;
+    @MockitoBean
+    private StartupTimeTracker startupTimeTracker;
+    @MockitoBean
+    private UserLookupConfig userLookupConfig;
+    @MockitoBean
+    private AuditService auditService;
+    @MockitoBean
+    private TokenIntrospectionService tokenIntrospectionService;
+    @MockitoBean
+    private RedisCircuitBreaker redisCircuitBreaker;
+    @MockitoBean
+    private RedisResilienceConfig resilienceConfig;
+    @MockitoBean
+    private Bulkheads bulkheads;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO user (employee_id, password, name, email, gender, department, position, role, "
+                        + "scope, shift, is_active, created_pr, created_at, updated_at, version) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, ?)",
+                EMPLOYEE_ID, "$2a$10$seed", "Before", "user1@deefacto.com", "MALE", "QA", "STAFF", "USER",
+                "A", "DAY", true, "E00000", 3L);
+        entityManager.clear();
+    }
+
+    @Test
+    void patchWithCurrentVersionUpdatesRowAndManagedEntity() {
+        User managed = userRepository.findByEmployeeId(EMPLOYEE_ID);
+
+        int updated = userRepository.patchByEmployeeId(EMPLOYEE_ID, patch(3L, "After"), "E00000");
+
+        assertThat(updated).isEqualTo(1);
+        // 같은 트랜잭션에서 이미 읽은 엔티티도 변경된 값으로 다시 읽혀야 함
+        assertThat(managed.getName()).isEqualTo("After");
+        assertThat(managed.getVersion()).isEqualTo(4L);
+        assertThat(managed.getUpdated_pr()).isEqualTo("E00000");
+    }
+
+    @Test
+    void patchWithStaleVersionLeavesRowUnchanged() {
+        int updated = userRepository.patchByEmployeeId(EMPLOYEE_ID, patch(2L, "After"), "E00000");
+
+        assertThat(updated).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM user WHERE employee_id = ?", String.class, EMPLOYEE_ID))
+                .isEqualTo("Before");
+        assertThat(jdbcTemplate.queryForObject("SELECT version FROM user WHERE employee_id = ?", Long.class, EMPLOYEE_ID))
+                .isEqualTo(3L);
+    }
+
+    @Test
+    void patchUserInfoWithStaleVersionIsConflict() {
+        assertThatThrownBy(() -> userService.patchUserInfo(EMPLOYEE_ID, patch(2L, "After"), "E00000"))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.CONCURRENT_MODIFICATION));
+
+        // 거절된 변경은 캐시 갱신/변경 이벤트를 남기지 않음
+        verify(userOutboxService, never()).append(any(), any());
+        verify(userEntityCacheService, never()).evictAfterCommit(any());
+    }
+
+    @Test
+    void patchUserInfoForUnknownUserIsBadParameter() {
+        assertThatThrownBy(() -> userService.patchUserInfo("E99999", patch(0L, "After"), "E00000"))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.BAD_PARAMETER));
+    }
+
+    private static UserPatchDto patch(Long version, String name) {
+        UserPatchDto patch = new UserPatchDto();
+        patch.setVersion(version);
+        patch.setName(name);
+        return patch;
+    }
+}
@@ -0,0 +1,273 @@
+package com.deefacto.user_service.domain.repository;
+
+import com.deefacto.user_service.domain.dto.UserPatchDto;
+import jakarta.persistence.EntityManager;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * UserRepository 쿼리 실행 계획 회귀 테스트
+ *
+ * db/migration 스크립트를 Flyway로 적용한 MySQL에 사용자 데이터를 채운 뒤,
+ * 각 리포지토리 메서드가 실제로 실행한 SQL(바인딩 값 포함)을 수집해 EXPLAIN으로 확인합니다.
+ * 기대한 인덱스를 쓰지 않거나 예상 행 수가 예산을 넘으면 실패합니다.
+ *
+ * UserRepository에 메서드를 추가하면 PLANS에 기대값을 함께 추가해야 합니다. (누락 시 실패)
+ * Docker가 없는 환경에서는 건너뜁니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(UserRepositoryQueryPlanTest.QueryCaptureConfig.class)
+@Testcontainers(disabledWithoutDocker = true)
+class UserRepositoryQueryPlanTest {
+
+    private static final int SEED_USERS = 5_000;
+    private static final String FULL_SCAN = "ALL";
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    // 실행된 SQL과 바인딩 값 (테스트 스레드에서만 호출)
+    private static final List<CapturedQuery> CAPTURED = new CopyOnWriteArrayList<>();
+
+    /**
+     * 메서드별 기대 실행 계획
+     *
+     * keys: 허용하는 인덱스 이름 (FULL_SCAN이면 인덱스를 확인하지 않고 행 수 예산만 확인)
+     * maxRows: user 테이블 EXPLAIN rows 예산
+     */
+    private static final Map<String, Plan> PLANS = new LinkedHashMap<>();
+
+    static {
+        PLANS.put("findByEmployeeId", new Plan(Set.of("employee_id", "PRIMARY"), 1));
+        PLANS.put("findByEmployeeIdFromDatabase", new Plan(Set.of("employee_id"), 1));
+        PLANS.put("existsByEmployeeId", new Plan(Set.of("employee_id"), 1));
+        PLANS.put("findAccessByEmployeeId", new Plan(Set.of("employee_id"), 1));
+        PLANS.put("findByEmployeeIdIn", new Plan(Set.of("employee_id"), 10));
+        PLANS.put("findByIdInOrEmployeeIdIn", new Plan(Set.of("PRIMARY", "employee_id", "PRIMARY,employee_id", "employee_id,PRIMARY"), 20));
+        PLANS.put("patchByEmployeeId", new Plan(Set.of("employee_id"), 1));
+        PLANS.put("findActiveRecipientsByIdIn", new Plan(Set.of("PRIMARY"), 10));
+        // 근무시간 인덱스로 한 근무조 범위만 읽음 (시드 데이터의 절반 + 통계 오차)
+        PLANS.put("findUserIdsByScopeAndShift", new Plan(Set.of("idx_user_shift_active"), SEED_USERS * 6 / 10));
+        PLANS.put("findActiveByShiftAfterId", new Plan(Set.of("idx_user_shift_active"), SEED_USERS * 6 / 10));
+        // 부분 일치(LIKE %x%) 검색과 전체 활성 사용자 조회는 인덱스를 쓸 수 없어 전체 스캔이 기대값
+        PLANS.put("findByConditions", new Plan(Set.of(FULL_SCAN), SEED_USERS * 11 / 10));
+        PLANS.put("findActiveRecipients", new Plan(Set.of(FULL_SCAN), SEED_USERS * 11 / 10));
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @BeforeAll
+    static void migrateAndSeed() throws Exception {
+        DataSource dataSource = new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+
+        // 운영과 같은 방식(Flyway)으로 스키마 생성
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        JdbcTemplate seed = new JdbcTemplate(dataSource);
+        List<Object[]> rows = new ArrayList<>(SEED_USERS);
+        String[] scopes = {"A", "B", "C", "A,B", "B,C", "A,B,C"};
+        for (int i = 1; i <= SEED_USERS; i++) {
+            rows.add(new Object[]{
+                    String.format("E%05d", i), "$2a$10$seed", "User " + i, "user" + i + "@deefacto.com",
+                    i % 2 == 0 ? "MALE" : "FEMALE", "QA", "STAFF", "USER",
+                    scopes[i % scopes.length], i % 2 == 0 ? "DAY" : "NIGHT", i % 10 != 0, "E00000"});
+        }
+        seed.batchUpdate("INSERT INTO user (employee_id, password, name, email, gender, department, position, role, "
+                + "scope, shift, is_active, created_pr) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        seed.execute("ANALYZE TABLE user");
+    }
+
+    @BeforeEach
+    void clear() {
+        entityManager.clear();
+        CAPTURED.clear();
+    }
+
+    @Test
+    void everyRepositoryQueryHasAnExpectedPlan() {
+        Set<String> methods = new TreeSet<>();
+        for (Class<?> repository : List.of(UserRepository.class, UserNaturalIdRepository.class, UserPatchRepository.class)) {
+            for (Method method : repository.getDeclaredMethods()) {
+                if (!method.isSynthetic() && !method.isDefault()) {
+                    methods.add(method.getName());
+                }
+            }
+        }
+        assertThat(PLANS.keySet())
+                .as("UserRepository에 추가된 쿼리 메서드는 PLANS에 기대 실행 계획을 등록해야 합니다")
+                .containsAll(methods);
+    }
+
+    @Test
+    void employeeIdLookupsUseUniqueIndex() {
+        verify("findByEmployeeId", () -> userRepository.findByEmployeeId("E00042"));
+        verify("findByEmployeeIdFromDatabase", () -> userRepository.findByEmployeeIdFromDatabase("E00043"));
+        verify("existsByEmployeeId", () -> userRepository.existsByEmployeeId("E00042"));
+        verify("findAccessByEmployeeId", () -> userRepository.findAccessByEmployeeId("E00042"));
+        verify("findByEmployeeIdIn", () -> userRepository.findByEmployeeIdIn(List.of("E00001", "E00002", "E00003")));
+        verify("findByIdInOrEmployeeIdIn",
+                () -> userRepository.findByIdInOrEmployeeIdIn(List.of(1L, 2L, 3L), List.of("E00100", "E00200")));
+    }
+
+    @Test
+    void patchUpdatesOneRowByEmployeeId() {
+        UserPatchDto patch = new UserPatchDto();
+        patch.setVersion(0L);
+        patch.setName("Renamed");
+        verify("patchByEmployeeId", () -> userRepository.patchByEmployeeId("E00042", patch, "E00000"));
+    }
+
+    @Test
+    void shiftQueriesUseShiftIndex() {
+        verify("findUserIdsByScopeAndShift", () -> userRepository.findUserIdsByScopeAndShift("A", "DAY"));
+        verify("findActiveByShiftAfterId", () -> userRepository.findActiveByShiftAfterId("DAY", 0L, PageRequest.ofSize(500)));
+    }
+
+    @Test
+    void fullScanQueriesStayWithinBudget() {
+        verify("findByConditions", () -> userRepository.findByConditions("User 1", null, null, PageRequest.of(0, 10)));
+        verify("findActiveRecipients", () -> userRepository.findActiveRecipients());
+        verify("findActiveRecipientsByIdIn", () -> userRepository.findActiveRecipientsByIdIn(List.of(1L, 2L, 3L)));
+    }
+
+    // 메서드를 실행해 수집한 SQL마다 EXPLAIN을 실행하고 user 테이블 접근이 기대값과 같은지 확인
+    private void verify(String method, Runnable query) {
+        Plan plan = PLANS.get(method);
+        CAPTURED.clear();
+        query.run();
+        entityManager.flush();
+        List<CapturedQuery> queries = new ArrayList<>(CAPTURED);
+        CAPTURED.clear();
+        assertThat(queries).as("%s: 실행된 SQL 없음", method).isNotEmpty();
+
+        for (CapturedQuery captured : queries) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + captured.sql(), captured.args());
+            for (Map<String, Object> row : rows) {
+                // 테이블 접근이 없는 행 (예: const 조회 결과 없음)
+                if (row.get("table") == null) {
+                    continue;
+                }
+                String type = String.valueOf(row.get("type"));
+                String key = row.get("key") != null ? String.valueOf(row.get("key")) : null;
+                long estimatedRows = row.get("rows") != null ? ((Number) row.get("rows")).longValue() : 0;
+
+                if (!plan.keys().contains(FULL_SCAN) && (key == null || !plan.keys().contains(key))) {
+                    fail("%s: 기대 인덱스 %s, 실제 type=%s key=%s rows=%d%nSQL: %s",
+                            method, plan.keys(), type, key, estimatedRows, captured.sql());
+                }
+                assertThat(estimatedRows)
+                        .as("%s: 예상 행 수 %d가 예산 %d 초과%nSQL: %s", method, estimatedRows, plan.maxRows(), captured.sql())
+                        .isLessThanOrEqualTo(plan.maxRows());
+            }
+        }
+    }
+
+    private record Plan(Set<String> keys, long maxRows) {
+    }
+
+    private record CapturedQuery(String sql, Object[] args) {
+    }
+
+    @TestConfiguration
+    static class QueryCaptureConfig {
+
+        // DataSource를 datasource-proxy로 감싸 user 테이블을 읽거나 쓰는 SQL과 바인딩 값을 수집
+        @Bean
+        static BeanPostProcessor queryCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("query-plan")
+                            .afterQuery((execInfo, queryInfoList) -> {
+                                for (QueryInfo queryInfo : queryInfoList) {
+                                    capture(queryInfo);
+                                }
+                            })
+                            .build();
+                }
+            };
+        }
+
+        private static void capture(QueryInfo queryInfo) {
+            String sql = queryInfo.getQuery().trim();
+            String lower = sql.toLowerCase();
+            if (lower.startsWith("explain") || !lower.contains(" user ")) {
+                return;
+            }
+            if (!(lower.startsWith("select") || lower.startsWith("update") || lower.startsWith("delete"))) {
+                return;
+            }
+            List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+            List<ParameterSetOperation> parameters = parametersList.isEmpty() ? List.of() : parametersList.get(0);
+            Object[] args = parameters.stream()
+                    .sorted(Comparator.comparingInt(op -> (Integer) op.getArgs()[0]))
+                    .map(op -> op.getArgs()[1])
+                    .toArray();
+            CAPTURED.add(new CapturedQuery(sql, args));
+        }
+    }
+}
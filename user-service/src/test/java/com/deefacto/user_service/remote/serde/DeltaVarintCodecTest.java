@@ -0,0 +1,123 @@
+package com.deefacto.user_service.remote.serde;
+
+import com.deefacto.user_service.remote.dto.UserMessage;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * user.response delta-varint 코덱 테스트
+ */
+class DeltaVarintCodecTest {
+
+    @Test
+    void roundTripRestoresSortedIds() {
+        UserMessage.UserResponseMessage message = response(42L, List.of(1_000L, 3L, 5L, 999L));
+
+        UserMessage.UserResponseMessage decoded = DeltaVarintCodec.decode(DeltaVarintCodec.encode(message));
+
+        assertThat(decoded.getNotificationId()).isEqualTo(42L);
+        assertThat(decoded.getUserIds()).containsExactly(3L, 5L, 999L, 1_000L);
+        assertThat(decoded.getChunkIndex()).isNull();
+        assertThat(decoded.getChunkCount()).isNull();
+    }
+
+    @Test
+    void negativeAndLargeValuesRoundTrip() {
+        // 첫 값은 zigzag, MIN_VALUE → MAX_VALUE 차분은 long 범위를 넘어가므로 wrap-around로 복원되어야 함
+        List<Long> ids = List.of(Long.MAX_VALUE, -1L, 0L, Long.MIN_VALUE, -1_000_000_000_000L, 1L << 40);
+        UserMessage.UserResponseMessage message = response(-5L, ids);
+
+        UserMessage.UserResponseMessage decoded = DeltaVarintCodec.decode(DeltaVarintCodec.encode(message));
+
+        assertThat(decoded.getNotificationId()).isEqualTo(-5L);
+        assertThat(decoded.getUserIds()).containsExactly(
+                Long.MIN_VALUE, -1_000_000_000_000L, -1L, 0L, 1L << 40, Long.MAX_VALUE);
+    }
+
+    @Test
+    void overflowingDeltaBetweenExtremesRoundTrips() {
+        UserMessage.UserResponseMessage message = response(1L, List.of(Long.MIN_VALUE, Long.MAX_VALUE));
+
+        UserMessage.UserResponseMessage decoded = DeltaVarintCodec.decode(DeltaVarintCodec.encode(message));
+
+        assertThat(decoded.getUserIds()).containsExactly(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    @Test
+    void duplicateIdsAreKept() {
+        UserMessage.UserResponseMessage message = response(1L, List.of(7L, 7L, 3L));
+
+        UserMessage.UserResponseMessage decoded = DeltaVarintCodec.decode(DeltaVarintCodec.encode(message));
+
+        assertThat(decoded.getUserIds()).containsExactly(3L, 7L, 7L);
+    }
+
+    @Test
+    void emptyAndNullListsAreDistinguished() {
+        UserMessage.UserResponseMessage empty = DeltaVarintCodec.decode(DeltaVarintCodec.encode(response(1L, List.of())));
+        UserMessage.UserResponseMessage absent = DeltaVarintCodec.decode(DeltaVarintCodec.encode(response(1L, null)));
+
+        assertThat(empty.getUserIds()).isEmpty();
+        assertThat(absent.getUserIds()).isNull();
+    }
+
+    @Test
+    void nullNotificationIdAndChunkFieldsRoundTrip() {
+        UserMessage.UserResponseMessage message = response(null, List.of(10L, 11L));
+        message.setChunkIndex(2);
+        message.setChunkCount(3);
+
+        UserMessage.UserResponseMessage decoded = DeltaVarintCodec.decode(DeltaVarintCodec.encode(message));
+
+        assertThat(decoded.getNotificationId()).isNull();
+        assertThat(decoded.getChunkIndex()).isEqualTo(2);
+        assertThat(decoded.getChunkCount()).isEqualTo(3);
+        assertThat(decoded.getUserIds()).containsExactly(10L, 11L);
+    }
+
+    @Test
+    void consecutiveIdsTakeOneBytePerId() {
+        List<Long> ids = new ArrayList<>();
+        LongStream.range(100_000, 110_000).forEach(ids::add);
+
+        byte[] encoded = DeltaVarintCodec.encode(response(1L, ids));
+
+        // 첫 값(최대 10바이트) 이후 차분 1은 모두 1바이트
+        assertThat(encoded.length).isLessThanOrEqualTo(DeltaVarintCodec.MAX_HEADER_BYTES + 10 + (ids.size() - 1));
+    }
+
+    @Test
+    void rejectsTruncatedMessage() {
+        byte[] encoded = DeltaVarintCodec.encode(response(1L, List.of(1L, 200L, 70_000L)));
+
+        assertThatThrownBy(() -> DeltaVarintCodec.decode(Arrays.copyOf(encoded, encoded.length - 1)))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void rejectsUnknownVersionAndForeignFormat() {
+        byte[] encoded = DeltaVarintCodec.encode(response(1L, List.of(1L)));
+        encoded[1] = (byte) (DeltaVarintCodec.VERSION + 1);
+        byte[] json = "{\"notificationId\":1,\"userIds\":[1]}".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> DeltaVarintCodec.decode(encoded)).isInstanceOf(SerializationException.class);
+        assertThat(DeltaVarintCodec.isEncoded(json)).isFalse();
+        assertThatThrownBy(() -> DeltaVarintCodec.decode(json)).isInstanceOf(SerializationException.class);
+    }
+
+    private static UserMessage.UserResponseMessage response(Long notificationId, List<Long> userIds) {
+        UserMessage.UserResponseMessage message = new UserMessage.UserResponseMessage();
+        message.setNotificationId(notificationId);
+        message.setUserIds(userIds);
+        return message;
+    }
+}
@@ -0,0 +1,54 @@
+package com.deefacto.user_service.remote.serde;
+
+import com.deefacto.user_service.remote.dto.UserMessage;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프로듀서 기본 value serializer 테스트
+ */
+class UserMessageSerializerTest {
+
+    private final UserMessageSerializer serializer = new UserMessageSerializer();
+
+    @Test
+    void rawBytesArePassedThroughUnchanged() {
+        // DLT로 옮기는 원본 레코드 (역직렬화에 실패한 잘못된 JSON)
+        byte[] original = "{\"zoneId\":".getBytes(StandardCharsets.UTF_8);
+
+        byte[] serialized = serializer.serialize("user.request-dlt", new RecordHeaders(), original);
+
+        assertThat(serialized).isSameAs(original);
+    }
+
+    @Test
+    void messagesWithoutEncodingHeaderAreJson() {
+        UserMessage.UserResponseMessage response = new UserMessage.UserResponseMessage();
+        response.setNotificationId(7L);
+        response.setUserIds(List.of(1L, 2L));
+
+        byte[] serialized = serializer.serialize("user.response", new RecordHeaders(), response);
+
+        assertThat(new String(serialized, StandardCharsets.UTF_8))
+                .contains("\"notificationId\":7")
+                .contains("\"userIds\":[1,2]");
+    }
+
+    @Test
+    void deltaVarintHeaderSelectsBinaryEncoding() {
+        UserMessage.UserResponseMessage response = new UserMessage.UserResponseMessage();
+        response.setNotificationId(7L);
+        response.setUserIds(List.of(1L, 2L));
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(UserMessageEncoding.CONTENT_HEADER, UserMessageEncoding.DELTA_VARINT.getBytes(StandardCharsets.UTF_8));
+
+        byte[] serialized = serializer.serialize("user.response", headers, response);
+
+        assertThat(DeltaVarintCodec.decode(serialized).getUserIds()).containsExactly(1L, 2L);
+    }
+}
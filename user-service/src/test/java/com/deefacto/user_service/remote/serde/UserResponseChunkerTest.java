@@ -0,0 +1,137 @@
+package com.deefacto.user_service.remote.serde;
+
+import com.deefacto.user_service.remote.dto.UserMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * user.response 메시지 분할 테스트
+ *
+ * 조각마다 인코딩 크기가 제한 이하인지, 조각을 합치면 원래 목록이 되는지 확인합니다.
+ */
+class UserResponseChunkerTest {
+
+    // 바이너리 조각당 100개: (1028 - 28) / 10
+    private static final int BINARY_LIMIT_FOR_100 = DeltaVarintCodec.MAX_HEADER_BYTES + 100 * DeltaVarintCodec.MAX_BYTES_PER_ID;
+    // JSON 조각당 100개: (2228 - 128) / 21
+    private static final int JSON_LIMIT_FOR_100 = 128 + 100 * 21;
+
+    private final UserMessageSerializer serializer = new UserMessageSerializer();
+
+    @Test
+    void smallMessageIsReturnedAsIs() {
+        UserMessage.UserResponseMessage response = response(ids(0, 100));
+
+        List<UserMessage.UserResponseMessage> chunks =
+                UserResponseChunker.split(response, UserMessageEncoding.DELTA_VARINT, BINARY_LIMIT_FOR_100);
+
+        assertThat(chunks).containsExactly(response);
+        assertThat(response.getChunkIndex()).isNull();
+        assertThat(response.getChunkCount()).isNull();
+    }
+
+    @Test
+    void nullAndEmptyListsAreNotSplit() {
+        UserMessage.UserResponseMessage absent = response(null);
+        UserMessage.UserResponseMessage empty = response(List.of());
+
+        assertThat(UserResponseChunker.split(absent, UserMessageEncoding.JSON, 256)).containsExactly(absent);
+        assertThat(UserResponseChunker.split(empty, UserMessageEncoding.DELTA_VARINT, 64)).containsExactly(empty);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "100, 1",
+            "101, 2",
+            "200, 2",
+            "201, 3"
+    })
+    void chunkCountAtBoundaries(int size, int expectedChunks) {
+        List<UserMessage.UserResponseMessage> binary =
+                UserResponseChunker.split(response(ids(0, size)), UserMessageEncoding.DELTA_VARINT, BINARY_LIMIT_FOR_100);
+        List<UserMessage.UserResponseMessage> json =
+                UserResponseChunker.split(response(ids(0, size)), UserMessageEncoding.JSON, JSON_LIMIT_FOR_100);
+
+        assertThat(binary).hasSize(expectedChunks);
+        assertThat(json).hasSize(expectedChunks);
+    }
+
+    @Test
+    void binaryChunksFitLimitAndReassembleInOrder() {
+        Random random = new Random(7);
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            // 큰 차분과 음수가 섞여도 조각당 최대 크기 계산이 맞아야 함
+            userIds.add(random.nextInt(10) == 0 ? random.nextLong() : random.nextInt(50_000));
+        }
+        int limit = 4_096;
+
+        List<UserMessage.UserResponseMessage> chunks =
+                UserResponseChunker.split(response(userIds), UserMessageEncoding.DELTA_VARINT, limit);
+
+        assertThat(chunks).hasSizeGreaterThan(1);
+        List<Long> reassembled = new ArrayList<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            byte[] encoded = DeltaVarintCodec.encode(chunks.get(i));
+            assertThat(encoded.length).isLessThanOrEqualTo(limit);
+
+            UserMessage.UserResponseMessage decoded = DeltaVarintCodec.decode(encoded);
+            assertThat(decoded.getNotificationId()).isEqualTo(77L);
+            assertThat(decoded.getChunkIndex()).isEqualTo(i);
+            assertThat(decoded.getChunkCount()).isEqualTo(chunks.size());
+            reassembled.addAll(decoded.getUserIds());
+        }
+        // 조각은 정렬된 연속 구간이므로 순서대로 합치면 전체 정렬 목록
+        assertThat(reassembled).containsExactlyElementsOf(userIds.stream().sorted().toList());
+    }
+
+    @Test
+    void jsonChunksFitLimitAndKeepOriginalOrder() {
+        // JSON 최악의 경우: 19자리 음수
+        List<Long> userIds = new ArrayList<>();
+        LongStream.range(0, 1_000).forEach(i -> userIds.add(Long.MIN_VALUE + i * 3));
+        int limit = 2_048;
+
+        List<UserMessage.UserResponseMessage> chunks =
+                UserResponseChunker.split(response(userIds), UserMessageEncoding.JSON, limit);
+
+        assertThat(chunks).hasSizeGreaterThan(1);
+        List<Long> reassembled = new ArrayList<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            UserMessage.UserResponseMessage chunk = chunks.get(i);
+            assertThat(serializer.serialize("user.response", chunk).length).isLessThanOrEqualTo(limit);
+            assertThat(chunk.getChunkIndex()).isEqualTo(i);
+            assertThat(chunk.getChunkCount()).isEqualTo(chunks.size());
+            reassembled.addAll(chunk.getUserIds());
+        }
+        assertThat(reassembled).containsExactlyElementsOf(userIds);
+    }
+
+    @Test
+    void limitBelowHeaderStillSplitsOneIdPerChunk() {
+        List<UserMessage.UserResponseMessage> chunks =
+                UserResponseChunker.split(response(ids(0, 3)), UserMessageEncoding.DELTA_VARINT, 1);
+
+        assertThat(chunks).hasSize(3);
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.getUserIds()).hasSize(1));
+    }
+
+    private static List<Long> ids(long from, int count) {
+        return LongStream.range(from, from + count).boxed().toList();
+    }
+
+    private static UserMessage.UserResponseMessage response(List<Long> userIds) {
+        UserMessage.UserResponseMessage message = new UserMessage.UserResponseMessage();
+        message.setNotificationId(77L);
+        message.setUserIds(userIds);
+        return message;
+    }
+}
@@ -0,0 +1,289 @@
+package com.deefacto.user_service.remote.service;
+
+import com.deefacto.user_service.common.bulkhead.Bulkheads;
+import com.deefacto.user_service.config.BulkheadConfig;
+import com.deefacto.user_service.config.KafkaTopicConfig;
+import com.deefacto.user_service.config.UserOutboxConfig;
+import com.deefacto.user_service.config.UserRequestConfig;
+import com.deefacto.user_service.domain.Entitiy.User;
+import com.deefacto.user_service.domain.repository.UserRepository;
+import com.deefacto.user_service.remote.dto.UserMessage;
+import com.deefacto.user_service.service.RecipientSetService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 수신자 조회(user.request → user.response) 처리량 벤치마크
+ *
+ * EmbeddedKafka와 사용자 데이터를 채운 H2를 띄우고 UserRequestConsumer를 실제 리스너 컨테이너로 구동합니다.
+ * 구역/근무시간 쏠림, 폴링 배치 크기(max.poll.records), 리스너 동시성을 바꿔 가며
+ * 요청을 한꺼번에 보낸 뒤 처리량(msg/s)과 요청→응답 지연 백분위수를 출력합니다.
+ *
+ * Redis 수신자 집합과 응답 캐시는 목으로 대체하여 DB 조회 경로를 측정합니다.
+ * 일반 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행합니다.
+ * (-Dbenchmark.messages=요청 수, -Dbenchmark.users=사용자 수)
+ */
+@Tag("benchmark")
+@SpringBootTest(classes = UserRequestPipelineBenchmark.BenchmarkApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-request-benchmark;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "spring.kafka.consumer.auto-offset-reset=earliest",
+        "logging.level.com.deefacto=WARN"
+})
+@EmbeddedKafka(partitions = UserRequestPipelineBenchmark.PARTITIONS, topics = {"user.request", "user.response"})
+@ActiveProfiles("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserRequestPipelineBenchmark {
+
+    static final int PARTITIONS = 8;
+
+    private static final int MESSAGES = Integer.getInteger("benchmark.messages", 2_000);
+    private static final int USERS = Integer.getInteger("benchmark.users", 20_000);
+    private static final Duration SCENARIO_TIMEOUT = Duration.ofMinutes(2);
+    private static final String[] ZONES = {"A", "B", "C", "D", "E"};
+    private static final String[] SHIFTS = {"DAY", "NIGHT"};
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private RecipientSetService recipientSetService;
+
+    @MockitoBean
+    private UserResponseCacheService userResponseCacheService;
+
+    private Producer<String, String> producer;
+    private Consumer<String, String> responseConsumer;
+    private List<TopicPartition> responsePartitions;
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = {RedisAutoConfiguration.class, RedisRepositoriesAutoConfiguration.class})
+    @EntityScan(basePackageClasses = User.class)
+    @EnableJpaRepositories(basePackageClasses = UserRepository.class)
+    @Import({UserRequestConsumer.class, UserRequestConfig.class, UserOutboxConfig.class, KafkaTopicConfig.class,
+            Bulkheads.class, BulkheadConfig.class})
+    static class BenchmarkApplication {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    enum Skew {
+        // 구역/근무시간 균등 분포
+        UNIFORM,
+        // 90%가 한 구역/근무시간에 몰림 (교대 직전 한 구역 알림 폭주)
+        HOT
+    }
+
+    record Scenario(Skew skew, int maxPollRecords, int concurrency) {
+    }
+
+    record Result(Scenario scenario, double messagesPerSecond, long p50Micros, long p95Micros, long p99Micros,
+                  long maxMicros) {
+    }
+
+    @BeforeAll
+    void setUp() {
+        seedUsers();
+
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(embeddedKafka);
+        producer = new KafkaProducer<>(producerProps, new StringSerializer(), new StringSerializer());
+
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("user-request-benchmark", "false", embeddedKafka);
+        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 1_000);
+        responseConsumer = new KafkaConsumer<>(consumerProps, new StringDeserializer(), new StringDeserializer());
+        responsePartitions = new ArrayList<>();
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            responsePartitions.add(new TopicPartition("user.response", partition));
+        }
+        responseConsumer.assign(responsePartitions);
+    }
+
+    @AfterAll
+    void tearDown() {
+        producer.close();
+        responseConsumer.close();
+    }
+
+    @Test
+    void recipientResolutionThroughput() throws Exception {
+        // 워밍업 (JIT, 커넥션 풀, 컨슈머 그룹 합류)
+        run(new Scenario(Skew.UNIFORM, 100, 1), Math.min(MESSAGES, 500));
+
+        List<Result> results = new ArrayList<>();
+        for (Skew skew : Skew.values()) {
+            for (int maxPollRecords : new int[]{10, 100}) {
+                for (int concurrency : new int[]{1, 4, PARTITIONS}) {
+                    results.add(run(new Scenario(skew, maxPollRecords, concurrency), MESSAGES));
+                }
+            }
+        }
+
+        System.out.printf("%n=== user.request pipeline benchmark (%d messages, %d users) ===%n", MESSAGES, USERS);
+        System.out.printf("%-8s %10s %12s %12s %10s %10s %10s %10s%n",
+                "skew", "maxPoll", "concurrency", "msg/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        for (Result result : results) {
+            System.out.printf("%-8s %10d %12d %12.0f %10.2f %10.2f %10.2f %10.2f%n",
+                    result.scenario().skew(), result.scenario().maxPollRecords(), result.scenario().concurrency(),
+                    result.messagesPerSecond(), result.p50Micros() / 1000.0, result.p95Micros() / 1000.0,
+                    result.p99Micros() / 1000.0, result.maxMicros() / 1000.0);
+        }
+    }
+
+    private Result run(Scenario scenario, int messages) throws Exception {
+        reconfigureListener(scenario);
+        skipToEnd();
+
+        Random random = new Random(42);
+        Map<Long, Long> sentAt = new ConcurrentHashMap<>(messages * 2);
+        long baseId = System.nanoTime();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < messages; i++) {
+            long notificationId = baseId + i;
+            String zone;
+            String shift;
+            if (scenario.skew() == Skew.HOT && random.nextInt(10) < 9) {
+                zone = "A";
+                shift = "DAY";
+            } else {
+                zone = ZONES[random.nextInt(ZONES.length)];
+                shift = SHIFTS[random.nextInt(SHIFTS.length)];
+            }
+            String payload = "{\"notificationId\":" + notificationId + ",\"zoneId\":\"" + zone + "-01\",\"shift\":\"" + shift + "\"}";
+            sentAt.put(notificationId, System.nanoTime());
+            producer.send(new ProducerRecord<>("user.request", String.valueOf(notificationId), payload));
+        }
+        producer.flush();
+
+        long[] latencies = new long[messages];
+        int received = 0;
+        long lastReceivedAt = startedAt;
+        long deadline = System.nanoTime() + SCENARIO_TIMEOUT.toNanos();
+        while (received < messages && System.nanoTime() < deadline) {
+            for (ConsumerRecord<String, String> record : responseConsumer.poll(Duration.ofMillis(100))) {
+                long now = System.nanoTime();
+                UserMessage.UserResponseMessage response =
+                        objectMapper.readValue(record.value(), UserMessage.UserResponseMessage.class);
+                // 여러 조각으로 나뉜 응답은 마지막 조각 수신 시점 기준
+                if (response.getChunkCount() != null && response.getChunkIndex() + 1 < response.getChunkCount()) {
+                    continue;
+                }
+                Long sent = sentAt.remove(response.getNotificationId());
+                if (sent != null) {
+                    latencies[received++] = (now - sent) / 1_000;
+                    lastReceivedAt = now;
+                }
+            }
+        }
+        assertThat(received).as("응답 수신 (%s)", scenario).isEqualTo(messages);
+
+        Arrays.sort(latencies);
+        double elapsedSeconds = (lastReceivedAt - startedAt) / 1_000_000_000.0;
+        return new Result(scenario, messages / elapsedSeconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 0.99),
+                latencies[latencies.length - 1]);
+    }
+
+    // 리스너를 멈추고 동시성 / 폴링 배치 크기를 바꾼 뒤 파티션 할당까지 대기
+    private void reconfigureListener(Scenario scenario) throws Exception {
+        ConcurrentMessageListenerContainer<?, ?> container = (ConcurrentMessageListenerContainer<?, ?>)
+                listenerRegistry.getListenerContainer(UserRequestBackpressureMonitor.LISTENER_ID);
+        assertThat(container).isNotNull();
+        container.stop();
+        container.setConcurrency(scenario.concurrency());
+        container.getContainerProperties().getKafkaConsumerProperties()
+                .setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(scenario.maxPollRecords()));
+        container.start();
+        ContainerTestUtils.waitForAssignment(container, PARTITIONS);
+    }
+
+    // 이전 시나리오의 응답을 건너뜀
+    private void skipToEnd() {
+        responseConsumer.seekToEnd(responsePartitions);
+        for (TopicPartition partition : responsePartitions) {
+            responseConsumer.position(partition);
+        }
+    }
+
+    private void seedUsers() {
+        String[] scopes = {"A", "B", "C", "D", "E", "A,B", "C,D", "A,C,E"};
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(USERS);
+        for (int i = 1; i <= USERS; i++) {
+            rows.add(new Object[]{
+                    String.format("B%06d", i), "$2a$10$seed", "User " + i, "bench" + i + "@deefacto.com",
+                    "MALE", "QA", "STAFF", "USER", scopes[i % scopes.length], SHIFTS[i % SHIFTS.length],
+                    i % 10 != 0, "B000000", now, now, 0L});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user (employee_id, password, name, email, gender, department, position, "
+                + "role, scope, shift, is_active, created_pr, created_at, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
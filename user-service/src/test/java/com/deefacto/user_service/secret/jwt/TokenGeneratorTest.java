@@ -0,0 +1,127 @@
+package com.deefacto.user_service.secret.jwt;
+
+import com.deefacto.user_service.common.exception.CustomException;
+import com.deefacto.user_service.common.exception.ErrorCode;
+import com.deefacto.user_service.config.RedisResilienceConfig;
+import com.deefacto.user_service.domain.Entitiy.User;
+import com.deefacto.user_service.domain.repository.UserRepository;
+import com.deefacto.user_service.secret.jwt.dto.TokenDto;
+import com.deefacto.user_service.service.TokenEpochService;
+import com.deefacto.user_service.service.UserCacheService;
+import com.deefacto.user_service.service.UserSessionService;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 토큰 발급기 테스트 (Redis 장애 중 발급 정책)
+ *
+ * TokenEpochService는 mock으로 대신하고 다음을 확인합니다.
+ * - epoch를 알면 epoch 클레임을 넣은 일반 토큰 발급
+ * - epoch를 알 수 없으면 ALLOW는 짧은 수명의 미확인 토큰 발급, DENY는 SERVICE_UNAVAILABLE
+ * - 미확인 토큰은 epoch를 알 수 없는 동안만 유효하고 재발급에 쓸 수 없음
+ */
+class TokenGeneratorTest {
+
+    private static final String EMPLOYEE_ID = "E00001";
+
+    private final JwtConfig jwtConfig = new JwtConfig();
+    private final RedisResilienceConfig resilienceConfig = new RedisResilienceConfig();
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TokenEpochService tokenEpochService = mock(TokenEpochService.class);
+    private final UserSessionService userSessionService = mock(UserSessionService.class);
+
+    private TokenGenerator tokenGenerator;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtConfig.setSecretKey(Base64.getEncoder().encodeToString(new byte[32]));
+        jwtConfig.setAccessTokenExpiresIn(1800);
+        jwtConfig.setExpriresIn(86400);
+        resilienceConfig.setDegradedTokenTtlSeconds(300);
+        tokenGenerator = new TokenGenerator(jwtConfig, userRepository, mock(UserCacheService.class),
+                tokenEpochService, userSessionService, resilienceConfig);
+
+        user = new User();
+        user.setId(1L);
+        user.setEmployeeId(EMPLOYEE_ID);
+    }
+
+    @Test
+    void knownEpochIssuesRegularToken() {
+        when(tokenEpochService.findAvailableEpoch(EMPLOYEE_ID)).thenReturn(3L);
+        when(tokenEpochService.isCurrent(EMPLOYEE_ID, 3L)).thenReturn(true);
+
+        TokenDto.AccessRefreshToken token = tokenGenerator.generateAccessRefreshToken(user, "sid");
+
+        Claims claims = tokenGenerator.parseClaims(token.getAccess().getToken());
+        assertThat(TokenGenerator.epochOf(claims)).isEqualTo(3L);
+        assertThat(TokenGenerator.isEpochUnverified(claims)).isFalse();
+        assertThat(token.getAccess().getExpiresIn()).isEqualTo(1800);
+        assertThat(token.getRefresh().getExpiresIn()).isEqualTo(86400);
+        assertThat(tokenGenerator.validateToken(token.getAccess().getToken())).isTrue();
+    }
+
+    @Test
+    void unknownEpochUnderAllowIssuesShortLivedUnverifiedToken() {
+        resilienceConfig.setLoginPolicy(RedisResilienceConfig.LoginPolicy.ALLOW);
+        when(tokenEpochService.findAvailableEpoch(EMPLOYEE_ID)).thenReturn(null);
+
+        TokenDto.AccessRefreshToken token = tokenGenerator.generateAccessRefreshToken(user, "sid");
+
+        Claims claims = tokenGenerator.parseClaims(token.getAccess().getToken());
+        assertThat(TokenGenerator.isEpochUnverified(claims)).isTrue();
+        assertThat(claims.get(TokenGenerator.EPOCH_CLAIM)).isNull();
+        assertThat(token.getAccess().getExpiresIn()).isEqualTo(300);
+        assertThat(token.getRefresh().getExpiresIn()).isEqualTo(300);
+
+        // 장애 중에는 유효
+        assertThat(tokenGenerator.validateToken(token.getAccess().getToken())).isTrue();
+
+        // epoch를 다시 확인할 수 있게 되면 무효 (장애 중 일괄 무효화를 반영할 수 없으므로)
+        when(tokenEpochService.findAvailableEpoch(EMPLOYEE_ID)).thenReturn(0L);
+        assertThat(tokenGenerator.validateToken(token.getAccess().getToken())).isFalse();
+    }
+
+    @Test
+    void unknownEpochUnderDenyIsUnavailable() {
+        resilienceConfig.setLoginPolicy(RedisResilienceConfig.LoginPolicy.DENY);
+        when(tokenEpochService.findAvailableEpoch(EMPLOYEE_ID)).thenReturn(null);
+
+        assertThatThrownBy(() -> tokenGenerator.generateAccessRefreshToken(user, "sid"))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SERVICE_UNAVAILABLE));
+    }
+
+    @Test
+    void unverifiedRefreshTokenCannotRefresh() {
+        resilienceConfig.setLoginPolicy(RedisResilienceConfig.LoginPolicy.ALLOW);
+        when(tokenEpochService.findAvailableEpoch(EMPLOYEE_ID)).thenReturn(null);
+        String refreshToken = tokenGenerator.generateAccessRefreshToken(user, "sid").getRefresh().getToken();
+
+        // 장애 중: 재발급 불가 (SERVICE_UNAVAILABLE)
+        assertThatThrownBy(() -> tokenGenerator.refreshAccessToken(refreshToken))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SERVICE_UNAVAILABLE));
+
+        // 복구 후: 무효 토큰
+        when(tokenEpochService.findAvailableEpoch(EMPLOYEE_ID)).thenReturn(0L);
+        assertThatThrownBy(() -> tokenGenerator.refreshAccessToken(refreshToken))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN));
+
+        verify(userSessionService, never()).refreshSession(anyString(), anyString(), any());
+    }
+}
@@ -0,0 +1,131 @@
+package com.deefacto.user_service.service;
+
+import com.deefacto.user_service.common.bulkhead.Bulkheads;
+import com.deefacto.user_service.config.AuditConfig;
+import com.deefacto.user_service.config.BulkheadConfig;
+import com.deefacto.user_service.domain.Entitiy.AuditEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 감사 이벤트 기록 서비스 테스트
+ *
+ * JdbcTemplate은 mock으로 대신하고 다음을 확인합니다.
+ * - DB 연결 장애 시 한 건씩 재시도하지 않고 이벤트를 보관한 채 중단, 복구 후 보관한 이벤트부터 저장
+ * - 장애 후 대기 시간 동안은 저장을 시도하지 않음
+ * - 특정 이벤트 때문에 배치가 실패하면 한 건씩 저장하여 그 이벤트만 버림
+ */
+class AuditServiceTest {
+
+    private final AuditConfig config = new AuditConfig();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        config.setBatchSize(2);
+        config.setFailureBackoffMs(0);
+    }
+
+    @Test
+    void connectionFailureKeepsEventsWithoutRowByRowRetry() {
+        AuditService auditService = newService();
+        stubBatchUpdate(new CannotGetJdbcConnectionException("connection is not available"));
+        recordLogins(auditService, 3);
+
+        auditService.flush();
+
+        // 첫 배치에서 멈추고 한 건씩 재시도하지 않음
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        verify(jdbcTemplate, never()).update(anyString(), any(PreparedStatementSetter.class));
+        assertThat(counter("audit.events.failed")).isZero();
+
+        stubBatchUpdate(null);
+        auditService.flush();
+
+        // 보관한 배치(2건) → 버퍼에 남은 1건 순서로 모두 저장
+        assertThat(batchSizes).containsExactly(2, 2, 1);
+        assertThat(counter("audit.events.written")).isEqualTo(3);
+    }
+
+    @Test
+    void connectionFailureBacksOffBeforeNextAttempt() {
+        config.setFailureBackoffMs(60_000);
+        AuditService auditService = newService();
+        stubBatchUpdate(new CannotGetJdbcConnectionException("connection is not available"));
+        recordLogins(auditService, 1);
+
+        auditService.flush();
+        auditService.flush();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void invalidEventIsDroppedAlone() {
+        AuditService auditService = newService();
+        stubBatchUpdate(new DataIntegrityViolationException("value too long"));
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("value too long"));
+        recordLogins(auditService, 2);
+
+        auditService.flush();
+
+        assertThat(counter("audit.events.written")).isEqualTo(1);
+        assertThat(counter("audit.events.failed")).isEqualTo(1);
+    }
+
+    private AuditService newService() {
+        Bulkheads bulkheads = new Bulkheads(new BulkheadConfig(), meterRegistry, new MockEnvironment());
+        return new AuditService(jdbcTemplate, config, bulkheads, meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubBatchUpdate(RuntimeException failure) {
+        // 다시 stub할 때 이전 응답(예외)이 실행되지 않도록 doAnswer 사용
+        doAnswer(invocation -> {
+            // 호출 후 배치 리스트가 재사용되므로 호출 시점의 크기를 기록
+            batchSizes.add(((Collection<?>) invocation.getArgument(1)).size());
+            if (failure != null) {
+                throw failure;
+            }
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    private static void recordLogins(AuditService auditService, int count) {
+        for (int i = 0; i < count; i++) {
+            auditService.record(AuditEvent.loginSuccess("E" + i, "10.0.0.1"));
+        }
+    }
+
+    private double counter(String name) {
+        return meterRegistry.counter(name).count();
+    }
+}
@@ -0,0 +1,312 @@
+package com.deefacto.user_service.service;
+
+import com.deefacto.user_service.common.cache.UserCacheCodec;
+import com.deefacto.user_service.common.redis.RedisCircuitBreaker;
+import com.deefacto.user_service.config.RedisResilienceConfig;
+import com.deefacto.user_service.config.UserCacheConfig;
+import com.deefacto.user_service.domain.Entitiy.User;
+import com.deefacto.user_service.domain.dto.UserCacheDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 유저 캐시 서비스 테스트
+ *
+ * Redis 템플릿은 mock으로 대신하고 다음을 확인합니다.
+ * - 같은 키의 동시 조회는 DB 조회 1회로 합쳐지고, 기다리는 시간이 길어지면 직접 조회
+ * - 저장 TTL에 편차가 적용됨
+ * - 만료가 가까운 항목만 조기 갱신
+ * - 읽을 수 없는 캐시 값은 미스로 처리하고 DB에서 다시 조회
+ * - Redis 장애로 삭제하지 못한 키는 삭제될 때까지 미스로 처리하고 복구 후 삭제
+ */
+class UserCacheServiceTest {
+
+    private static final long TTL_MINUTES = 20;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UserCacheConfig config = new UserCacheConfig();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, byte[]> userCacheRedisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, byte[]> cacheWrites = mock(ValueOperations.class);
+
+    // GET + PTTL 파이프라인 결과 (값, 남은 TTL ms)
+    private volatile List<Object> cacheRead = Arrays.asList(null, -2L);
+
+    private UserCacheService userCacheService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ValueOperations<String, String> lockOps = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(lockOps);
+        when(lockOps.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+
+        RedisOperations<String, byte[]> pipeline = mock(RedisOperations.class);
+        when(pipeline.opsForValue()).thenReturn(cacheWrites);
+        when(userCacheRedisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            invocation.getArgument(0, SessionCallback.class).execute(pipeline);
+            return cacheRead;
+        });
+
+        userCacheService = new UserCacheService(redisTemplate, userCacheRedisTemplate, objectMapper, config,
+                meterRegistry, new RedisCircuitBreaker(new RedisResilienceConfig(), meterRegistry));
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<User> loader = () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return user(1L, "E00001");
+        };
+
+        CompletableFuture<UserCacheDto> first = CompletableFuture.supplyAsync(
+                () -> userCacheService.getOrLoad("E00001", TTL_MINUTES, loader));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<UserCacheDto> second = CompletableFuture.supplyAsync(
+                () -> userCacheService.getOrLoad("E00001", TTL_MINUTES, loader));
+        waitForCounter("user.cache.coalesced.loads", 1);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getEmployeeId()).isEqualTo("E00001");
+        assertThat(second.get(5, TimeUnit.SECONDS).getEmployeeId()).isEqualTo("E00001");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void waiterLoadsItselfWhenInFlightLoadIsSlow() throws Exception {
+        config.setInFlightWaitMs(50);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<User> loader = () -> {
+            if (loads.incrementAndGet() == 1) {
+                loading.countDown();
+                await(release);
+            }
+            return user(1L, "E00001");
+        };
+
+        CompletableFuture<UserCacheDto> first = CompletableFuture.supplyAsync(
+                () -> userCacheService.getOrLoad("E00001", TTL_MINUTES, loader));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        UserCacheDto second = userCacheService.getOrLoad("E00001", TTL_MINUTES, loader);
+
+        assertThat(second.getEmployeeId()).isEqualTo("E00001");
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.counter("user.cache.coalesced.timeouts").count()).isEqualTo(1);
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void spreadsTtlWithinJitterRatio() {
+        config.setTtlJitterRatio(0.1);
+        List<User> users = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            users.add(user(id, "E" + id));
+        }
+
+        userCacheService.saveUsers(users, TTL_MINUTES);
+
+        List<Long> ttls = capturedTtls(200);
+        long base = TimeUnit.MINUTES.toMillis(TTL_MINUTES);
+        assertThat(ttls).allSatisfy(ttl -> assertThat(ttl).isBetween((long) (base * 0.9), (long) (base * 1.1)));
+        assertThat(new HashSet<>(ttls)).hasSizeGreaterThan(1);
+        // 같은 사용자의 사번 키 / ID 키는 같은 TTL
+        for (int i = 0; i < ttls.size(); i += 2) {
+            assertThat(ttls.get(i)).isEqualTo(ttls.get(i + 1));
+        }
+    }
+
+    @Test
+    void keepsExactTtlWithoutJitter() {
+        config.setTtlJitterRatio(0);
+
+        userCacheService.saveUsers(List.of(user(1L, "E00001"), user(2L, "E00002")), TTL_MINUTES);
+
+        assertThat(capturedTtls(4)).containsOnly(TimeUnit.MINUTES.toMillis(TTL_MINUTES));
+    }
+
+    @Test
+    void refreshesEarlyOnlyNearExpiry() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<User> slowLoader = () -> {
+            loads.incrementAndGet();
+            sleep(20);
+            return user(1L, "E00001");
+        };
+        // 미스 1회로 조회 시간 추정치(약 20ms)를 만듦
+        userCacheService.getOrLoad("E00001", TTL_MINUTES, slowLoader);
+        assertThat(loads).hasValue(1);
+        byte[] cached = objectMapper.writeValueAsBytes(UserCacheDto.from(user(1L, "E00001")));
+
+        // 만료까지 1시간: 조기 갱신하지 않음
+        cacheRead = Arrays.asList(cached, TimeUnit.HOURS.toMillis(1));
+        for (int i = 0; i < 20; i++) {
+            userCacheService.getOrLoad("E00001", TTL_MINUTES, slowLoader);
+        }
+        assertThat(loads).hasValue(1);
+
+        // 만료까지 1ms: 조기 갱신
+        config.setEarlyRefreshBeta(1_000);
+        cacheRead = Arrays.asList(cached, 1L);
+        userCacheService.getOrLoad("E00001", TTL_MINUTES, slowLoader);
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.counter("user.cache.early.refresh").count()).isEqualTo(1);
+    }
+
+    @Test
+    void neverRefreshesEarlyWhenBetaIsZero() throws Exception {
+        config.setEarlyRefreshBeta(0);
+        AtomicInteger loads = new AtomicInteger();
+        cacheRead = Arrays.asList(objectMapper.writeValueAsBytes(UserCacheDto.from(user(1L, "E00001"))), 1L);
+
+        userCacheService.getOrLoad("E00001", TTL_MINUTES, () -> {
+            loads.incrementAndGet();
+            return user(1L, "E00001");
+        });
+
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void reloadsWhenCachedBinaryValueIsCorrupt() {
+        byte[] corrupt = UserCacheCodec.encode(UserCacheDto.from(user(1L, "E00001")));
+        corrupt[1] = 99;
+        cacheRead = Arrays.asList(corrupt, TimeUnit.HOURS.toMillis(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        UserCacheDto loaded = userCacheService.getOrLoad("E00001", TTL_MINUTES, () -> {
+            loads.incrementAndGet();
+            return user(1L, "E00001");
+        });
+
+        assertThat(loaded.getEmployeeId()).isEqualTo("E00001");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void treatsPendingEvictionAsMissUntilRedisRecovers() throws Exception {
+        byte[] stale = objectMapper.writeValueAsBytes(UserCacheDto.from(user(1L, "E00001")));
+        when(userCacheRedisTemplate.opsForValue()).thenReturn(cacheWrites);
+        when(cacheWrites.get(anyString())).thenReturn(stale);
+        when(cacheWrites.multiGet(anyCollection())).thenReturn(List.of(stale));
+        when(userCacheRedisTemplate.delete(anyCollection()))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(2L);
+
+        userCacheService.evictUser(user(1L, "E00001"));
+
+        // 삭제 실패: 남아 있는 이전 값을 읽지 않음
+        assertThat(userCacheService.findUser("E00001")).isNull();
+        assertThat(userCacheService.findUsers(List.of(UserCacheService.userIdKey(1L)))).isEmpty();
+
+        // 복구 후 재시도로 삭제되면 다시 Redis에서 읽음
+        userCacheService.retryPendingEvictions();
+        verify(userCacheRedisTemplate, times(2)).delete(anyCollection());
+        assertThat(userCacheService.findUser("E00001")).isNotNull();
+
+        // 더 이상 삭제할 키가 없으면 재시도하지 않음
+        userCacheService.retryPendingEvictions();
+        verify(userCacheRedisTemplate, times(2)).delete(anyCollection());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void marksKeysPendingWhenCacheWriteFails() {
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(userCacheRedisTemplate).executePipelined(any(SessionCallback.class));
+
+        userCacheService.saveOrUpdateUser(user(1L, "E00001"), TTL_MINUTES);
+
+        assertThat(userCacheService.findUser("E00001")).isNull();
+        assertThat(userCacheService.findUsers(List.of(UserCacheService.userIdKey(1L)))).isEmpty();
+        verify(userCacheRedisTemplate, never()).opsForValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> capturedTtls(int expectedWrites) {
+        ArgumentCaptor<Long> ttls = ArgumentCaptor.forClass(Long.class);
+        verify(cacheWrites, atLeastOnce()).set(anyString(), any(byte[].class), ttls.capture(), eq(TimeUnit.MILLISECONDS));
+        assertThat(ttls.getAllValues()).hasSize(expectedWrites);
+        return ttls.getAllValues();
+    }
+
+    private void waitForCounter(String name, double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.counter(name).count() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(meterRegistry.counter(name).count()).isEqualTo(expected);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static User user(Long id, String employeeId) {
+        User user = new User();
+        user.setId(id);
+        user.setEmployeeId(employeeId);
+        user.setName("사용자" + id);
+        user.setRole("USER");
+        user.setScope("A");
+        user.setShift("DAY");
+        return user;
+    }
+}